@@ -0,0 +1,23 @@
+package com.datapublic.mcp.storage.cache;
+
+/**
+ * 2단 캐시 통계
+ *
+ * @param name 캐시 이름
+ * @param l1Hits 1차(로컬) 캐시 적중 수
+ * @param l1Misses 1차(로컬) 캐시 미스 수
+ * @param l1Evictions 1차 캐시 크기/만료로 인한 제거 수
+ * @param l1Size 1차 캐시 현재 항목 수 (추정치)
+ * @param l2Hits 2차(Redis) 캐시 적중 수
+ * @param l2Misses 2차(Redis) 캐시 미스 수
+ * @param l2Errors 2차 캐시 조회/저장 실패 수
+ */
+public record CacheStatistics(String name,
+                              long l1Hits,
+                              long l1Misses,
+                              long l1Evictions,
+                              long l1Size,
+                              long l2Hits,
+                              long l2Misses,
+                              long l2Errors) {
+}
@@ -0,0 +1,70 @@
+package com.datapublic.mcp.storage.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 계약년월 확정 여부 판단
+ * 실거래 신고기한(계약일로부터 30일) 동안은 이전 달 자료도 추가/정정되므로
+ * 최근 openMonths 개월(기본: 이번 달, 지난 달)은 열린 달로 보고 짧은 TTL을 적용
+ */
+@Component
+public class DealMonthPolicy {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final int openMonths;
+    private final Duration finalizedTtl;
+    private final Duration openTtl;
+    private final Clock clock;
+
+    @Autowired
+    public DealMonthPolicy(@Value("${storage.deal-month.open-months:2}") int openMonths,
+                           @Value("${storage.cache.ttl.finalized:30d}") Duration finalizedTtl,
+                           @Value("${storage.cache.ttl.open:10m}") Duration openTtl) {
+        this(openMonths, finalizedTtl, openTtl, Clock.system(ZONE));
+    }
+
+    public DealMonthPolicy(int openMonths, Duration finalizedTtl, Duration openTtl, Clock clock) {
+        this.openMonths = Math.max(openMonths, 1);
+        this.finalizedTtl = finalizedTtl;
+        this.openTtl = openTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 더 이상 변경되지 않는 확정된 계약년월인지 확인
+     * 형식이 잘못된 값은 열린 달로 취급
+     */
+    public boolean isFinalized(String dealYmd) {
+        try {
+            YearMonth dealMonth = YearMonth.parse(dealYmd, DEAL_YMD_FORMAT);
+            return dealMonth.isBefore(firstOpenMonth());
+        } catch (DateTimeParseException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 계약년월에 맞는 캐시 TTL
+     */
+    public Duration cacheTtl(String dealYmd) {
+        return isFinalized(dealYmd) ? finalizedTtl : openTtl;
+    }
+
+    /**
+     * 아직 열려 있는 가장 오래된 계약년월
+     */
+    public YearMonth firstOpenMonth() {
+        return YearMonth.now(clock).minusMonths(openMonths - 1L);
+    }
+}
@@ -0,0 +1,27 @@
+package com.datapublic.mcp.storage.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 2차(원격) 캐시 저장소
+ * 운영에서는 Redis, 테스트에서는 메모리 구현으로 대체
+ */
+public interface L2CacheStore {
+
+    /**
+     * 값 조회 (없으면 empty)
+     */
+    Mono<String> get(String key);
+
+    /**
+     * TTL과 함께 값 저장
+     */
+    Mono<Void> set(String key, String value, Duration ttl);
+
+    /**
+     * 값 삭제
+     */
+    Mono<Void> delete(String key);
+}
@@ -0,0 +1,35 @@
+package com.datapublic.mcp.storage.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 2차 캐시 저장소 (Lettuce 리액티브 클라이언트)
+ */
+@Component
+@ConditionalOnProperty(name = "storage.cache.l2.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisL2CacheStore implements L2CacheStore {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    @Override
+    public Mono<String> get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public Mono<Void> set(String key, String value, Duration ttl) {
+        return redisTemplate.opsForValue().set(key, value, ttl).then();
+    }
+
+    @Override
+    public Mono<Void> delete(String key) {
+        return redisTemplate.delete(key).then();
+    }
+}
@@ -0,0 +1,20 @@
+package com.datapublic.mcp.storage.cache;
+
+/**
+ * 아파트 전월세 실거래가 페이지 캐시 키
+ * 공공데이터 포털 요청 파라미터 (LAWD_CD, DEAL_YMD, pageNo, numOfRows) 기준
+ *
+ * @param lawdCd 지역코드 (5자리)
+ * @param dealYmd 계약년월 (6자리)
+ * @param pageNo 페이지 번호
+ * @param numOfRows 한 페이지 결과 수
+ */
+public record RentCacheKey(String lawdCd, String dealYmd, Integer pageNo, Integer numOfRows) {
+
+    /**
+     * Redis 키 문자열 생성
+     */
+    public String toRedisKey(String cacheName) {
+        return cacheName + ":" + lawdCd + ":" + dealYmd + ":" + pageNo + ":" + numOfRows;
+    }
+}
@@ -0,0 +1,195 @@
+package com.datapublic.mcp.storage.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 2단 캐시 (1차: 프로세스 내 Caffeine, 2차: Redis)
+ * 1차 캐시는 크기 제한이 있고, 두 단계 모두 계약년월 확정 여부에 따라 TTL이 달라짐
+ * 2차 캐시 장애는 캐시 미스로 처리하여 요청 자체는 실패시키지 않음
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final Cache<RentCacheKey, V> l1;
+    private final L2CacheStore l2;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final DealMonthPolicy dealMonthPolicy;
+    private final Duration l2Timeout;
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+
+    TwoTierCache(String name, long maximumSize, L2CacheStore l2, ObjectMapper objectMapper, JavaType valueType,
+                 DealMonthPolicy dealMonthPolicy, Duration l2Timeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l2 = l2;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.dealMonthPolicy = dealMonthPolicy;
+        this.l2Timeout = l2Timeout;
+
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DealMonthExpiry<V>(dealMonthPolicy))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name);
+
+        this.l2Hits = l2Counter(meterRegistry, "hit");
+        this.l2Misses = l2Counter(meterRegistry, "miss");
+        this.l2Errors = l2Counter(meterRegistry, "error");
+    }
+
+    /**
+     * 캐시 조회 (1차 → 2차 순서, 2차 적중 시 1차에 채움)
+     *
+     * @return 캐시 값, 없으면 empty
+     */
+    public Mono<V> get(RentCacheKey key) {
+        V cached = l1.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        if (l2 == null) {
+            return Mono.empty();
+        }
+
+        return l2.get(key.toRedisKey(name))
+                .timeout(l2Timeout)
+                .map(this::deserialize)
+                .doOnNext(value -> {
+                    l2Hits.increment();
+                    l1.put(key, value);
+                })
+                .switchIfEmpty(Mono.<V>fromRunnable(l2Misses::increment))
+                .onErrorResume(e -> {
+                    l2Errors.increment();
+                    log.warn("⚠️ 2차 캐시 조회 실패 - 캐시: {}, 키: {}, 원인: {}", name, key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader로 적재
+     * loader 오류는 캐시하지 않고 그대로 전달
+     */
+    public Mono<V> getOrLoad(RentCacheKey key, Supplier<Mono<V>> loader) {
+        return get(key)
+                .switchIfEmpty(Mono.defer(() -> loader.get()
+                        .flatMap(value -> put(key, value).thenReturn(value))));
+    }
+
+    /**
+     * 캐시 저장 (1차 + 2차)
+     */
+    public Mono<Void> put(RentCacheKey key, V value) {
+        l1.put(key, value);
+
+        if (l2 == null) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(value))
+                .flatMap(json -> l2.set(key.toRedisKey(name), json, dealMonthPolicy.cacheTtl(key.dealYmd())))
+                .timeout(l2Timeout)
+                .onErrorResume(e -> {
+                    l2Errors.increment();
+                    log.warn("⚠️ 2차 캐시 저장 실패 - 캐시: {}, 키: {}, 원인: {}", name, key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 캐시 제거 (1차 + 2차)
+     */
+    public Mono<Void> evict(RentCacheKey key) {
+        l1.invalidate(key);
+
+        if (l2 == null) {
+            return Mono.empty();
+        }
+
+        return l2.delete(key.toRedisKey(name))
+                .timeout(l2Timeout)
+                .onErrorResume(e -> {
+                    l2Errors.increment();
+                    log.warn("⚠️ 2차 캐시 제거 실패 - 캐시: {}, 키: {}, 원인: {}", name, key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public CacheStatistics getStatistics() {
+        CacheStats stats = l1.stats();
+        return new CacheStatistics(
+                name,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                l1.estimatedSize(),
+                (long) l2Hits.count(),
+                (long) l2Misses.count(),
+                (long) l2Errors.count()
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private V deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            throw new IllegalStateException("캐시 값 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private Counter l2Counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("storage.cache.l2.requests")
+                .description("2차(Redis) 캐시 요청 수")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계약년월 확정 여부에 따른 항목별 만료 시간
+     */
+    private record DealMonthExpiry<V>(DealMonthPolicy dealMonthPolicy) implements Expiry<RentCacheKey, V> {
+
+        @Override
+        public long expireAfterCreate(RentCacheKey key, V value, long currentTime) {
+            return dealMonthPolicy.cacheTtl(key.dealYmd()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(RentCacheKey key, V value, long currentTime, long currentDuration) {
+            return dealMonthPolicy.cacheTtl(key.dealYmd()).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(RentCacheKey key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.datapublic.mcp.storage.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단 캐시 생성 및 통계 관리
+ */
+@Component
+@Slf4j
+public class TwoTierCacheManager {
+
+    private final L2CacheStore l2CacheStore;
+    private final ObjectMapper objectMapper;
+    private final DealMonthPolicy dealMonthPolicy;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    @Value("${storage.cache.l1.maximum-size:1000}")
+    private long l1MaximumSize;
+
+    @Value("${storage.cache.l2.timeout:500ms}")
+    private Duration l2Timeout;
+
+    public TwoTierCacheManager(ObjectProvider<L2CacheStore> l2CacheStore, ObjectMapper objectMapper,
+                               DealMonthPolicy dealMonthPolicy, MeterRegistry meterRegistry) {
+        this.l2CacheStore = l2CacheStore.getIfAvailable();
+        // 응답 DTO의 편의 getter가 직렬화되어도 다시 읽을 수 있도록 알 수 없는 필드는 무시
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.dealMonthPolicy = dealMonthPolicy;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이름별 2단 캐시 생성
+     *
+     * @param name 캐시 이름 (Redis 키 접두사, 메트릭 태그)
+     * @param valueType 캐시 값 타입
+     */
+    public <V> TwoTierCache<V> create(String name, JavaType valueType) {
+        TwoTierCache<V> cache = new TwoTierCache<>(name, l1MaximumSize, l2CacheStore, objectMapper, valueType,
+                dealMonthPolicy, l2Timeout, meterRegistry);
+        caches.put(name, cache);
+
+        log.info("🗄️ 2단 캐시 생성 - 이름: {}, 1차 최대 크기: {}, 2차 사용: {}", name, l1MaximumSize, l2CacheStore != null);
+        return cache;
+    }
+
+    /**
+     * 전체 캐시 통계 조회
+     */
+    public List<CacheStatistics> getStatistics() {
+        return caches.values().stream()
+                .map(TwoTierCache::getStatistics)
+                .toList();
+    }
+}
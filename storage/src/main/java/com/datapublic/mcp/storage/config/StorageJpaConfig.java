@@ -0,0 +1,33 @@
+package com.datapublic.mcp.storage.config;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Storage 모듈 JPA/Flyway 설정
+ * 마이그레이션은 DB 종류별 디렉터리(db/migration/h2, db/migration/postgresql)에서 로드
+ * (storage.properties의 spring.flyway.locations, {vendor}는 Spring Boot가 DB 종류로 치환)
+ */
+@Configuration
+@EntityScan("com.datapublic.mcp.storage.entity")
+@EnableJpaRepositories("com.datapublic.mcp.storage.repository")
+@PropertySource("classpath:storage.properties")
+public class StorageJpaConfig {
+
+    private static final int JDBC_BATCH_SIZE = 100;
+
+    /**
+     * 월 단위 적재 시 INSERT를 묶어서 전송
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchInsertCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.datapublic.mcp.storage.diff;
+
+/**
+ * 행 내용 해시 (64비트 FNV-1a)
+ * 같은 자연키를 가진 행끼리 내용이 바뀌었는지 비교하는 용도로, 암호학적 해시가 아님
+ * null 문자열과 빈 문자열은 서로 다른 값으로 취급
+ */
+public final class ContentHasher {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public ContentHasher add(String value) {
+        if (value == null) {
+            return add(-1L);
+        }
+        add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            mix(c & 0xff);
+            mix(c >>> 8);
+        }
+        return this;
+    }
+
+    public ContentHasher add(long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            mix((int) (value >>> shift) & 0xff);
+        }
+        return this;
+    }
+
+    public ContentHasher add(double value) {
+        return add(Double.doubleToLongBits(value));
+    }
+
+    public long hash() {
+        return hash;
+    }
+
+    private void mix(int octet) {
+        hash ^= octet;
+        hash *= PRIME;
+    }
+}
@@ -0,0 +1,102 @@
+package com.datapublic.mcp.storage.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 같은 (지역코드, 계약년월)을 다시 받았을 때 이전 행과 새 행의 차이
+ * 자연키가 같은 행끼리 내용 해시를 비교해 추가/수정/삭제/변경 없음으로 나눔
+ * 자연키가 같은 행이 여러 개면 해시가 같은 행부터 짝짓고, 남은 행은 순서대로 수정으로 짝지음
+ *
+ * @param inserted 새로 생긴 행
+ * @param updated 내용이 바뀐 행 (이전 행, 새 행)
+ * @param deleted 사라진 행
+ * @param unchanged 내용이 같은 행 수
+ */
+public record RowDiff<T>(List<T> inserted, List<Update<T>> updated, List<T> deleted, int unchanged) {
+
+    /**
+     * 이전 행과 새 행 비교
+     *
+     * @param previous 이전 행
+     * @param current 새 행
+     * @param keyOf 행 → 자연키 (equals/hashCode 구현 필요)
+     * @param hashOf 행 → 내용 해시
+     */
+    public static <T, K> RowDiff<T> compute(List<T> previous, List<T> current,
+                                            Function<T, K> keyOf, ToLongFunction<T> hashOf) {
+        Map<K, List<Hashed<T>>> unmatched = new HashMap<>(previous.size() * 2);
+        for (T row : previous) {
+            unmatched.computeIfAbsent(keyOf.apply(row), key -> new ArrayList<>(1))
+                    .add(new Hashed<>(row, hashOf.applyAsLong(row)));
+        }
+
+        List<T> inserted = new ArrayList<>();
+        List<Update<T>> updated = new ArrayList<>();
+        List<T> changedCandidates = new ArrayList<>();
+        int unchanged = 0;
+
+        // 1차: 자연키와 내용 해시가 모두 같은 행을 먼저 짝지음
+        for (T row : current) {
+            List<Hashed<T>> candidates = unmatched.get(keyOf.apply(row));
+            if (candidates == null) {
+                inserted.add(row);
+            } else if (removeSameHash(candidates, hashOf.applyAsLong(row))) {
+                unchanged++;
+            } else {
+                changedCandidates.add(row);
+            }
+        }
+
+        // 2차: 자연키만 같은 행은 수정, 짝이 없으면 추가
+        for (T row : changedCandidates) {
+            List<Hashed<T>> candidates = unmatched.get(keyOf.apply(row));
+            if (candidates.isEmpty()) {
+                inserted.add(row);
+            } else {
+                updated.add(new Update<>(candidates.remove(0).row(), row));
+            }
+        }
+
+        List<T> deleted = new ArrayList<>();
+        for (List<Hashed<T>> candidates : unmatched.values()) {
+            for (Hashed<T> candidate : candidates) {
+                deleted.add(candidate.row());
+            }
+        }
+
+        return new RowDiff<>(inserted, updated, deleted, unchanged);
+    }
+
+    /**
+     * 바뀐 행이 하나도 없는지 여부
+     */
+    public boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+
+    private static <T> boolean removeSameHash(List<Hashed<T>> candidates, long hash) {
+        Iterator<Hashed<T>> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().hash() == hash) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 내용이 바뀐 행
+     */
+    public record Update<T>(T previous, T current) {
+    }
+
+    private record Hashed<T>(T row, long hash) {
+    }
+}
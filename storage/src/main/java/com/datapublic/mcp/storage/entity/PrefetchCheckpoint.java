@@ -0,0 +1,60 @@
+package com.datapublic.mcp.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역-계약년월 프리패치 진행 상황
+ * 재시작 후에도 마지막 수집 시각이 오래된 조합부터 이어서 수집하기 위해 보관
+ */
+@Entity
+@Table(name = "prefetch_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PrefetchCheckpoint {
+
+    @EmbeddedId
+    private RentMonthKey id;
+
+    /**
+     * 마지막 시도 시각
+     */
+    @Column(name = "last_attempt_at", nullable = false)
+    private LocalDateTime lastAttemptAt;
+
+    /**
+     * 마지막 성공 시각 (성공한 적이 없으면 null)
+     */
+    @Column(name = "last_success_at")
+    private LocalDateTime lastSuccessAt;
+
+    /**
+     * 마지막 성공 시 거래 건수
+     */
+    @Column(name = "row_count")
+    private Integer rowCount;
+
+    /**
+     * 확정된 계약년월을 수집했는지 여부 (true이면 다시 수집하지 않음)
+     */
+    @Column(name = "finalized", nullable = false)
+    private boolean finalized;
+
+    /**
+     * 마지막 실패 오류 코드 (마지막 시도가 성공이면 null)
+     */
+    @Column(name = "last_error_code", length = 40)
+    private String lastErrorCode;
+
+    public PrefetchCheckpoint(RentMonthKey id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,29 @@
+package com.datapublic.mcp.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 지역-계약년월 식별자
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentMonthKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "lawd_cd", length = 5)
+    private String lawdCd;
+
+    @Column(name = "deal_ym")
+    private Integer dealYm;
+}
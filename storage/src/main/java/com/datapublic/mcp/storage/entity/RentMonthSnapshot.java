@@ -0,0 +1,46 @@
+package com.datapublic.mcp.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역-계약년월 적재 이력
+ * 행이 있으면 해당 월 전체가 rent_transaction에 적재된 상태 (finalized가 아니면 열린 달일 때 적재한 내용)
+ */
+@Entity
+@Table(name = "rent_month_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentMonthSnapshot {
+
+    @EmbeddedId
+    private RentMonthKey id;
+
+    /**
+     * 적재된 거래 건수 (공공데이터 포털 totalCount)
+     */
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    /**
+     * 확정된 계약년월로 적재했는지 여부
+     */
+    @Column(name = "finalized", nullable = false)
+    private boolean finalized;
+
+    /**
+     * 적재 시각
+     */
+    @Column(name = "loaded_at", nullable = false)
+    private LocalDateTime loadedAt;
+}
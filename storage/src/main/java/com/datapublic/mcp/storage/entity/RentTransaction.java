@@ -0,0 +1,130 @@
+package com.datapublic.mcp.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 아파트 전월세 실거래 엔티티
+ * 금액/면적/층/연도는 숫자 컬럼으로 저장 (금액 단위: 만원)
+ * PostgreSQL에서는 deal_ym 기준 월별 파티션 테이블
+ */
+@Entity
+@Table(name = "rent_transaction")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RentTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rent_transaction_seq")
+    @SequenceGenerator(name = "rent_transaction_seq", sequenceName = "rent_transaction_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 시군구 코드 (LAWD_CD)
+     */
+    @Column(name = "lawd_cd", nullable = false, length = 5)
+    private String lawdCd;
+
+    /**
+     * 계약년월 (yyyyMM)
+     */
+    @Column(name = "deal_ym", nullable = false)
+    private Integer dealYm;
+
+    /**
+     * 계약일
+     */
+    @Column(name = "deal_day")
+    private Integer dealDay;
+
+    /**
+     * 법정동명
+     */
+    @Column(name = "umd_nm", length = 60)
+    private String umdNm;
+
+    /**
+     * 지번
+     */
+    @Column(name = "jibun", length = 40)
+    private String jibun;
+
+    /**
+     * 아파트명
+     */
+    @Column(name = "apt_nm", length = 120)
+    private String aptNm;
+
+    /**
+     * 층
+     */
+    @Column(name = "floor_no")
+    private Integer floor;
+
+    /**
+     * 전용면적 (㎡)
+     */
+    @Column(name = "exclusive_area")
+    private Double exclusiveArea;
+
+    /**
+     * 건축년도
+     */
+    @Column(name = "build_year")
+    private Integer buildYear;
+
+    /**
+     * 보증금 (만원)
+     */
+    @Column(name = "deposit", nullable = false)
+    private Long deposit;
+
+    /**
+     * 월세 (만원)
+     */
+    @Column(name = "monthly_rent", nullable = false)
+    private Long monthlyRent;
+
+    /**
+     * 종전 보증금 (만원)
+     */
+    @Column(name = "pre_deposit")
+    private Long preDeposit;
+
+    /**
+     * 종전 월세 (만원)
+     */
+    @Column(name = "pre_monthly_rent")
+    private Long preMonthlyRent;
+
+    /**
+     * 계약구분 (신규/갱신)
+     */
+    @Column(name = "contract_type", length = 10)
+    private String contractType;
+
+    /**
+     * 계약기간
+     */
+    @Column(name = "contract_term", length = 40)
+    private String contractTerm;
+
+    /**
+     * 갱신요구권 사용 여부
+     */
+    @Column(name = "use_rr_right", length = 10)
+    private String useRRRight;
+}
@@ -0,0 +1,11 @@
+package com.datapublic.mcp.storage.repository;
+
+import com.datapublic.mcp.storage.entity.PrefetchCheckpoint;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 프리패치 진행 상황 Repository
+ */
+public interface PrefetchCheckpointRepository extends JpaRepository<PrefetchCheckpoint, RentMonthKey> {
+}
@@ -0,0 +1,24 @@
+package com.datapublic.mcp.storage.repository;
+
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import com.datapublic.mcp.storage.entity.RentMonthSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 지역-계약년월 적재 이력 Repository
+ */
+public interface RentMonthSnapshotRepository extends JpaRepository<RentMonthSnapshot, RentMonthKey> {
+
+    /**
+     * 적재 이력 조회 (트랜잭션이 끝날 때까지 행 잠금, SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from RentMonthSnapshot s where s.id = :id")
+    Optional<RentMonthSnapshot> findForUpdate(@Param("id") RentMonthKey id);
+}
@@ -0,0 +1,69 @@
+package com.datapublic.mcp.storage.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * rent_transaction 월별 파티션 관리
+ * PostgreSQL에서만 계약년월 파티션을 만들고, H2는 단일 테이블이므로 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RentTransactionPartitionManager {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<Integer> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    private volatile Boolean partitioned;
+
+    /**
+     * 계약년월 파티션이 없으면 생성
+     * 부모 테이블 잠금을 적재 트랜잭션과 분리하기 위해 별도 트랜잭션에서 실행
+     *
+     * @param dealYm 계약년월 (yyyyMM)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensurePartition(int dealYm) {
+        if (!isPartitioned() || knownPartitions.contains(dealYm)) {
+            return;
+        }
+
+        int year = dealYm / 100;
+        int month = dealYm % 100;
+        int nextDealYm = month == 12 ? (year + 1) * 100 + 1 : dealYm + 1;
+
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS rent_transaction_%d PARTITION OF rent_transaction FOR VALUES FROM (%d) TO (%d)",
+                dealYm, dealYm, nextDealYm));
+        knownPartitions.add(dealYm);
+
+        log.info("🗂️ rent_transaction 파티션 확인 - 계약년월: {}", dealYm);
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = DatabaseDriver.fromJdbcUrl(jdbcUrl()) == DatabaseDriver.POSTGRESQL;
+        }
+        return partitioned;
+    }
+
+    private String jdbcUrl() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getURL);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("데이터베이스 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.datapublic.mcp.storage.repository;
+
+import com.datapublic.mcp.storage.entity.RentTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 아파트 전월세 실거래 Repository
+ */
+public interface RentTransactionRepository extends JpaRepository<RentTransaction, Long> {
+
+    /**
+     * 지역-계약년월 거래를 적재 순서대로 조회
+     */
+    List<RentTransaction> findByLawdCdAndDealYmOrderByIdAsc(String lawdCd, Integer dealYm, Pageable pageable);
+
+    /**
+     * 지역-계약년월 거래 전체를 적재 순서대로 조회 (월 비교용)
+     */
+    List<RentTransaction> findByLawdCdAndDealYmOrderByIdAsc(String lawdCd, Integer dealYm);
+}
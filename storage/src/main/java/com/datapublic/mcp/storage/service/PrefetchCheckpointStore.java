@@ -0,0 +1,57 @@
+package com.datapublic.mcp.storage.service;
+
+import com.datapublic.mcp.storage.entity.PrefetchCheckpoint;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import com.datapublic.mcp.storage.repository.PrefetchCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 프리패치 진행 상황 저장소
+ */
+@Service
+@RequiredArgsConstructor
+public class PrefetchCheckpointStore {
+
+    private final PrefetchCheckpointRepository checkpointRepository;
+
+    /**
+     * 지역-계약년월 목록의 진행 상황 (기록이 없는 조합은 빠짐)
+     */
+    @Transactional(readOnly = true)
+    public List<PrefetchCheckpoint> findAll(Collection<RentMonthKey> keys) {
+        return checkpointRepository.findAllById(keys);
+    }
+
+    /**
+     * 수집 성공 기록
+     *
+     * @param finalized 확정된 계약년월을 수집했는지 여부
+     */
+    @Transactional
+    public void recordSuccess(RentMonthKey key, int rowCount, boolean finalized, LocalDateTime at) {
+        PrefetchCheckpoint checkpoint = checkpointRepository.findById(key).orElseGet(() -> new PrefetchCheckpoint(key));
+        checkpoint.setLastAttemptAt(at);
+        checkpoint.setLastSuccessAt(at);
+        checkpoint.setRowCount(rowCount);
+        checkpoint.setFinalized(finalized);
+        checkpoint.setLastErrorCode(null);
+        checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * 수집 실패 기록 (마지막 성공 정보는 유지)
+     */
+    @Transactional
+    public void recordFailure(RentMonthKey key, String errorCode, LocalDateTime at) {
+        PrefetchCheckpoint checkpoint = checkpointRepository.findById(key).orElseGet(() -> new PrefetchCheckpoint(key));
+        checkpoint.setLastAttemptAt(at);
+        checkpoint.setLastErrorCode(errorCode);
+        checkpointRepository.save(checkpoint);
+    }
+}
@@ -0,0 +1,19 @@
+package com.datapublic.mcp.storage.service;
+
+/**
+ * 지역-계약년월을 다시 적재했을 때 바뀐 거래 건수
+ *
+ * @param inserted 추가된 거래 수
+ * @param updated 내용이 바뀐 거래 수
+ * @param deleted 삭제된 거래 수
+ * @param unchanged 그대로인 거래 수
+ */
+public record RentMonthChange(int inserted, int updated, int deleted, int unchanged) {
+
+    /**
+     * 바뀐 거래가 있는지 여부
+     */
+    public boolean changed() {
+        return inserted + updated + deleted > 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.datapublic.mcp.storage.service;
+
+import com.datapublic.mcp.storage.entity.RentTransaction;
+
+import java.util.List;
+
+/**
+ * 저장소에서 조회한 지역-계약년월 페이지
+ *
+ * @param rows 페이지 거래 목록
+ * @param totalCount 해당 월 전체 거래 건수
+ */
+public record RentMonthPage(List<RentTransaction> rows, int totalCount) {
+}
@@ -0,0 +1,150 @@
+package com.datapublic.mcp.storage.service;
+
+import com.datapublic.mcp.storage.diff.ContentHasher;
+import com.datapublic.mcp.storage.diff.RowDiff;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import com.datapublic.mcp.storage.entity.RentMonthSnapshot;
+import com.datapublic.mcp.storage.entity.RentTransaction;
+import com.datapublic.mcp.storage.repository.RentMonthSnapshotRepository;
+import com.datapublic.mcp.storage.repository.RentTransactionPartitionManager;
+import com.datapublic.mcp.storage.repository.RentTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아파트 전월세 실거래 저장소
+ * 계약년월을 월 단위로 병합하고, 확정된 계약년월로 병합된 월만 페이지 단위로 조회
+ * 열린 달은 다시 수집할 때마다 병합해 두므로, 확정된 뒤에는 그 사이 추가/정정된 거래만 기록됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentTransactionStore {
+
+    private final RentTransactionRepository transactionRepository;
+    private final RentMonthSnapshotRepository snapshotRepository;
+    private final RentTransactionPartitionManager partitionManager;
+
+    /**
+     * 적재된 월의 페이지 조회
+     *
+     * @param lawdCd 지역코드
+     * @param dealYm 계약년월 (yyyyMM)
+     * @param pageNo 페이지 번호 (1부터)
+     * @param numOfRows 한 페이지 결과 수
+     * @return 확정된 계약년월로 적재되지 않은 월이면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<RentMonthPage> findPage(String lawdCd, int dealYm, int pageNo, int numOfRows) {
+        return snapshotRepository.findById(new RentMonthKey(lawdCd, dealYm))
+                .filter(RentMonthSnapshot::isFinalized)
+                .map(snapshot -> new RentMonthPage(
+                        transactionRepository.findByLawdCdAndDealYmOrderByIdAsc(
+                                lawdCd, dealYm, PageRequest.of(Math.max(pageNo, 1) - 1, Math.max(numOfRows, 1))),
+                        snapshot.getRowCount()));
+    }
+
+    /**
+     * 확정된 계약년월로 월 전체 적재 여부 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean isMonthStored(String lawdCd, int dealYm) {
+        return snapshotRepository.findById(new RentMonthKey(lawdCd, dealYm))
+                .filter(RentMonthSnapshot::isFinalized)
+                .isPresent();
+    }
+
+    /**
+     * 지역-계약년월 거래 병합
+     * 이미 적재된 거래와 자연키(법정동, 지번, 아파트명, 층, 계약일, 전용면적)로 짝지어 내용 해시를 비교하고
+     * 추가/수정/삭제된 거래만 기록 (그대로인 거래는 쓰지 않음)
+     * 새로 추가된 거래는 기존 거래 뒤에 조회됨
+     *
+     * 적재 이력 행을 잠근 뒤(없으면 먼저 만들어) 비교하므로 같은 월을 동시에 병합해도 차례로 실행됨
+     * 처음 적재하는 월을 동시에 병합하면 한쪽은 적재 이력 기본키 충돌(DataIntegrityViolationException)로 실패하며,
+     * 다시 호출하면 먼저 적재된 거래와 비교해 병합됨
+     *
+     * @param rows 공공데이터 포털에서 받은 월 전체 거래 (처음 적재할 때는 이 순서가 조회 순서가 됨)
+     * @param finalized 확정된 계약년월인지 여부 (true로 병합한 뒤부터 findPage로 조회됨)
+     * @return 바뀐 거래 건수
+     */
+    @Transactional
+    public RentMonthChange mergeMonth(String lawdCd, int dealYm, List<RentTransaction> rows, boolean finalized) {
+        partitionManager.ensurePartition(dealYm);
+
+        RentMonthKey key = new RentMonthKey(lawdCd, dealYm);
+        RentMonthSnapshot snapshot = snapshotRepository.findForUpdate(key)
+                .orElseGet(() -> snapshotRepository.saveAndFlush(new RentMonthSnapshot(key, 0, false, LocalDateTime.now())));
+
+        List<RentTransaction> existing = transactionRepository.findByLawdCdAndDealYmOrderByIdAsc(lawdCd, dealYm);
+        RowDiff<RentTransaction> diff = RowDiff.compute(existing, rows,
+                RentTransactionStore::naturalKey, RentTransactionStore::contentHash);
+
+        if (!diff.deleted().isEmpty()) {
+            transactionRepository.deleteAllInBatch(diff.deleted());
+        }
+        for (RowDiff.Update<RentTransaction> update : diff.updated()) {
+            copyValues(update.current(), update.previous());
+        }
+        transactionRepository.saveAll(diff.inserted());
+        snapshot.setRowCount(rows.size());
+        snapshot.setFinalized(finalized);
+        snapshot.setLoadedAt(LocalDateTime.now());
+
+        RentMonthChange change = new RentMonthChange(
+                diff.inserted().size(), diff.updated().size(), diff.deleted().size(), diff.unchanged());
+        log.info("💾 실거래 월 병합 완료 - 지역코드: {}, 계약년월: {}, 확정: {}, 추가: {}건, 수정: {}건, 삭제: {}건, 유지: {}건",
+                lawdCd, dealYm, finalized, change.inserted(), change.updated(), change.deleted(), change.unchanged());
+        return change;
+    }
+
+    private static NaturalKey naturalKey(RentTransaction row) {
+        return new NaturalKey(row.getUmdNm(), row.getJibun(), row.getAptNm(), row.getFloor(),
+                row.getDealDay(), row.getExclusiveArea());
+    }
+
+    private static long contentHash(RentTransaction row) {
+        return new ContentHasher()
+                .add(row.getDeposit())
+                .add(row.getMonthlyRent())
+                .add(orMin(row.getPreDeposit()))
+                .add(orMin(row.getPreMonthlyRent()))
+                .add(row.getBuildYear() == null ? Long.MIN_VALUE : row.getBuildYear())
+                .add(row.getContractType())
+                .add(row.getContractTerm())
+                .add(row.getUseRRRight())
+                .hash();
+    }
+
+    private static long orMin(Long value) {
+        return value == null ? Long.MIN_VALUE : value;
+    }
+
+    /**
+     * 수정된 거래의 값만 기존 엔티티에 반영 (자연키와 id는 그대로)
+     */
+    private static void copyValues(RentTransaction source, RentTransaction target) {
+        target.setBuildYear(source.getBuildYear());
+        target.setDeposit(source.getDeposit());
+        target.setMonthlyRent(source.getMonthlyRent());
+        target.setPreDeposit(source.getPreDeposit());
+        target.setPreMonthlyRent(source.getPreMonthlyRent());
+        target.setContractType(source.getContractType());
+        target.setContractTerm(source.getContractTerm());
+        target.setUseRRRight(source.getUseRRRight());
+    }
+
+    /**
+     * 지역-계약년월 안에서 거래를 구분하는 자연키
+     */
+    private record NaturalKey(String umdNm, String jibun, String aptNm, Integer floor, Integer dealDay,
+                              Double exclusiveArea) {
+    }
+}
@@ -0,0 +1,12 @@
+-- 백그라운드 프리패치 진행 상황 (재시작 후 이어서 수집)
+
+CREATE TABLE prefetch_checkpoint (
+    lawd_cd         VARCHAR(5)  NOT NULL,
+    deal_ym         INTEGER     NOT NULL,
+    last_attempt_at TIMESTAMP   NOT NULL,
+    last_success_at TIMESTAMP,
+    row_count       INTEGER,
+    finalized       BOOLEAN     NOT NULL,
+    last_error_code VARCHAR(40),
+    PRIMARY KEY (lawd_cd, deal_ym)
+);
@@ -0,0 +1,5 @@
+-- 적재 당시 계약년월이 확정된 달이었는지 여부
+-- 열린 달은 다시 수집할 때마다 병합해 두고, 확정된 뒤 한 번 더 병합해야 저장소 조회에 사용
+-- 기존 행은 확정된 달만 적재했으므로 TRUE
+
+ALTER TABLE rent_month_snapshot ADD COLUMN finalized BOOLEAN NOT NULL DEFAULT TRUE;
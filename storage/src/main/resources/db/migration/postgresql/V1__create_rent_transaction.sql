@@ -0,0 +1,38 @@
+-- 아파트 전월세 실거래 저장소 (PostgreSQL, 계약년월 RANGE 파티션)
+-- 월별 파티션(rent_transaction_yyyyMM)은 적재 시 RentTransactionPartitionManager가 생성
+
+CREATE SEQUENCE rent_transaction_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE rent_transaction (
+    id               BIGINT       NOT NULL DEFAULT nextval('rent_transaction_seq'),
+    lawd_cd          VARCHAR(5)   NOT NULL,
+    deal_ym          INTEGER      NOT NULL,
+    deal_day         SMALLINT,
+    umd_nm           VARCHAR(60),
+    jibun            VARCHAR(40),
+    apt_nm           VARCHAR(120),
+    floor_no         SMALLINT,
+    exclusive_area   DOUBLE PRECISION,
+    build_year       SMALLINT,
+    deposit          BIGINT       NOT NULL,
+    monthly_rent     BIGINT       NOT NULL,
+    pre_deposit      BIGINT,
+    pre_monthly_rent BIGINT,
+    contract_type    VARCHAR(10),
+    contract_term    VARCHAR(40),
+    use_rr_right     VARCHAR(10),
+    PRIMARY KEY (id, deal_ym)
+) PARTITION BY RANGE (deal_ym);
+
+-- 파티션 생성 전 적재분을 받는 기본 파티션
+CREATE TABLE rent_transaction_default PARTITION OF rent_transaction DEFAULT;
+
+CREATE INDEX idx_rent_transaction_lawd_ym_umd ON rent_transaction (lawd_cd, deal_ym, umd_nm);
+
+CREATE TABLE rent_month_snapshot (
+    lawd_cd   VARCHAR(5) NOT NULL,
+    deal_ym   INTEGER    NOT NULL,
+    row_count INTEGER    NOT NULL,
+    loaded_at TIMESTAMP  NOT NULL,
+    PRIMARY KEY (lawd_cd, deal_ym)
+);
@@ -0,0 +1,128 @@
+package com.datapublic.mcp.storage.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final InMemoryL2CacheStore l2 = new InMemoryL2CacheStore();
+    private final DealMonthPolicy policy = new DealMonthPolicy(2, Duration.ofDays(30), Duration.ofMinutes(10), CLOCK);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private TwoTierCache<List<String>> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    @Test
+    void loadsOnceAndServesFromL1() {
+        RentCacheKey key = new RentCacheKey("11680", "202401", 1, 10);
+
+        assertThat(cache.getOrLoad(key, this::load).block()).containsExactly("row");
+        assertThat(cache.getOrLoad(key, this::load).block()).containsExactly("row");
+
+        assertThat(loads).hasValue(1);
+        CacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.l1Hits()).isEqualTo(1);
+        assertThat(statistics.l2Misses()).isEqualTo(1);
+    }
+
+    @Test
+    void fillsL1FromL2AcrossInstances() {
+        RentCacheKey key = new RentCacheKey("11680", "202401", 1, 10);
+        cache.getOrLoad(key, this::load).block();
+
+        TwoTierCache<List<String>> otherInstance = newCache();
+        assertThat(otherInstance.getOrLoad(key, this::load).block()).containsExactly("row");
+
+        assertThat(loads).hasValue(1);
+        assertThat(otherInstance.getStatistics().l2Hits()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesTtlByDealMonth() {
+        cache.put(new RentCacheKey("11680", "202401", 1, 10), List.of("closed")).block();
+        cache.put(new RentCacheKey("11680", "202403", 1, 10), List.of("open")).block();
+
+        assertThat(l2.ttls).containsEntry("apartment-rent:11680:202401:1:10", Duration.ofDays(30));
+        assertThat(l2.ttls).containsEntry("apartment-rent:11680:202403:1:10", Duration.ofMinutes(10));
+        assertThat(policy.isFinalized("202402")).isFalse();
+    }
+
+    @Test
+    void treatsL2FailureAsMiss() {
+        l2.failing = true;
+        RentCacheKey key = new RentCacheKey("11680", "202401", 1, 10);
+
+        assertThat(cache.getOrLoad(key, this::load).block()).containsExactly("row");
+        assertThat(cache.getStatistics().l2Errors()).isEqualTo(2);
+    }
+
+    private Mono<List<String>> load() {
+        loads.incrementAndGet();
+        return Mono.just(List.of("row"));
+    }
+
+    private TwoTierCache<List<String>> newCache() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("l2", l2));
+        ObjectMapper objectMapper = new ObjectMapper();
+        TwoTierCacheManager manager = new TwoTierCacheManager(beanFactory.getBeanProvider(L2CacheStore.class),
+                objectMapper, policy, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(manager, "l1MaximumSize", 100L);
+        ReflectionTestUtils.setField(manager, "l2Timeout", Duration.ofSeconds(1));
+        return manager.create("apartment-rent",
+                objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+    }
+
+    /**
+     * Redis 대체용 메모리 저장소
+     */
+    private static class InMemoryL2CacheStore implements L2CacheStore {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        @Override
+        public Mono<String> get(String key) {
+            return failing ? Mono.error(new IllegalStateException("redis down")) : Mono.justOrEmpty(values.get(key));
+        }
+
+        @Override
+        public Mono<Void> set(String key, String value, Duration ttl) {
+            if (failing) {
+                return Mono.error(new IllegalStateException("redis down"));
+            }
+            values.put(key, value);
+            ttls.put(key, ttl);
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> delete(String key) {
+            values.remove(key);
+            ttls.remove(key);
+            return Mono.empty();
+        }
+    }
+}
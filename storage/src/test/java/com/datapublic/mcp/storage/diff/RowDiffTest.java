@@ -0,0 +1,46 @@
+package com.datapublic.mcp.storage.diff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowDiffTest {
+
+    @Test
+    void classifiesRowsByNaturalKeyAndContentHash() {
+        List<Row> previous = List.of(new Row("a", 1), new Row("b", 2), new Row("c", 3));
+        List<Row> current = List.of(new Row("a", 1), new Row("b", 20), new Row("d", 4));
+
+        RowDiff<Row> diff = RowDiff.compute(previous, current, Row::key, Row::hash);
+
+        assertThat(diff.unchanged()).isEqualTo(1);
+        assertThat(diff.inserted()).containsExactly(new Row("d", 4));
+        assertThat(diff.updated()).containsExactly(new RowDiff.Update<>(new Row("b", 2), new Row("b", 20)));
+        assertThat(diff.deleted()).containsExactly(new Row("c", 3));
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    void matchesDuplicateKeysByHashBeforePairingUpdates() {
+        List<Row> previous = List.of(new Row("a", 1), new Row("a", 2));
+        List<Row> current = List.of(new Row("a", 3), new Row("a", 2), new Row("a", 4));
+
+        RowDiff<Row> diff = RowDiff.compute(previous, current, Row::key, Row::hash);
+
+        assertThat(diff.unchanged()).isEqualTo(1);
+        assertThat(diff.updated()).containsExactly(new RowDiff.Update<>(new Row("a", 1), new Row("a", 3)));
+        assertThat(diff.inserted()).containsExactly(new Row("a", 4));
+        assertThat(diff.deleted()).isEmpty();
+    }
+
+    @Test
+    void hasherSeparatesNullAndEmptyStrings() {
+        assertThat(new ContentHasher().add((String) null).hash()).isNotEqualTo(new ContentHasher().add("").hash());
+        assertThat(new ContentHasher().add("ab").add("c").hash()).isNotEqualTo(new ContentHasher().add("a").add("bc").hash());
+    }
+
+    private record Row(String key, long hash) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.datapublic.mcp.storage.service;
+
+import com.datapublic.mcp.storage.config.StorageJpaConfig;
+import com.datapublic.mcp.storage.entity.PrefetchCheckpoint;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PrefetchCheckpointStoreTest {
+
+    @SpringBootConfiguration
+    @Import({StorageJpaConfig.class, PrefetchCheckpointStore.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private PrefetchCheckpointStore store;
+
+    @Test
+    void failureKeepsLastSuccess() {
+        RentMonthKey key = new RentMonthKey("11680", 202401);
+        LocalDateTime successAt = LocalDateTime.of(2024, 2, 1, 3, 0);
+        LocalDateTime failedAt = successAt.plusHours(6);
+
+        store.recordSuccess(key, 120, false, successAt);
+        store.recordFailure(key, "HTTP_ERROR", failedAt);
+
+        PrefetchCheckpoint checkpoint = store.findAll(List.of(key)).get(0);
+        assertThat(checkpoint.getLastAttemptAt()).isEqualTo(failedAt);
+        assertThat(checkpoint.getLastSuccessAt()).isEqualTo(successAt);
+        assertThat(checkpoint.getRowCount()).isEqualTo(120);
+        assertThat(checkpoint.getLastErrorCode()).isEqualTo("HTTP_ERROR");
+    }
+
+    @Test
+    void returnsOnlyRecordedKeys() {
+        store.recordSuccess(new RentMonthKey("11680", 202401), 10, true, LocalDateTime.of(2024, 6, 1, 3, 0));
+
+        assertThat(store.findAll(List.of(new RentMonthKey("11680", 202401), new RentMonthKey("11650", 202401))))
+                .singleElement()
+                .satisfies(checkpoint -> assertThat(checkpoint.isFinalized()).isTrue());
+    }
+}
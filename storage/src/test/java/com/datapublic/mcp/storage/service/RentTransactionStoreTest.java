@@ -0,0 +1,152 @@
+package com.datapublic.mcp.storage.service;
+
+import com.datapublic.mcp.storage.config.StorageJpaConfig;
+import com.datapublic.mcp.storage.entity.RentTransaction;
+import com.datapublic.mcp.storage.repository.RentTransactionPartitionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class RentTransactionStoreTest {
+
+    @SpringBootConfiguration
+    @Import({StorageJpaConfig.class, RentTransactionStore.class, RentTransactionPartitionManager.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private RentTransactionStore store;
+
+    @Test
+    void returnsEmptyForMonthNotLoaded() {
+        assertThat(store.findPage("11680", 202401, 1, 10)).isEmpty();
+        assertThat(store.isMonthStored("11680", 202401)).isFalse();
+    }
+
+    @Test
+    void pagesStoredMonthInLoadOrder() {
+        store.mergeMonth("11680", 202401, rows("11680", 202401, 25), true);
+
+        RentMonthPage page = store.findPage("11680", 202401, 3, 10).orElseThrow();
+
+        assertThat(page.totalCount()).isEqualTo(25);
+        assertThat(page.rows()).extracting(RentTransaction::getAptNm)
+                .containsExactly("아파트20", "아파트21", "아파트22", "아파트23", "아파트24");
+    }
+
+    @Test
+    void mergesMonthWithoutTouchingOtherMonths() {
+        store.mergeMonth("11680", 202401, rows("11680", 202401, 5), true);
+        store.mergeMonth("11680", 202402, rows("11680", 202402, 3), true);
+        store.mergeMonth("11680", 202401, rows("11680", 202401, 2), true);
+
+        assertThat(store.findPage("11680", 202401, 1, 10).orElseThrow().rows()).hasSize(2);
+        assertThat(store.findPage("11680", 202402, 1, 10).orElseThrow().totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    void mergeWritesOnlyChangedTransactions() {
+        store.mergeMonth("11680", 202401, rows("11680", 202401, 5), true);
+        Long keptId = store.findPage("11680", 202401, 1, 10).orElseThrow().rows().get(0).getId();
+
+        List<RentTransaction> refreshed = new ArrayList<>(rows("11680", 202401, 6));
+        refreshed.remove(2);
+        refreshed.get(0).setMonthlyRent(50L);
+
+        RentMonthChange change = store.mergeMonth("11680", 202401, refreshed, true);
+
+        assertThat(change).isEqualTo(new RentMonthChange(1, 1, 1, 3));
+        RentMonthPage page = store.findPage("11680", 202401, 1, 10).orElseThrow();
+        assertThat(page.totalCount()).isEqualTo(5);
+        assertThat(page.rows()).extracting(RentTransaction::getAptNm)
+                .containsExactly("아파트0", "아파트1", "아파트3", "아파트4", "아파트5");
+        assertThat(page.rows().get(0).getId()).isEqualTo(keptId);
+        assertThat(page.rows().get(0).getMonthlyRent()).isEqualTo(50L);
+        assertThat(store.mergeMonth("11680", 202401, rows("11680", 202401, 6), true).changed()).isTrue();
+    }
+
+    @Test
+    void mergeWithSameRowsChangesNothing() {
+        store.mergeMonth("11680", 202401, rows("11680", 202401, 3), true);
+
+        RentMonthChange change = store.mergeMonth("11680", 202401, rows("11680", 202401, 3), true);
+
+        assertThat(change.changed()).isFalse();
+        assertThat(change.unchanged()).isEqualTo(3);
+    }
+
+    @Test
+    void openMonthIsServedOnlyAfterMergedAsFinalized() {
+        store.mergeMonth("11680", 202405, rows("11680", 202405, 4), false);
+
+        assertThat(store.findPage("11680", 202405, 1, 10)).isEmpty();
+        assertThat(store.isMonthStored("11680", 202405)).isFalse();
+
+        // 확정된 뒤 다시 받으면 열린 달일 때 적재한 거래와 비교해 추가된 거래만 기록
+        RentMonthChange change = store.mergeMonth("11680", 202405, rows("11680", 202405, 5), true);
+
+        assertThat(change).isEqualTo(new RentMonthChange(1, 0, 0, 4));
+        assertThat(store.findPage("11680", 202405, 1, 10).orElseThrow().totalCount()).isEqualTo(5);
+        assertThat(store.isMonthStored("11680", 202405)).isTrue();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentFirstMergesDoNotDuplicateRows() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<CompletableFuture<RentMonthChange>> merges = IntStream.range(0, 2)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(barrier);
+                    try {
+                        return store.mergeMonth("11650", 202312, rows("11650", 202312, 30), true);
+                    } catch (DataIntegrityViolationException e) {
+                        // 먼저 적재한 쪽이 커밋된 뒤 다시 병합 (ApartmentRentService와 같은 처리)
+                        return store.mergeMonth("11650", 202312, rows("11650", 202312, 30), true);
+                    }
+                }))
+                .toList();
+
+        List<RentMonthChange> changes = merges.stream().map(CompletableFuture::join).toList();
+
+        assertThat(changes).extracting(RentMonthChange::inserted).containsExactlyInAnyOrder(30, 0);
+        RentMonthPage page = store.findPage("11650", 202312, 1, 100).orElseThrow();
+        assertThat(page.totalCount()).isEqualTo(30);
+        assertThat(page.rows()).hasSize(30);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<RentTransaction> rows(String lawdCd, int dealYm, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> RentTransaction.builder()
+                        .lawdCd(lawdCd)
+                        .dealYm(dealYm)
+                        .dealDay(i % 28 + 1)
+                        .umdNm("역삼동")
+                        .aptNm("아파트" + i)
+                        .deposit(10_000L + i)
+                        .monthlyRent(0L)
+                        .build())
+                .toList();
+    }
+}
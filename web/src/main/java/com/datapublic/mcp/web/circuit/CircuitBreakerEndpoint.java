@@ -0,0 +1,22 @@
+package com.datapublic.mcp.web.circuit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공공데이터 포털 서킷 브레이커 현황 Actuator 엔드포인트 (/actuator/publicdatacircuit)
+ */
+@Component
+@Endpoint(id = "publicdatacircuit")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    @ReadOperation
+    public CircuitBreakerStatus circuit() {
+        return circuitBreaker.getStatus();
+    }
+}
@@ -0,0 +1,18 @@
+package com.datapublic.mcp.web.circuit;
+
+import java.time.Instant;
+
+/**
+ * 서킷 브레이커 현황
+ *
+ * @param state 현재 상태
+ * @param failureRate 최근 호출 실패율 (%, 최소 호출 수 미만이면 -1)
+ * @param bufferedCalls 실패율 계산에 쓰인 최근 호출 수
+ * @param failedCalls 그중 실패한 호출 수
+ * @param rejectedCalls 차단 상태에서 거절한 누적 호출 수
+ * @param openedAt 마지막으로 차단된 시각
+ * @param retryAt 차단 상태에서 시험 호출을 허용하는 시각
+ */
+public record CircuitBreakerStatus(CircuitState state, float failureRate, int bufferedCalls, int failedCalls,
+                                   long rejectedCalls, Instant openedAt, Instant retryAt) {
+}
@@ -0,0 +1,22 @@
+package com.datapublic.mcp.web.circuit;
+
+/**
+ * 서킷 브레이커 상태
+ */
+public enum CircuitState {
+
+    /**
+     * 정상 - 모든 호출 허용
+     */
+    CLOSED,
+
+    /**
+     * 차단 - 대기 시간 동안 호출하지 않고 바로 실패
+     */
+    OPEN,
+
+    /**
+     * 시험 - 제한된 수의 호출로 회복 여부 확인
+     */
+    HALF_OPEN
+}
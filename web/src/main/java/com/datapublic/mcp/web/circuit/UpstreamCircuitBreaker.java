@@ -0,0 +1,219 @@
+package com.datapublic.mcp.web.circuit;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 공공데이터 포털 서킷 브레이커
+ * 최근 windowSize번 호출 중 실패율이 임계치를 넘으면 openDuration 동안 호출 없이 바로 실패시키고,
+ * 이후 halfOpenCalls번의 시험 호출이 모두 성공하면 다시 닫음
+ * 실패로 세는 것은 일시적 장애(타임아웃, 5xx 등)뿐이며 잘못된 파라미터 같은 오류는 세지 않음
+ */
+@Component
+@Slf4j
+public final class UpstreamCircuitBreaker {
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Clock clock;
+    private final Counter rejectedCounter;
+
+    /**
+     * 최근 호출 결과 (true = 실패), 원형 버퍼
+     */
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private Instant openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    @Autowired
+    public UpstreamCircuitBreaker(@Value("${public.data.circuit.window-size:20}") int windowSize,
+                                  @Value("${public.data.circuit.minimum-calls:10}") int minimumCalls,
+                                  @Value("${public.data.circuit.failure-rate-threshold:50}") float failureRateThreshold,
+                                  @Value("${public.data.circuit.open-duration:30s}") Duration openDuration,
+                                  @Value("${public.data.circuit.half-open-calls:3}") int halfOpenCalls,
+                                  MeterRegistry meterRegistry) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, meterRegistry, Clock.systemUTC());
+    }
+
+    public UpstreamCircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold, Duration openDuration,
+                                  int halfOpenCalls, MeterRegistry meterRegistry, Clock clock) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), this.windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+        this.clock = clock;
+        this.outcomes = new boolean[this.windowSize];
+
+        this.rejectedCounter = Counter.builder("public.data.circuit.rejected")
+                .description("서킷 차단으로 거절한 공공데이터 포털 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.circuit.state", this, breaker -> breaker.currentState().ordinal())
+                .description("공공데이터 포털 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷 브레이커로 호출 보호
+     * 구독 시점에 허용 여부를 판단하므로 재시도마다 다시 판단함
+     *
+     * @param call 보호할 호출
+     * @param isFailure 실패로 셀 예외 (그 외 예외는 결과에 반영하지 않음)
+     * @return 차단 중이면 CIRCUIT_OPEN 오류로 바로 끝나는 Mono
+     */
+    public <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            if (!tryAcquirePermission()) {
+                rejectedCounter.increment();
+                return Mono.error(new PublicDataApiException("CIRCUIT_OPEN",
+                        "공공데이터 포털 장애로 호출을 일시 중단했습니다. 잠시 후 다시 시도해주세요."));
+            }
+
+            AtomicBoolean recorded = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(false);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            if (isFailure.test(e)) {
+                                onResult(true);
+                            } else {
+                                onIgnored();
+                            }
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 현재 상태 (대기 시간이 지난 OPEN은 HALF_OPEN으로 전환)
+     */
+    public synchronized CircuitState currentState() {
+        if (state == CircuitState.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * 서킷 브레이커 현황
+     */
+    public synchronized CircuitBreakerStatus getStatus() {
+        CircuitState current = currentState();
+        float failureRate = bufferedCalls < minimumCalls ? -1 : failedCalls * 100f / bufferedCalls;
+
+        return new CircuitBreakerStatus(current, failureRate, bufferedCalls, failedCalls,
+                (long) rejectedCounter.count(), openedAt,
+                current == CircuitState.OPEN ? openedAt.plus(openDuration) : null);
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        switch (currentState()) {
+            case CLOSED -> {
+                return true;
+            }
+            case HALF_OPEN -> {
+                if (halfOpenPermits < halfOpenCalls) {
+                    halfOpenPermits++;
+                    return true;
+                }
+                return false;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private synchronized void onResult(boolean failed) {
+        if (state == CircuitState.HALF_OPEN) {
+            if (failed) {
+                log.warn("⚡ 시험 호출 실패 - 공공데이터 포털 호출을 다시 차단합니다.");
+                transitionTo(CircuitState.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(CircuitState.CLOSED);
+            }
+            return;
+        }
+
+        if (state != CircuitState.CLOSED) {
+            return;
+        }
+
+        if (bufferedCalls == windowSize) {
+            if (outcomes[outcomeIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+
+        if (bufferedCalls >= minimumCalls && failedCalls * 100f / bufferedCalls >= failureRateThreshold) {
+            log.warn("⚡ 공공데이터 포털 실패율 {}% ({}/{}) - {} 동안 호출을 차단합니다.",
+                    failedCalls * 100 / bufferedCalls, failedCalls, bufferedCalls, openDuration);
+            transitionTo(CircuitState.OPEN);
+        }
+    }
+
+    /**
+     * 결과에 반영하지 않는 종료 (시험 호출 허가만 반납)
+     */
+    private synchronized void onIgnored() {
+        if (state == CircuitState.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    private void transitionTo(CircuitState newState) {
+        log.info("🔌 서킷 상태 변경: {} → {}", state, newState);
+        state = newState;
+
+        switch (newState) {
+            case OPEN -> openedAt = clock.instant();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                outcomeIndex = 0;
+                bufferedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+}
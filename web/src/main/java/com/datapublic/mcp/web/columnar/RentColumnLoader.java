@@ -0,0 +1,114 @@
+package com.datapublic.mcp.web.columnar;
+
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.service.ApartmentRentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 열 단위 저장소 적재
+ * ApartmentRentService 전체 조회(캐시 → 저장소/공공데이터 포털)로 월 전체를 받아 세그먼트로 만듦
+ * 확정된 달은 확정된 뒤 한 번 적재하면 그대로 쓰고, 열린 달은 DealMonthPolicy의 캐시 TTL이 지나면 다시 받아 병합
+ * (열린 달일 때 적재한 세그먼트는 달이 확정되면 TTL과 관계없이 다시 받음)
+ * (내용이 같으면 세그먼트 버전이 유지되어 월별 집계/통계 캐시를 다시 계산하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentColumnLoader {
+
+    private final ApartmentRentService apartmentRentService;
+    private final RentColumnStore columnStore;
+    private final DealMonthPolicy dealMonthPolicy;
+
+    /**
+     * 여러 세그먼트를 적재할 때 동시에 조회하는 (지역코드, 계약년월) 수
+     */
+    @Value("${public.data.columnar.load-concurrency:4}")
+    private int loadConcurrency;
+
+    /**
+     * (지역코드, 계약년월) 세그먼트 조회, 없거나 오래됐으면 적재
+     *
+     * @param districtCode 지역코드 (5자리)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     */
+    public Mono<RentColumnSegment> load(String districtCode, String dealYearMonth) {
+        return Mono.defer(() -> {
+            int dealYm = Integer.parseInt(dealYearMonth);
+            boolean finalized = dealMonthPolicy.isFinalized(dealYearMonth);
+            RentColumnSegment cached = columnStore.get(districtCode, dealYm).orElse(null);
+            if (cached != null && isFresh(cached, dealYearMonth, finalized)) {
+                return Mono.just(cached);
+            }
+
+            return apartmentRentService.getAllApartmentRentDataReactive(districtCode, dealYearMonth)
+                    .map(body -> columnStore.merge(districtCode, dealYm, body.getItems().getItem(), finalized).segment());
+        });
+    }
+
+    /**
+     * (지역코드, 계약년월) 세그먼트 다시 적재 (백그라운드 프리패치용)
+     * 열 단위 저장소와 페이지 캐시를 거치지 않고 공공데이터 포털에서 월 전체를 다시 받아
+     * 실거래 저장소와 세그먼트에 병합 (ApartmentRentService.refreshMonthReactive)
+     *
+     * @param districtCode 지역코드 (5자리)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     */
+    public Mono<RentColumnSegment> reload(String districtCode, String dealYearMonth) {
+        return Mono.defer(() -> {
+            int dealYm = Integer.parseInt(dealYearMonth);
+            boolean finalized = dealMonthPolicy.isFinalized(dealYearMonth);
+
+            return apartmentRentService.refreshMonthReactive(districtCode, dealYearMonth)
+                    .map(refresh -> columnStore.merge(districtCode, dealYm, refresh.body().getItems().getItem(), finalized)
+                            .segment());
+        });
+    }
+
+    /**
+     * 지역코드 × 계약년월 조합을 loadConcurrency개씩 동시에 적재 (지역코드, 계약년월 순서 유지)
+     * 조합 하나가 실패해도 나머지는 계속 적재하고, 실패는 SegmentLoad.error로 알림
+     */
+    public Flux<SegmentLoad> loadAll(List<String> districtCodes, List<String> dealYearMonths) {
+        return Flux.fromIterable(districtCodes)
+                .concatMap(districtCode -> Flux.fromIterable(dealYearMonths)
+                        .map(dealYearMonth -> new SegmentKey(districtCode, dealYearMonth)))
+                .flatMapSequential(key -> load(key.districtCode(), key.dealYearMonth())
+                        .map(segment -> new SegmentLoad(key.districtCode(), key.dealYearMonth(), segment, null))
+                        .onErrorResume(e -> {
+                            PublicDataApiException error = e instanceof PublicDataApiException apiException
+                                    ? apiException
+                                    : new PublicDataApiException("UNKNOWN_ERROR", e.getMessage(), e);
+
+                            log.warn("⚠️ 열 단위 세그먼트 적재 실패 - 지역코드: {}, 계약년월: {}, 오류: [{}] {}",
+                                    key.districtCode(), key.dealYearMonth(), error.getErrorCode(), error.getErrorMessage());
+                            return Mono.just(new SegmentLoad(key.districtCode(), key.dealYearMonth(), null, error));
+                        }), loadConcurrency);
+    }
+
+    private boolean isFresh(RentColumnSegment segment, String dealYearMonth, boolean finalized) {
+        if (finalized) {
+            return segment.finalized();
+        }
+        return segment.verifiedAt().plus(dealMonthPolicy.cacheTtl(dealYearMonth)).isAfter(Instant.now());
+    }
+
+    /**
+     * (지역코드, 계약년월) 적재 결과 (성공하면 segment, 실패하면 error)
+     */
+    public record SegmentLoad(String districtCode, String dealYearMonth,
+                              RentColumnSegment segment, PublicDataApiException error) {
+    }
+
+    private record SegmentKey(String districtCode, String dealYearMonth) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.datapublic.mcp.web.columnar;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * (지역코드, 계약년월) 하나의 실거래를 열 단위로 보관하는 불변 세그먼트
+ * 숫자 필드는 원시 타입 배열, 문자열 필드는 StringDictionary id 배열로 저장
+ * 한 열만 읽는 스캔(예: 보증금 합계)이 연속된 메모리만 훑도록 행 객체를 만들지 않음
+ * 다시 받은 내용이 같으면 세그먼트를 교체하지 않고 verifiedAt(과 확정 여부)만 갱신함
+ */
+public final class RentColumnSegment {
+
+    private final String districtCode;
+    private final int dealYm;
+    private final long version;
+    private final Instant loadedAt;
+    private volatile Instant verifiedAt;
+    private volatile boolean finalized;
+    private final RentColumnStore.Dictionaries dictionaries;
+    private final int size;
+
+    private final int[] dealDate;
+    private final long[] deposit;
+    private final long[] monthlyRent;
+    private final long[] preDeposit;
+    private final long[] preMonthlyRent;
+    private final double[] exclusiveArea;
+    private final int[] floor;
+    private final int[] buildYear;
+
+    private final int[] aptNm;
+    private final int[] umdNm;
+    private final int[] jibun;
+    private final int[] sggCd;
+    private final int[] contractType;
+    private final int[] contractTerm;
+    private final int[] useRRRight;
+
+    RentColumnSegment(String districtCode, int dealYm, long version, Instant loadedAt,
+                      RentColumnStore.Dictionaries dictionaries, List<ApartmentRentRecord> records) {
+        this.districtCode = districtCode;
+        this.dealYm = dealYm;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.verifiedAt = loadedAt;
+        this.dictionaries = dictionaries;
+        this.size = records.size();
+
+        dealDate = new int[size];
+        deposit = new long[size];
+        monthlyRent = new long[size];
+        preDeposit = new long[size];
+        preMonthlyRent = new long[size];
+        exclusiveArea = new double[size];
+        floor = new int[size];
+        buildYear = new int[size];
+        aptNm = new int[size];
+        umdNm = new int[size];
+        jibun = new int[size];
+        sggCd = new int[size];
+        contractType = new int[size];
+        contractTerm = new int[size];
+        useRRRight = new int[size];
+
+        for (int row = 0; row < size; row++) {
+            ApartmentRentRecord record = records.get(row);
+            dealDate[row] = record.dealDate();
+            deposit[row] = record.deposit();
+            monthlyRent[row] = record.monthlyRent();
+            preDeposit[row] = record.preDeposit();
+            preMonthlyRent[row] = record.preMonthlyRent();
+            exclusiveArea[row] = record.exclusiveArea();
+            floor[row] = record.floor();
+            buildYear[row] = record.buildYear();
+            aptNm[row] = dictionaries.aptNm().encode(record.aptNm());
+            umdNm[row] = dictionaries.umdNm().encode(record.umdNm());
+            jibun[row] = dictionaries.jibun().encode(record.jibun());
+            sggCd[row] = dictionaries.sggCd().encode(record.sggCd());
+            contractType[row] = dictionaries.contractType().encode(record.contractType());
+            contractTerm[row] = dictionaries.contractTerm().encode(record.contractTerm());
+            useRRRight[row] = dictionaries.useRRRight().encode(record.useRRRight());
+        }
+    }
+
+    /**
+     * 문자열 열만 다른 사전으로 다시 인코딩한 사본 (사전 압축용)
+     * 버전, 적재/대조 시각, 확정 여부는 그대로이고 숫자 열 배열은 공유
+     */
+    private RentColumnSegment(RentColumnSegment source, RentColumnStore.Dictionaries target) {
+        this.districtCode = source.districtCode;
+        this.dealYm = source.dealYm;
+        this.version = source.version;
+        this.loadedAt = source.loadedAt;
+        this.verifiedAt = source.verifiedAt;
+        this.finalized = source.finalized;
+        this.dictionaries = target;
+        this.size = source.size;
+
+        dealDate = source.dealDate;
+        deposit = source.deposit;
+        monthlyRent = source.monthlyRent;
+        preDeposit = source.preDeposit;
+        preMonthlyRent = source.preMonthlyRent;
+        exclusiveArea = source.exclusiveArea;
+        floor = source.floor;
+        buildYear = source.buildYear;
+
+        RentColumnStore.Dictionaries from = source.dictionaries;
+        aptNm = reencode(source.aptNm, from.aptNm(), target.aptNm());
+        umdNm = reencode(source.umdNm, from.umdNm(), target.umdNm());
+        jibun = reencode(source.jibun, from.jibun(), target.jibun());
+        sggCd = reencode(source.sggCd, from.sggCd(), target.sggCd());
+        contractType = reencode(source.contractType, from.contractType(), target.contractType());
+        contractTerm = reencode(source.contractTerm, from.contractTerm(), target.contractTerm());
+        useRRRight = reencode(source.useRRRight, from.useRRRight(), target.useRRRight());
+    }
+
+    RentColumnSegment reencode(RentColumnStore.Dictionaries target) {
+        return new RentColumnSegment(this, target);
+    }
+
+    private static int[] reencode(int[] ids, StringDictionary from, StringDictionary to) {
+        int[] result = new int[ids.length];
+        for (int row = 0; row < ids.length; row++) {
+            result[row] = to.encode(from.decode(ids[row]));
+        }
+        return result;
+    }
+
+    public String districtCode() {
+        return districtCode;
+    }
+
+    /**
+     * 계약년월 (yyyyMM)
+     */
+    public int dealYm() {
+        return dealYm;
+    }
+
+    /**
+     * 저장소 안에서 적재할 때마다 증가하는 버전 (세그먼트가 교체됐는지 비교할 때 사용)
+     */
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 공공데이터 포털 응답과 마지막으로 대조한 시각 (내용이 같아 교체하지 않은 경우 포함)
+     */
+    public Instant verifiedAt() {
+        return verifiedAt;
+    }
+
+    void markVerified(Instant at) {
+        verifiedAt = at;
+    }
+
+    /**
+     * 확정된 계약년월의 내용으로 적재/대조했는지 여부
+     * 열린 달일 때 적재한 세그먼트는 달이 확정된 뒤 한 번 더 받아 대조해야 함
+     */
+    public boolean finalized() {
+        return finalized;
+    }
+
+    void markFinalized() {
+        finalized = true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 문자열 열 id가 가리키는 사전 (사전을 압축하면 세그먼트마다 새 사전으로 바뀜)
+     * 다른 세그먼트의 id나 다른 사전에서 찾은 id와 비교하기 전에 같은 사전인지 확인해야 함
+     */
+    public RentColumnStore.Dictionaries dictionaries() {
+        return dictionaries;
+    }
+
+    public int dealDate(int row) {
+        return dealDate[row];
+    }
+
+    public long deposit(int row) {
+        return deposit[row];
+    }
+
+    public long monthlyRent(int row) {
+        return monthlyRent[row];
+    }
+
+    public long preDeposit(int row) {
+        return preDeposit[row];
+    }
+
+    public long preMonthlyRent(int row) {
+        return preMonthlyRent[row];
+    }
+
+    public double exclusiveArea(int row) {
+        return exclusiveArea[row];
+    }
+
+    public int floor(int row) {
+        return floor[row];
+    }
+
+    public int buildYear(int row) {
+        return buildYear[row];
+    }
+
+    /**
+     * 아파트명 사전 id (문자열 비교 대신 id 비교로 필터링할 때 사용)
+     */
+    public int aptNmId(int row) {
+        return aptNm[row];
+    }
+
+    public int umdNmId(int row) {
+        return umdNm[row];
+    }
+
+    public int jibunId(int row) {
+        return jibun[row];
+    }
+
+    public int contractTypeId(int row) {
+        return contractType[row];
+    }
+
+    public String aptNm(int row) {
+        return dictionaries.aptNm().decode(aptNm[row]);
+    }
+
+    public String umdNm(int row) {
+        return dictionaries.umdNm().decode(umdNm[row]);
+    }
+
+    public String jibun(int row) {
+        return dictionaries.jibun().decode(jibun[row]);
+    }
+
+    public String sggCd(int row) {
+        return dictionaries.sggCd().decode(sggCd[row]);
+    }
+
+    public String contractType(int row) {
+        return dictionaries.contractType().decode(contractType[row]);
+    }
+
+    public String contractTerm(int row) {
+        return dictionaries.contractTerm().decode(contractTerm[row]);
+    }
+
+    public String useRRRight(int row) {
+        return dictionaries.useRRRight().decode(useRRRight[row]);
+    }
+
+    /**
+     * 행 하나를 레코드로 복원 (조회 결과로 내보낼 행에만 사용)
+     */
+    public ApartmentRentRecord record(int row) {
+        return new ApartmentRentRecord(
+                aptNm(row),
+                umdNm(row),
+                jibun(row),
+                sggCd(row),
+                dealDate[row],
+                deposit[row],
+                monthlyRent[row],
+                preDeposit[row],
+                preMonthlyRent[row],
+                exclusiveArea[row],
+                floor[row],
+                buildYear[row],
+                contractType(row),
+                contractTerm(row),
+                useRRRight(row));
+    }
+
+    /**
+     * 열 배열이 차지하는 대략적인 바이트 수 (사전 문자열 제외)
+     */
+    public long estimatedBytes() {
+        // int 열 10개(4바이트), long 4개 + double 1개(8바이트)
+        return (long) size * (10 * Integer.BYTES + 5 * Long.BYTES);
+    }
+}
@@ -0,0 +1,333 @@
+package com.datapublic.mcp.web.columnar;
+
+import com.datapublic.mcp.storage.diff.RowDiff;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 열 단위 실거래 저장소 (메모리)
+ * 여러 달/여러 구를 가로지르는 분석 조회용으로, (지역코드, 계약년월)마다 RentColumnSegment 하나를 보관
+ * 문자열 사전은 모든 세그먼트가 공유하므로 같은 아파트명은 저장소 전체에서 한 번만 보관됨
+ * 사전은 추가만 되므로 세그먼트를 제거해도 줄지 않고, 등록된 문자열 수가 maxDictionaryEntries를 넘으면
+ * 남아 있는 세그먼트를 새 사전으로 다시 인코딩해 교체함 (사전 압축, 이후 기준은 압축 후 크기의 2배 이상)
+ * 압축하면 모든 사전 id가 바뀌므로 id를 비교하는 쪽은 RentColumnSegment.dictionaries()가 같은지 확인해야 함
+ * 전체 행 수가 maxRows를 넘으면 가장 먼저 적재한 세그먼트부터 제거
+ * 세그먼트를 적재/제거할 때마다 등록된 SegmentListener에 알림
+ */
+@Component
+@Slf4j
+public final class RentColumnStore {
+
+    private volatile Dictionaries dictionaries = new Dictionaries();
+    /**
+     * 세그먼트 적재/제거는 읽기 잠금, 사전 압축은 쓰기 잠금 (압축 중에는 이전 사전으로 인코딩하지 않도록)
+     */
+    private final ReadWriteLock compactionLock = new ReentrantReadWriteLock();
+    private final Map<SegmentKey, RentColumnSegment> segments = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final Clock clock = Clock.systemUTC();
+    private final List<SegmentListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final long maxRows;
+    private final long maxDictionaryEntries;
+    private volatile long compactionThreshold;
+
+    private final Counter insertedRows;
+    private final Counter updatedRows;
+    private final Counter deletedRows;
+    private final Counter dictionaryCompactions;
+
+    public RentColumnStore(@Value("${public.data.columnar.max-rows:5000000}") long maxRows,
+                           @Value("${public.data.columnar.dictionary.max-entries:1000000}") long maxDictionaryEntries,
+                           MeterRegistry meterRegistry) {
+        this.maxRows = maxRows;
+        this.maxDictionaryEntries = maxDictionaryEntries;
+        this.compactionThreshold = maxDictionaryEntries;
+        Gauge.builder("public.data.columnar.rows", this, RentColumnStore::rowCount)
+                .description("열 단위 저장소에 적재된 실거래 행 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.columnar.segments", segments, Map::size)
+                .description("열 단위 저장소에 적재된 (지역코드, 계약년월) 세그먼트 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.columnar.dictionary.entries", this, store -> store.dictionaries().size())
+                .description("열 단위 저장소 문자열 사전에 등록된 문자열 수 (사전 압축 전까지는 세그먼트를 제거해도 줄지 않음)")
+                .register(meterRegistry);
+        Gauge.builder("public.data.columnar.bytes", this, RentColumnStore::estimatedBytes)
+                .description("열 단위 저장소 열 배열 크기 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.insertedRows = changeCounter(meterRegistry, "inserted");
+        this.updatedRows = changeCounter(meterRegistry, "updated");
+        this.deletedRows = changeCounter(meterRegistry, "deleted");
+        this.dictionaryCompactions = Counter.builder("public.data.columnar.dictionary.compactions")
+                .description("남은 세그먼트를 새 사전으로 다시 인코딩한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세그먼트 적재 (같은 지역코드/계약년월이 있으면 교체)
+     */
+    public RentColumnSegment put(String districtCode, int dealYm, List<ApartmentRentRecord> records) {
+        RentColumnSegment segment;
+        compactionLock.readLock().lock();
+        try {
+            segment = putLocked(districtCode, dealYm, records);
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        return segment;
+    }
+
+    private RentColumnSegment putLocked(String districtCode, int dealYm, List<ApartmentRentRecord> records) {
+        RentColumnSegment segment = new RentColumnSegment(districtCode, dealYm, versions.incrementAndGet(),
+                clock.instant(), dictionaries, records);
+        RentColumnSegment previous = segments.put(new SegmentKey(districtCode, dealYm), segment);
+        for (SegmentListener listener : listeners) {
+            listener.segmentPut(previous, segment);
+        }
+        evictIfNeeded();
+
+        log.debug("🧱 열 단위 세그먼트 적재 - 지역코드: {}, 계약년월: {}, {}건", districtCode, dealYm, segment.size());
+        return segment;
+    }
+
+    /**
+     * 세그먼트 병합
+     * 기존 세그먼트와 자연키/내용 해시로 비교해 바뀐 행이 없으면 기존 세그먼트(버전 그대로)를 유지하고,
+     * 바뀐 행이 있을 때만 새 버전으로 교체 (집계/통계 캐시는 버전이 바뀐 세그먼트만 다시 계산)
+     *
+     * @param finalized records가 확정된 계약년월의 내용인지 여부 (병합 후 세그먼트의 finalized로 기록)
+     * @return 병합 후 세그먼트와 바뀐 행 수
+     */
+    public SegmentChange merge(String districtCode, int dealYm, List<ApartmentRentRecord> records, boolean finalized) {
+        SegmentChange change;
+        compactionLock.readLock().lock();
+        try {
+            change = mergeLocked(districtCode, dealYm, records, finalized);
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        return change;
+    }
+
+    private SegmentChange mergeLocked(String districtCode, int dealYm, List<ApartmentRentRecord> records,
+                                      boolean finalized) {
+        RentColumnSegment previous = segments.get(new SegmentKey(districtCode, dealYm));
+        if (previous == null) {
+            RentColumnSegment segment = putLocked(districtCode, dealYm, records);
+            markFinalized(segment, finalized);
+            insertedRows.increment(segment.size());
+            return new SegmentChange(segment, segment.size(), 0, 0, 0);
+        }
+
+        List<ApartmentRentRecord> previousRecords = new ArrayList<>(previous.size());
+        for (int row = 0; row < previous.size(); row++) {
+            previousRecords.add(previous.record(row));
+        }
+        RowDiff<ApartmentRentRecord> diff = RowDiff.compute(previousRecords, records,
+                ApartmentRentRecord::naturalKey, ApartmentRentRecord::contentHash);
+
+        if (diff.isEmpty()) {
+            previous.markVerified(clock.instant());
+            markFinalized(previous, finalized);
+            return new SegmentChange(previous, 0, 0, 0, diff.unchanged());
+        }
+
+        RentColumnSegment segment = putLocked(districtCode, dealYm, records);
+        markFinalized(segment, finalized);
+        insertedRows.increment(diff.inserted().size());
+        updatedRows.increment(diff.updated().size());
+        deletedRows.increment(diff.deleted().size());
+
+        log.info("🔁 열 단위 세그먼트 변경 - 지역코드: {}, 계약년월: {}, 추가: {}건, 수정: {}건, 삭제: {}건, 유지: {}건",
+                districtCode, dealYm, diff.inserted().size(), diff.updated().size(), diff.deleted().size(),
+                diff.unchanged());
+        return new SegmentChange(segment, diff.inserted().size(), diff.updated().size(), diff.deleted().size(),
+                diff.unchanged());
+    }
+
+    public Optional<RentColumnSegment> get(String districtCode, int dealYm) {
+        return Optional.ofNullable(segments.get(new SegmentKey(districtCode, dealYm)));
+    }
+
+    public void remove(String districtCode, int dealYm) {
+        compactionLock.readLock().lock();
+        try {
+            RentColumnSegment removed = segments.remove(new SegmentKey(districtCode, dealYm));
+            if (removed != null) {
+                notifyRemoved(removed);
+            }
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 세그먼트 적재/제거 알림 등록
+     */
+    public void addListener(SegmentListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 적재된 모든 세그먼트 (지역코드, 계약년월 순)
+     */
+    public List<RentColumnSegment> segments() {
+        List<RentColumnSegment> result = new ArrayList<>(segments.values());
+        result.sort(Comparator.comparing(RentColumnSegment::districtCode).thenComparingInt(RentColumnSegment::dealYm));
+        return result;
+    }
+
+    public Dictionaries dictionaries() {
+        return dictionaries;
+    }
+
+    public long rowCount() {
+        long rows = 0;
+        for (RentColumnSegment segment : segments.values()) {
+            rows += segment.size();
+        }
+        return rows;
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (RentColumnSegment segment : segments.values()) {
+            bytes += segment.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    private void evictIfNeeded() {
+        long rows = rowCount();
+        if (rows <= maxRows) {
+            return;
+        }
+
+        List<RentColumnSegment> oldestFirst = new ArrayList<>(segments.values());
+        oldestFirst.sort(Comparator.comparing(RentColumnSegment::loadedAt));
+        for (RentColumnSegment segment : oldestFirst) {
+            if (rows <= maxRows || segments.size() <= 1) {
+                break;
+            }
+            if (segments.remove(new SegmentKey(segment.districtCode(), segment.dealYm()), segment)) {
+                rows -= segment.size();
+                notifyRemoved(segment);
+                log.info("🧹 열 단위 세그먼트 제거 - 지역코드: {}, 계약년월: {}, {}건",
+                        segment.districtCode(), segment.dealYm(), segment.size());
+            }
+        }
+    }
+
+    /**
+     * 사전 압축
+     * 남은 세그먼트를 새 사전으로 다시 인코딩해 교체하고 (버전 유지) 리스너에 새 사전과 세그먼트 전체를 알림
+     * 다음 압축 기준은 maxDictionaryEntries와 압축 후 크기의 2배 중 큰 값 (남은 값만으로 기준을 넘을 때 매번 압축하지 않도록)
+     */
+    private void compactIfNeeded() {
+        if (dictionaries.size() <= compactionThreshold) {
+            return;
+        }
+
+        compactionLock.writeLock().lock();
+        try {
+            int before = dictionaries.size();
+            if (before <= compactionThreshold) {
+                return;
+            }
+
+            Dictionaries compacted = new Dictionaries();
+            segments.replaceAll((key, segment) -> segment.reencode(compacted));
+            dictionaries = compacted;
+            compactionThreshold = Math.max(maxDictionaryEntries, 2L * compacted.size());
+            dictionaryCompactions.increment();
+
+            List<RentColumnSegment> reencoded = segments();
+            for (SegmentListener listener : listeners) {
+                listener.dictionariesCompacted(compacted, reencoded);
+            }
+            log.info("🗜️ 열 단위 저장소 문자열 사전 압축 - {}개 → {}개, 세그먼트 {}개, 다음 압축 기준: {}개",
+                    before, compacted.size(), reencoded.size(), compactionThreshold);
+        } finally {
+            compactionLock.writeLock().unlock();
+        }
+    }
+
+    private static void markFinalized(RentColumnSegment segment, boolean finalized) {
+        if (finalized) {
+            segment.markFinalized();
+        }
+    }
+
+    private void notifyRemoved(RentColumnSegment segment) {
+        for (SegmentListener listener : listeners) {
+            listener.segmentRemoved(segment);
+        }
+    }
+
+    private static Counter changeCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("public.data.columnar.changes")
+                .description("세그먼트를 다시 적재할 때 바뀐 행 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세그먼트 병합 결과
+     *
+     * @param segment 병합 후 세그먼트 (바뀐 행이 없으면 기존 세그먼트)
+     */
+    public record SegmentChange(RentColumnSegment segment, int inserted, int updated, int deleted, int unchanged) {
+
+        /**
+         * 세그먼트가 새 버전으로 교체됐는지 여부
+         */
+        public boolean changed() {
+            return inserted + updated + deleted > 0;
+        }
+    }
+
+    /**
+     * 저장소 전체가 공유하는 문자열 사전 (사전 압축 전까지)
+     */
+    public record Dictionaries(StringDictionary aptNm, StringDictionary umdNm, StringDictionary jibun,
+                               StringDictionary sggCd, StringDictionary contractType,
+                               StringDictionary contractTerm, StringDictionary useRRRight) {
+
+        Dictionaries() {
+            this(new StringDictionary(), new StringDictionary(), new StringDictionary(), new StringDictionary(),
+                    new StringDictionary(), new StringDictionary(), new StringDictionary());
+        }
+
+        /**
+         * 모든 사전에 등록된 문자열 수
+         */
+        public int size() {
+            return aptNm.size() + umdNm.size() + jibun.size() + sggCd.size() + contractType.size()
+                    + contractTerm.size() + useRRRight.size();
+        }
+    }
+
+    private record SegmentKey(String districtCode, int dealYm) {
+    }
+}
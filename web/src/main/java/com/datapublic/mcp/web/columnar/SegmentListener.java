@@ -0,0 +1,34 @@
+package com.datapublic.mcp.web.columnar;
+
+import java.util.List;
+
+/**
+ * 열 단위 저장소의 세그먼트 적재/제거 알림
+ * 세그먼트를 기반으로 한 보조 색인(예: 아파트명 검색 색인)이 바뀐 세그먼트만 다시 색인하도록 사용
+ * 적재한 스레드에서 바로 호출되므로 오래 걸리는 작업은 하지 않아야 함
+ */
+public interface SegmentListener {
+
+    /**
+     * 세그먼트 적재 (같은 지역코드/계약년월의 기존 세그먼트가 있으면 교체)
+     *
+     * @param previous 교체된 기존 세그먼트 (없으면 null)
+     * @param current 새로 적재한 세그먼트
+     */
+    void segmentPut(RentColumnSegment previous, RentColumnSegment current);
+
+    /**
+     * 세그먼트 제거 (명시적 제거 또는 maxRows 초과로 인한 제거)
+     */
+    void segmentRemoved(RentColumnSegment segment);
+
+    /**
+     * 문자열 사전 압축
+     * 모든 세그먼트가 dictionaries로 다시 인코딩한 사본으로 교체됨 (버전은 그대로, 사전 id는 모두 바뀜)
+     * 압축 중에는 세그먼트 적재가 멈추므로 사전 id 기반 색인은 segments로 다시 만들어 한 번에 바꿔야 함
+     *
+     * @param dictionaries 새 사전
+     * @param segments 교체된 세그먼트 전체
+     */
+    void dictionariesCompacted(RentColumnStore.Dictionaries dictionaries, List<RentColumnSegment> segments);
+}
@@ -0,0 +1,65 @@
+package com.datapublic.mcp.web.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 문자열 사전 (문자열 ↔ int id)
+ * 아파트명, 법정동명처럼 반복이 많은 값을 한 번만 보관하고 컬럼에는 id만 저장
+ * 추가만 가능하며, 등록은 잠금 안에서 하고 조회는 잠금 없이 배열 스냅샷을 읽음
+ * 값을 쓰던 세그먼트가 모두 제거돼도 등록된 값은 남으며, 정리는 RentColumnStore가 새 사전으로 옮기는 방식으로 함
+ */
+public final class StringDictionary {
+
+    /**
+     * null 값의 id
+     */
+    public static final int NULL_ID = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] values = new String[64];
+    private int size;
+
+    /**
+     * 문자열 → id (처음 보는 값이면 등록)
+     */
+    public synchronized int encode(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        values = current;
+        ids.put(value, size);
+        return size++;
+    }
+
+    /**
+     * 등록된 문자열의 id (없으면 NULL_ID), 필터 조건을 id 비교로 바꿀 때 사용
+     */
+    public synchronized int find(String value) {
+        Integer id = value == null ? null : ids.get(value);
+        return id == null ? NULL_ID : id;
+    }
+
+    /**
+     * id → 문자열
+     */
+    public String decode(int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,27 @@
+package com.datapublic.mcp.web.config;
+
+import com.datapublic.mcp.storage.cache.TwoTierCache;
+import com.datapublic.mcp.storage.cache.TwoTierCacheManager;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공공데이터 응답 캐시 설정
+ */
+@Configuration
+public class CacheConfig {
+    
+    /**
+     * 아파트 전월세 실거래가 페이지 캐시
+     * (LAWD_CD, DEAL_YMD, pageNo, numOfRows) 단위로 응답 body를 보관
+     */
+    @Bean
+    public TwoTierCache<PublicDataApiResponse.Body<ApartmentRentRecord>> apartmentRentPageCache(
+            TwoTierCacheManager cacheManager, ObjectMapper objectMapper) {
+        return cacheManager.create("apartment-rent",
+                objectMapper.getTypeFactory().constructParametricType(PublicDataApiResponse.Body.class, ApartmentRentRecord.class));
+    }
+}
@@ -0,0 +1,24 @@
+package com.datapublic.mcp.web.config;
+
+/**
+ * 공공데이터 조회 요청 처리 방식
+ * public.data.execution-mode 로 선택
+ */
+public enum ExecutionMode {
+    
+    /**
+     * 요청 스레드에서 업스트림 응답을 block() 으로 대기 (기존 방식)
+     */
+    BLOCKING,
+    
+    /**
+     * 컨트롤러부터 WebClient까지 Mono로 연결하여 요청 스레드를 즉시 반환
+     */
+    REACTIVE,
+    
+    /**
+     * BLOCKING과 같은 코드 경로를 Tomcat 요청 처리부터 Java 21 가상 스레드에서 실행
+     * block() 대기 중에는 캐리어 스레드가 반환되어 플랫폼 스레드를 점유하지 않음
+     */
+    VIRTUAL
+}
@@ -0,0 +1,33 @@
+package com.datapublic.mcp.web.config;
+
+import com.datapublic.mcp.web.lawd.LawdCodeIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 전국 법정동코드 색인 설정
+ * 기본 파일은 빌드 시 docs/legal-administrative-district-code.txt를 classpath의 lawd/ 아래로 복사한 것
+ */
+@Configuration
+@Slf4j
+public class LawdCodeConfig {
+
+    @Bean
+    public LawdCodeIndex lawdCodeIndex(
+            @Value("${public.data.lawd.code-file:classpath:lawd/legal-administrative-district-code.txt}") Resource codeFile)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        try (InputStream inputStream = codeFile.getInputStream()) {
+            LawdCodeIndex index = LawdCodeIndex.load(inputStream);
+            log.info("🗺️ 법정동코드 색인 적재 완료 - 전체 {}건, 폐지 제외 {}건, {}ms",
+                    index.size(), index.activeSize(), (System.nanoTime() - startedAt) / 1_000_000);
+            return index;
+        }
+    }
+}
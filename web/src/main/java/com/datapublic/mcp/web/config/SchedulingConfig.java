@@ -0,0 +1,13 @@
+package com.datapublic.mcp.web.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업 스케줄링 설정
+ * 개별 작업은 각자의 public.data.*.enabled 속성으로 켜고 끔
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,6 +6,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.DelegatingRequestMatcherHeaderWriter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 /**
  * Spring Security 설정
@@ -15,6 +21,11 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final RequestMatcher CONDITIONAL_GET_ENDPOINTS = new OrRequestMatcher(
+        AntPathRequestMatcher.antMatcher("/api/public-data/apartment-rent"),
+        AntPathRequestMatcher.antMatcher("/api/public-data/apartment-rent/district"),
+        AntPathRequestMatcher.antMatcher("/api/public-data/districts"));
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -22,7 +33,12 @@ public class SecurityConfig {
                 .anyRequest().permitAll()  // 모든 요청 허용
             )
             .csrf(csrf -> csrf.disable())  // CSRF 비활성화
-            .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable));  // H2 콘솔을 위한 설정
+            .headers(headers -> headers
+                .frameOptions(HeadersConfigurer.FrameOptionsConfig::disable)  // H2 콘솔을 위한 설정
+                // 조건부 요청(ETag)을 지원하는 조회 API는 컨트롤러가 계약년월에 맞는 Cache-Control을 직접 씀
+                .cacheControl(HeadersConfigurer.CacheControlConfig::disable)
+                .addHeaderWriter(new DelegatingRequestMatcherHeaderWriter(
+                    new NegatedRequestMatcher(CONDITIONAL_GET_ENDPOINTS), new CacheControlHeadersWriter())));
         
         return http.build();
     }
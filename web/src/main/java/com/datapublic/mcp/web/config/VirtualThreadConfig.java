@@ -0,0 +1,24 @@
+package com.datapublic.mcp.web.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 설정
+ * public.data.execution-mode=virtual 일 때 Tomcat 요청 처리 스레드를 가상 스레드로 교체
+ */
+@Configuration
+@ConditionalOnProperty(name = "public.data.execution-mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadConfig {
+    
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("🧵 Tomcat 요청 처리에 가상 스레드 사용");
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-virtual-"));
+    }
+}
@@ -2,18 +2,23 @@ package com.datapublic.mcp.web.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 /**
  * WebClient 설정
+ * 공공데이터 포털 전용 Reactor Netty 연결 풀/타임아웃/압축 설정 포함
  */
 @Configuration
 @Slf4j
@@ -22,12 +27,77 @@ public class WebClientConfig {
     @Value("${public.data.timeout:30}")
     private int timeout;
     
+    /**
+     * 공공데이터 포털 동시 연결 수 (Reactor Netty 기본값: max(CPU x 2, 16))
+     */
+    @Value("${public.data.http.max-connections:50}")
+    private int maxConnections;
+    
+    /**
+     * 연결을 기다리는 요청 최대 수 (초과 시 바로 실패)
+     */
+    @Value("${public.data.http.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+    
+    @Value("${public.data.http.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+    
+    /**
+     * 유휴 연결 유지 시간 (서버/LB가 먼저 끊기 전에 정리)
+     */
+    @Value("${public.data.http.max-idle-time:20s}")
+    private Duration maxIdleTime;
+    
+    @Value("${public.data.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+    
+    @Value("${public.data.http.evict-interval:30s}")
+    private Duration evictInterval;
+    
+    @Value("${public.data.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+    
+    /**
+     * 연결 풀 (공공데이터 포털 전용)
+     * 풀 지표는 reactor.netty.connection.provider.* 로 Micrometer에 등록
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider publicDataConnectionProvider() {
+        log.info("🔌 공공데이터 포털 연결 풀 - 최대 연결: {}, 대기 최대: {}, 유휴 유지: {}",
+                maxConnections, pendingAcquireMaxCount, maxIdleTime);
+        
+        return ConnectionProvider.builder("public-data")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+    
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider publicDataConnectionProvider) {
+        // 응답 타임아웃은 채널 단위로 걸리므로 시간 초과 시 연결을 바로 닫고 풀에 반환
+        HttpClient httpClient = HttpClient.create(publicDataConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true)
+                .responseTimeout(Duration.ofSeconds(timeout))
+                // 요청 URI 지표는 쿼리 문자열을 빼서 태그 수를 고정
+                .metrics(true, uri -> {
+                    int query = uri.indexOf('?');
+                    return query < 0 ? uri : uri.substring(0, query);
+                });
+        
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
+                // 10MB (본문을 집계하는 코덱에만 적용, 공공데이터 응답은 PublicDataResponseDecoder가 DataBuffer 단위로 디코딩)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
     }
     
@@ -0,0 +1,31 @@
+package com.datapublic.mcp.web.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Spring MVC 비동기 요청 설정
+ * Mono 반환 컨트롤러는 서블릿 비동기 요청으로 처리되므로
+ * 업스트림 타임아웃 x (재시도 횟수 + 1) + 최대 백오프 x 재시도 횟수 보다 먼저 끊기지 않도록 타임아웃을 맞춤
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+    
+    @Value("${public.data.timeout:30}")
+    private int timeout;
+    
+    @Value("${public.data.retry.count:3}")
+    private int retryCount;
+    
+    @Value("${public.data.retry.max-backoff:2s}")
+    private Duration retryMaxBackoff;
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout((long) timeout * (retryCount + 1) * 1000 + retryMaxBackoff.toMillis() * retryCount);
+    }
+}
@@ -1,14 +1,58 @@
 package com.datapublic.mcp.web.controller;
 
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.storage.cache.TwoTierCacheManager;
+import com.datapublic.mcp.storage.diff.ContentHasher;
+import com.datapublic.mcp.web.circuit.UpstreamCircuitBreaker;
+import com.datapublic.mcp.web.config.ExecutionMode;
+import com.datapublic.mcp.web.dto.ApartmentRentBulkResult;
 import com.datapublic.mcp.web.dto.ApartmentRentItem;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.ApartmentRentStreamEvent;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.dto.RentRollup;
+import com.datapublic.mcp.web.dto.RentStatisticsResult;
 import com.datapublic.mcp.web.dto.SeoulDistrictCode;
 import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.export.RentCsvExporter;
+import com.datapublic.mcp.web.lawd.LawdLevel;
+import com.datapublic.mcp.web.lawd.LawdRegion;
+import com.datapublic.mcp.web.lawd.RegionAutocomplete;
+import com.datapublic.mcp.web.query.RentFilter;
+import com.datapublic.mcp.web.query.RentQueryService;
+import com.datapublic.mcp.web.query.RentSort;
+import com.datapublic.mcp.web.search.RentSearchIndex;
+import com.datapublic.mcp.web.search.RentSearchQuery;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
 import com.datapublic.mcp.web.service.ApartmentRentService;
+import com.datapublic.mcp.web.statistics.RentRollupService;
+import com.datapublic.mcp.web.statistics.RentStatisticsService;
+import com.datapublic.mcp.web.statistics.RentType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +67,34 @@ import java.util.Map;
 public class PublicDataController {
     
     private final ApartmentRentService apartmentRentService;
+    private final ApartmentRentBulkService apartmentRentBulkService;
+    private final RentStatisticsService rentStatisticsService;
+    private final RentRollupService rentRollupService;
+    private final RentQueryService rentQueryService;
+    private final DealMonthPolicy dealMonthPolicy;
+    private final RentCsvExporter rentCsvExporter;
+    private final RegionAutocomplete regionAutocomplete;
+    private final RentSearchIndex rentSearchIndex;
+    private final TwoTierCacheManager cacheManager;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 구 목록은 배포 사이에 바뀌지 않으므로 내용 해시를 한 번만 계산
+     */
+    private static final String DISTRICTS_ETAG = toEtag(districtsVersion());
+    
+    private static final CacheControl DISTRICTS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    
+    @Value("${public.data.execution-mode:reactive}")
+    private ExecutionMode executionMode;
+    
+    /**
+     * 스트리밍 응답(NDJSON/SSE) 최대 시간 (0이면 제한 없음)
+     * 다중 구/다중 월 조회는 전역 비동기 타임아웃(업스트림 호출 1건 기준)보다 오래 걸리므로 따로 둠
+     */
+    @Value("${public.data.stream.timeout:30m}")
+    private Duration streamTimeout;
     
     /**
      * 서울특별시 아파트 전월세 실거래가 조회 (지역코드로)
@@ -31,40 +103,39 @@ public class PublicDataController {
      * @param dealYearMonth 계약년월 (6자리, 예: 202401)
      * @param pageNo 페이지 번호 (기본값: 1)
      * @param numOfRows 한 페이지 결과 수 (기본값: 10)
+     * @param fetchAll true면 pageNo/numOfRows를 무시하고 해당 월 전체 조회
+     * @param ifNoneMatch 이전 응답의 ETag (캐시된 내용과 같으면 조회 없이 304)
      * @return 아파트 전월세 실거래가 목록
      */
     @GetMapping("/apartment-rent")
-    public ResponseEntity<Map<String, Object>> getApartmentRentData(
+    public Mono<ResponseEntity<Map<String, Object>>> getApartmentRentData(
             @RequestParam String districtCode,
             @RequestParam String dealYearMonth,
             @RequestParam(defaultValue = "1") Integer pageNo,
-            @RequestParam(defaultValue = "10") Integer numOfRows) {
+            @RequestParam(defaultValue = "10") Integer numOfRows,
+            @RequestParam(defaultValue = "false") boolean fetchAll,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        log.info("🏠 아파트 전월세 실거래가 조회 요청 - 지역코드: {}, 계약년월: {}", districtCode, dealYearMonth);
+        log.info("🏠 아파트 전월세 실거래가 조회 요청 - 지역코드: {}, 계약년월: {}, 전체 조회: {}", districtCode, dealYearMonth, fetchAll);
         
-        try {
-            List<ApartmentRentItem> items = apartmentRentService.getApartmentRentData(
-                    districtCode, dealYearMonth, pageNo, numOfRows);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", items);
-            response.put("totalCount", items.size());
-            response.put("pageNo", pageNo);
-            response.put("numOfRows", numOfRows);
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (PublicDataApiException e) {
-            log.error("❌ 아파트 전월세 실거래가 조회 실패", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("errorCode", e.getErrorCode());
-            errorResponse.put("errorMessage", e.getErrorMessage());
-            
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
+        CacheControl cacheControl = cacheControl(dealYearMonth);
+        
+        // 캐시에 있는 페이지의 내용 버전이 ETag와 같으면 공공데이터 포털/저장소 조회와 직렬화 없이 304
+        Mono<ResponseEntity<Map<String, Object>>> notModified = ifNoneMatch == null
+                ? Mono.empty()
+                : (fetchAll
+                        ? apartmentRentService.findCachedMonthVersion(districtCode, dealYearMonth)
+                        : apartmentRentService.findCachedPageVersion(districtCode, dealYearMonth, pageNo, numOfRows))
+                .map(PublicDataController::toEtag)
+                .filter(etag -> matchesEtag(ifNoneMatch, etag))
+                .map(etag -> notModified(etag, cacheControl));
+        
+        Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> page = fetchAll
+                ? apartmentRentService.getAllApartmentRentDataReactive(districtCode, dealYearMonth)
+                : apartmentRentService.getApartmentRentPageReactive(districtCode, dealYearMonth, pageNo, numOfRows);
+        
+        return execute(notModified)
+                .switchIfEmpty(Mono.defer(() -> toResponse(page, cacheControl)));
     }
     
     /**
@@ -74,51 +145,549 @@ public class PublicDataController {
      * @param dealYearMonth 계약년월 (6자리, 예: 202401)
      * @param pageNo 페이지 번호 (기본값: 1)
      * @param numOfRows 한 페이지 결과 수 (기본값: 10)
+     * @param fetchAll true면 pageNo/numOfRows를 무시하고 해당 월 전체 조회
      * @return 아파트 전월세 실거래가 목록
      */
     @GetMapping("/apartment-rent/district")
-    public ResponseEntity<Map<String, Object>> getApartmentRentDataByDistrictName(
+    public Mono<ResponseEntity<Map<String, Object>>> getApartmentRentDataByDistrictName(
             @RequestParam String districtName,
             @RequestParam String dealYearMonth,
             @RequestParam(defaultValue = "1") Integer pageNo,
-            @RequestParam(defaultValue = "10") Integer numOfRows) {
+            @RequestParam(defaultValue = "10") Integer numOfRows,
+            @RequestParam(defaultValue = "false") boolean fetchAll) {
+        
+        log.info("🏠 아파트 전월세 실거래가 조회 요청 - 구명: {}, 계약년월: {}, 전체 조회: {}", districtName, dealYearMonth, fetchAll);
+        
+        Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> page = fetchAll
+                ? apartmentRentService.getAllApartmentRentDataByDistrictNameReactive(districtName, dealYearMonth)
+                : apartmentRentService.getApartmentRentPageByDistrictNameReactive(districtName, dealYearMonth, pageNo, numOfRows);
+        
+        return toResponse(page, cacheControl(dealYearMonth));
+    }
+    
+    /**
+     * 서울특별시 다중 구/다중 월 일괄 조회
+     * 일부 (구, 계약년월) 조회가 실패해도 나머지 결과를 반환하고 실패 목록을 함께 내려줌
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @return 합쳐진 아파트 전월세 실거래가 목록과 조합별 결과
+     */
+    @GetMapping("/apartment-rent/bulk")
+    public Mono<ResponseEntity<Map<String, Object>>> getBulkApartmentRentData(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        log.info("📦 아파트 전월세 일괄 조회 요청 - 구: {}, 계약년월: {}~{}", districts, fromYearMonth, endYearMonth);
+        
+        Mono<ApartmentRentBulkResult> bulk = apartmentRentBulkService
+                .getBulkApartmentRentDataReactive(districts, fromYearMonth, endYearMonth);
         
-        log.info("🏠 아파트 전월세 실거래가 조회 요청 - 구명: {}, 계약년월: {}", districtName, dealYearMonth);
+        return execute(bulk)
+                .map(result -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("partial", !result.getFailures().isEmpty());
+                    response.put("data", toItems(result.getItems()));
+                    response.put("totalCount", result.getItems().size());
+                    response.put("segments", result.getSegments());
+                    response.put("failures", result.getFailures());
+                    
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(PublicDataApiException.class, this::errorResponse);
+    }
+    
+    /**
+     * 다중 구/다중 월 일괄 조회 스트리밍 (NDJSON)
+     * 결과 전체를 모으지 않고 받는 대로 한 줄에 거래 하나씩 내보냄 (클라이언트가 느리면 조회도 늦춰짐)
+     * 거래 줄은 일괄 조회의 data 항목과 같은 형식이며,
+     * 실패한 조합은 {"type":"failure",...}, 마지막 줄은 {"type":"summary",...}
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @return 거래 줄 스트림 (파라미터 오류는 400과 오류 줄 하나)
+     */
+    @GetMapping(value = "/apartment-rent/bulk/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamBulkApartmentRentData(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        log.info("🌊 아파트 전월세 스트리밍 조회 요청 (NDJSON) - 구: {}, 계약년월: {}~{}", districts, fromYearMonth, endYearMonth);
         
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeoutMillis());
         try {
-            List<ApartmentRentItem> items = apartmentRentService.getApartmentRentDataByDistrictName(
-                    districtName, dealYearMonth, pageNo, numOfRows);
+            Flux<ApartmentRentStreamEvent> events = apartmentRentBulkService
+                    .streamBulkApartmentRentData(districts, fromYearMonth, endYearMonth);
+            emit(events.map(this::toStreamLine), emitter, PublicDataController::sendLine);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+            
+        } catch (PublicDataApiException e) {
+            emit(Flux.just(badRequest(e).getBody()), emitter, PublicDataController::sendLine);
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        }
+    }
+    
+    /**
+     * 다중 구/다중 월 일괄 조회 스트리밍 (Server-Sent Events)
+     * NDJSON 스트리밍과 같은 내용을 이벤트 이름 item / failure / summary로 구분해 내보냄
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @return 이벤트 스트림 (파라미터 오류는 400과 error 이벤트 하나)
+     */
+    @GetMapping(value = "/apartment-rent/bulk/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBulkApartmentRentEvents(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        log.info("🌊 아파트 전월세 스트리밍 조회 요청 (SSE) - 구: {}, 계약년월: {}~{}", districts, fromYearMonth, endYearMonth);
+        
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis());
+        try {
+            Flux<ApartmentRentStreamEvent> events = apartmentRentBulkService
+                    .streamBulkApartmentRentData(districts, fromYearMonth, endYearMonth);
+            emit(events, emitter, (sse, event) -> sse.send(SseEmitter.event()
+                    .name(switch (event) {
+                        case ApartmentRentStreamEvent.Item item -> "item";
+                        case ApartmentRentStreamEvent.SegmentFailure failure -> "failure";
+                        case ApartmentRentStreamEvent.Summary summary -> "summary";
+                    })
+                    .data(toStreamLine(event))));
+            return ResponseEntity.ok(emitter);
+            
+        } catch (PublicDataApiException e) {
+            emit(Flux.just(badRequest(e).getBody()), emitter,
+                    (sse, body) -> sse.send(SseEmitter.event().name("error").data(body)));
+            return ResponseEntity.badRequest().body(emitter);
+        }
+    }
+    
+    /**
+     * 다중 구/다중 월 실거래 gzip CSV 내보내기 (pandas, Spark 등 대량 적재용)
+     * 열 순서는 RentCsvColumn 선언 순서로 고정되고, 행은 지역코드 → 계약년월 순으로 받는 대로 압축해 씀
+     * 연결이 끊기면 마지막 행의 지역코드:계약년월:그 달에서 받은 행 수를 cursor로 넘겨 이어받음
+     * (헤더 없이 다음 행부터, 기존 파일에 이어붙일 수 있음)
+     * 중간에 조합 하나라도 적재에 실패하면 gzip을 마무리하지 않고 끊으므로 잘린 파일로 실패를 알 수 있음
+     * 응답은 비동기로 쓰며 타임아웃은 단건 조회용 MVC 비동기 타임아웃 대신 streamTimeout을 씀
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202301)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @param cursor 이어받을 위치 (예: 11680:202402:1200, 기본값: 없음 = 처음부터 헤더 포함)
+     * @return 파라미터 오류면 400 (JSON), 아니면 gzip CSV 스트림
+     */
+    @GetMapping("/apartment-rent/export")
+    public ResponseEntity<StreamingResponseBody> exportApartmentRentCsv(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth,
+            @RequestParam(required = false) String cursor,
+            HttpServletRequest request) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        log.info("📤 아파트 전월세 CSV 내보내기 요청 - 구: {}, 계약년월: {}~{}, 커서: {}", districts, fromYearMonth, endYearMonth, cursor);
+        
+        RentCsvExporter.Export export;
+        try {
+            export = rentCsvExporter.prepare(districts, fromYearMonth, endYearMonth, cursor);
+        } catch (PublicDataApiException e) {
+            // 반환 타입이 StreamingResponseBody여야 비동기로 쓰이므로 오류 본문도 같은 방식으로 씀
+            Map<String, Object> error = badRequest(e).getBody();
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+        
+        // StreamingResponseBody는 비동기 요청에 이미 정해진 타임아웃을 그대로 쓰므로 반환 전에 바꿔 둠
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis());
+        StreamingResponseBody body = out -> rentCsvExporter.write(export, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(export.fileName())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+    
+    /**
+     * 서울특별시 아파트 전월세 통계 조회
+     * 구/법정동/면적 구간/계약년월별 건수, 평균, p10/p50/p90 (금액 단위: 만원)
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @param groupBy 그룹 기준, 쉼표 구분 (district, dong, areaBand, month / 기본값: district)
+     * @param rentType 전월세 구분 (all, jeonse, monthly / 기본값: all)
+     * @return 그룹별 통계와 실패한 조합 목록
+     */
+    @GetMapping("/apartment-rent/statistics")
+    public Mono<ResponseEntity<Map<String, Object>>> getApartmentRentStatistics(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth,
+            @RequestParam(defaultValue = "district") List<String> groupBy,
+            @RequestParam(defaultValue = "all") String rentType) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        log.info("📊 아파트 전월세 통계 조회 요청 - 구: {}, 계약년월: {}~{}, 그룹: {}", districts, fromYearMonth, endYearMonth, groupBy);
+        
+        Mono<RentStatisticsResult> statistics = rentStatisticsService
+                .getStatisticsReactive(districts, fromYearMonth, endYearMonth, groupBy, rentType);
+        
+        return execute(statistics)
+                .map(result -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("partial", !result.getFailures().isEmpty());
+                    response.put("groups", result.getGroups());
+                    response.put("rowCount", result.getRowCount());
+                    response.put("segmentCount", result.getSegmentCount());
+                    response.put("failures", result.getFailures());
+                    
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(PublicDataApiException.class, this::errorResponse);
+    }
+    
+    /**
+     * 다중 구/다중 월 실거래 필터/정렬 조회
+     * 조건은 서버에서 열 단위 저장소/검색 색인에 내려보내 확인하고, 정렬 후 상위 limit건만 반환
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @param aptNm 아파트명 일부
+     * @param umdNm 법정동명 (정확히 일치)
+     * @param contractType 계약구분 (정확히 일치, 예: 신규, 갱신)
+     * @param rentType 전월세 구분 (all, jeonse, monthly / 기본값: all)
+     * @param sort 정렬 기준, 쉼표 구분, "-"를 붙이면 내림차순 (dealDate, deposit, monthlyRent, area, floor, buildYear / 기본값: -dealDate)
+     * @param limit 최대 결과 수 (기본값: 100, 최대 1000)
+     * @return 정렬된 거래 목록, 조건에 맞는 전체 건수, 실패한 조합 목록
+     */
+    @GetMapping("/apartment-rent/query")
+    public Mono<ResponseEntity<Map<String, Object>>> queryApartmentRent(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth,
+            @RequestParam(required = false) String aptNm,
+            @RequestParam(required = false) String umdNm,
+            @RequestParam(required = false) String contractType,
+            @RequestParam(defaultValue = "all") String rentType,
+            @RequestParam(required = false) Double minArea,
+            @RequestParam(required = false) Double maxArea,
+            @RequestParam(required = false) Integer minFloor,
+            @RequestParam(required = false) Integer maxFloor,
+            @RequestParam(required = false) Long minDeposit,
+            @RequestParam(required = false) Long maxDeposit,
+            @RequestParam(required = false) Long minMonthlyRent,
+            @RequestParam(required = false) Long maxMonthlyRent,
+            @RequestParam(required = false) Integer minBuildYear,
+            @RequestParam(required = false) Integer maxBuildYear,
+            @RequestParam(required = false) List<String> sort,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        String endYearMonth = toYearMonth != null ? toYearMonth : fromYearMonth;
+        
+        Mono<RentQueryService.Result> result = Mono.defer(() -> rentQueryService.queryReactive(
+                districts, fromYearMonth, endYearMonth,
+                RentFilter.builder()
+                        .aptNm(aptNm).umdNm(umdNm).contractType(contractType)
+                        .rentType(RentType.fromParameter(rentType))
+                        .minArea(minArea).maxArea(maxArea)
+                        .minFloor(minFloor).maxFloor(maxFloor)
+                        .minDeposit(minDeposit).maxDeposit(maxDeposit)
+                        .minMonthlyRent(minMonthlyRent).maxMonthlyRent(maxMonthlyRent)
+                        .minBuildYear(minBuildYear).maxBuildYear(maxBuildYear)
+                        .build(),
+                RentSort.fromParameters(sort), limit));
+        
+        return execute(result)
+                .map(query -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("partial", !query.failures().isEmpty());
+                    response.put("data", toItems(query.records()));
+                    response.put("totalCount", query.totalCount());
+                    response.put("scannedRowCount", query.scannedRowCount());
+                    response.put("segmentCount", query.segmentCount());
+                    response.put("failures", query.failures());
+                    
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(PublicDataApiException.class, this::errorResponse);
+    }
+    
+    /**
+     * 서울특별시 월별 전월세 집계 조회 (대시보드용)
+     * 미리 계산된 (구, 계약년월, 계약구분, 면적 구간) 집계만 반환하며 공공데이터 포털을 호출하지 않음
+     * 아직 집계되지 않은 조합은 missing에 담김
+     * 
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: all = 서울 25개 구)
+     * @param fromYearMonth 시작 계약년월 (6자리, 예: 202401)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 시작 계약년월)
+     * @return 집계 목록과 집계되지 않은 조합 목록
+     */
+    @GetMapping("/apartment-rent/rollups")
+    public ResponseEntity<Map<String, Object>> getApartmentRentRollups(
+            @RequestParam(defaultValue = ApartmentRentBulkService.ALL_DISTRICTS) List<String> districts,
+            @RequestParam String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth) {
+        
+        try {
+            List<String> districtCodes = apartmentRentBulkService.resolveDistrictCodes(districts);
+            List<String> months = apartmentRentBulkService.resolveMonths(fromYearMonth,
+                    toYearMonth != null ? toYearMonth : fromYearMonth);
+            
+            List<RentRollup> rollups = new ArrayList<>();
+            List<Map<String, String>> missing = new ArrayList<>();
+            for (String districtCode : districtCodes) {
+                for (String month : months) {
+                    rentRollupService.getRollups(districtCode, Integer.parseInt(month))
+                            .ifPresentOrElse(rollups::addAll,
+                                    () -> missing.add(Map.of("districtCode", districtCode, "dealYearMonth", month)));
+                }
+            }
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", items);
-            response.put("totalCount", items.size());
-            response.put("pageNo", pageNo);
-            response.put("numOfRows", numOfRows);
+            response.put("rollups", rollups);
+            response.put("missing", missing);
             
             return ResponseEntity.ok(response);
             
         } catch (PublicDataApiException e) {
-            log.error("❌ 아파트 전월세 실거래가 조회 실패", e);
+            return badRequest(e);
+        }
+    }
+    
+    /**
+     * 아파트명/법정동/지번으로 실거래 검색 (여러 구, 여러 달)
+     * 열 단위 저장소에 적재된 (구, 계약년월)만 검색하며 공공데이터 포털을 호출하지 않음
+     * 검색 대상 범위는 indexedSegmentCount로 확인
+     * 
+     * @param aptNm 아파트명 일부 (예: "래미안", "자이", 공백/기호 무시)
+     * @param umdNm 법정동명 (정확히 일치, 예: "대치동")
+     * @param jibun 지번 (정확히 일치, 예: "316")
+     * @param districts 지역코드 또는 구명 목록, 쉼표 구분 (기본값: 적재된 전체)
+     * @param fromYearMonth 시작 계약년월 (6자리, 기본값: 제한 없음)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, 기본값: 제한 없음)
+     * @param limit 최대 결과 수 (기본값: 100, 최대 1000)
+     * @return 계약년월 최신순 거래 목록과 전체 일치 건수
+     */
+    @GetMapping("/apartment-rent/search")
+    public ResponseEntity<Map<String, Object>> searchApartmentRent(
+            @RequestParam(required = false) String aptNm,
+            @RequestParam(required = false) String umdNm,
+            @RequestParam(required = false) String jibun,
+            @RequestParam(required = false) List<String> districts,
+            @RequestParam(required = false) String fromYearMonth,
+            @RequestParam(required = false) String toYearMonth,
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        try {
+            List<String> districtCodes = districts == null || districts.isEmpty()
+                    ? List.of()
+                    : apartmentRentBulkService.resolveDistrictCodes(districts);
+            RentSearchIndex.SearchResult result = rentSearchIndex.search(RentSearchQuery.of(
+                    aptNm, umdNm, jibun, districtCodes, fromYearMonth, toYearMonth, limit));
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("errorCode", e.getErrorCode());
-            errorResponse.put("errorMessage", e.getErrorMessage());
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", toItems(result.records()));
+            response.put("totalCount", result.totalCount());
+            response.put("segmentCount", result.segmentCount());
+            response.put("indexedSegmentCount", result.indexedSegmentCount());
             
-            return ResponseEntity.badRequest().body(errorResponse);
+            return ResponseEntity.ok(response);
+            
+        } catch (PublicDataApiException e) {
+            return badRequest(e);
         }
     }
     
+    /**
+     * 조회 결과를 공통 응답 형식으로 변환
+     * totalCount는 공공데이터 포털이 알려준 해당 월 전체 건수
+     * ETag는 body 내용 버전이므로, 캐시에 없어 다시 조회했더라도 내용이 같으면 If-None-Match와 일치해 304로 응답됨 (직렬화 생략)
+     */
+    private Mono<ResponseEntity<Map<String, Object>>> toResponse(Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> page,
+                                                              CacheControl cacheControl) {
+        return execute(page)
+                .map(body -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("data", toItems(body.getItems().getItem()));
+                    response.put("totalCount", body.getTotalCount());
+                    response.put("pageNo", body.getPageNo());
+                    response.put("numOfRows", body.getNumOfRows());
+                    
+                    return ResponseEntity.ok()
+                            .eTag(toEtag(ApartmentRentService.contentVersion(body)))
+                            .cacheControl(cacheControl)
+                            .body(response);
+                })
+                .onErrorResume(PublicDataApiException.class, this::errorResponse);
+    }
+    
+    /**
+     * 계약년월별 Cache-Control
+     * 확정된 달은 내용이 바뀌지 않으므로 서버 캐시 TTL 동안 재사용, 열린 달은 매번 ETag로 재검증
+     */
+    private CacheControl cacheControl(String dealYearMonth) {
+        return dealMonthPolicy.isFinalized(dealYearMonth)
+                ? CacheControl.maxAge(dealMonthPolicy.cacheTtl(dealYearMonth)).cachePublic()
+                : CacheControl.noCache();
+    }
+    
+    private static ResponseEntity<Map<String, Object>> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+    
+    private static String toEtag(long version) {
+        return "\"" + Long.toHexString(version) + "\"";
+    }
+    
+    /**
+     * If-None-Match에 etag가 있는지 (W/ 접두어는 무시하는 약한 비교, "*"는 항상 일치)
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 내부 레코드 → 응답 아이템 (기존 문자열 JSON 형식 유지)
+     */
+    private List<ApartmentRentItem> toItems(List<ApartmentRentRecord> records) {
+        return records.stream().map(ApartmentRentItem::from).toList();
+    }
+    
+    /**
+     * 스트리밍 이벤트 → 한 줄 (거래는 일괄 조회 data 항목과 같은 형식, 실패/요약은 type으로 구분)
+     */
+    private Object toStreamLine(ApartmentRentStreamEvent event) {
+        return switch (event) {
+            case ApartmentRentStreamEvent.Item item -> ApartmentRentItem.from(item.record());
+            case ApartmentRentStreamEvent.SegmentFailure failure -> {
+                Map<String, Object> line = new HashMap<>();
+                line.put("type", "failure");
+                line.put("failure", failure.failure());
+                yield line;
+            }
+            case ApartmentRentStreamEvent.Summary summary -> {
+                Map<String, Object> line = new HashMap<>();
+                line.put("type", "summary");
+                line.put("partial", !summary.failures().isEmpty());
+                line.put("totalCount", summary.totalCount());
+                line.put("segments", summary.segments());
+                line.put("failures", summary.failures());
+                yield line;
+            }
+        };
+    }
+    
+    /**
+     * Flux를 스트리밍 응답으로 씀
+     * 응답 쓰기는 블로킹이므로 boundedElastic에서 한 건씩 쓰고, 다 쓴 뒤에 다음 건을 요청함 (클라이언트가 느리면 조회도 늦춰짐)
+     * 클라이언트가 끊거나 streamTimeout이 지나면 조회를 취소
+     */
+    private static <T, E extends ResponseBodyEmitter> void emit(Flux<T> source, E emitter, StreamWriter<E, T> writer) {
+        Disposable subscription = source
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .doOnNext(element -> {
+                    try {
+                        writer.write(emitter, element);
+                    } catch (IOException e) {
+                        throw Exceptions.propagate(e);
+                    }
+                })
+                .subscribe(null, emitter::completeWithError, emitter::complete);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        emitter.onCompletion(subscription::dispose);
+    }
+    
+    /**
+     * NDJSON 한 줄 (JSON + 줄바꿈)
+     */
+    private static void sendLine(ResponseBodyEmitter emitter, Object line) throws IOException {
+        emitter.send(line, MediaType.APPLICATION_JSON);
+        emitter.send("\n", MediaType.TEXT_PLAIN);
+    }
+    
+    private long streamTimeoutMillis() {
+        // ResponseBodyEmitter는 0 이하를 제한 없음으로 처리 (서블릿 AsyncContext 기준)
+        return streamTimeout.isZero() ? -1 : streamTimeout.toMillis();
+    }
+    
+    /**
+     * 실행 방식에 맞게 조회 Mono를 감쌈
+     * BLOCKING/VIRTUAL 모드에서는 요청 스레드에서 block()으로 기다린 결과를 사용
+     */
+    private <T> Mono<T> execute(Mono<T> result) {
+        return executionMode == ExecutionMode.REACTIVE
+                ? result
+                : Mono.fromCallable(result::block);
+    }
+    
+    /**
+     * 조회 실패 응답 (400)
+     */
+    private Mono<ResponseEntity<Map<String, Object>>> errorResponse(PublicDataApiException e) {
+        return Mono.just(badRequest(e));
+    }
+    
+    private ResponseEntity<Map<String, Object>> badRequest(PublicDataApiException e) {
+        log.error("❌ 아파트 전월세 실거래가 조회 실패", e);
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("errorCode", e.getErrorCode());
+        errorResponse.put("errorMessage", e.getErrorMessage());
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
     /**
      * 서울특별시 구 목록 조회
      * 
+     * @param ifNoneMatch 이전 응답의 ETag (같으면 304)
      * @return 서울특별시 구 목록
      */
     @GetMapping("/districts")
-    public ResponseEntity<Map<String, Object>> getDistricts() {
+    public ResponseEntity<Map<String, Object>> getDistricts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("🗺️ 서울특별시 구 목록 조회 요청");
         
+        if (matchesEtag(ifNoneMatch, DISTRICTS_ETAG)) {
+            return notModified(DISTRICTS_ETAG, DISTRICTS_CACHE_CONTROL);
+        }
+        
         try {
             List<SeoulDistrictCode.District> districts = apartmentRentService.getAvailableDistricts();
             Map<String, String> codeMapping = apartmentRentService.getDistrictCodeMapping();
@@ -129,7 +698,10 @@ public class PublicDataController {
             response.put("codeMapping", codeMapping);
             response.put("totalCount", districts.size());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                    .eTag(DISTRICTS_ETAG)
+                    .cacheControl(DISTRICTS_CACHE_CONTROL)
+                    .body(response);
             
         } catch (Exception e) {
             log.error("❌ 서울특별시 구 목록 조회 실패", e);
@@ -142,6 +714,45 @@ public class PublicDataController {
         }
     }
     
+    private static long districtsVersion() {
+        ContentHasher hasher = new ContentHasher();
+        for (SeoulDistrictCode.District district : SeoulDistrictCode.getAllDistricts()) {
+            hasher.add(district.getCode()).add(district.getName());
+        }
+        return hasher.hash();
+    }
+    
+    /**
+     * 전국 시도/시군구/읍면동/리 이름 자동완성
+     * 
+     * @param q 입력 문자열 (예: "강남", "역ㅅ", "ㄱㄴ", "강남 역삼")
+     * @param level 계층 제한 (sido, sigungu, eupmyeondong, ri, 기본값: 전체)
+     * @param limit 최대 결과 수 (기본값: 10, 최대 50)
+     * @return 순위순 지역 목록 (코드, 지역코드, 전체 이름, 계층)
+     */
+    @GetMapping("/regions/autocomplete")
+    public ResponseEntity<Map<String, Object>> autocompleteRegions(
+            @RequestParam String q,
+            @RequestParam(required = false) String level,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        try {
+            LawdLevel levelFilter = level == null || level.isBlank() ? null : LawdLevel.fromParameter(level);
+            List<LawdRegion> regions = regionAutocomplete.suggest(q, levelFilter, limit);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("query", q);
+            response.put("data", regions);
+            response.put("totalCount", regions.size());
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (PublicDataApiException e) {
+            return badRequest(e);
+        }
+    }
+    
     /**
      * 공공데이터 포털 API 상태 확인
      * 
@@ -156,8 +767,19 @@ public class PublicDataController {
         response.put("service", "공공데이터 포털 API");
         response.put("status", "ACTIVE");
         response.put("availableApis", List.of("아파트 전월세 실거래가"));
+        response.put("cache", cacheManager.getStatistics());
+        response.put("circuit", circuitBreaker.getStatus());
         response.put("timestamp", System.currentTimeMillis());
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 스트리밍 응답 한 건 쓰기
+     */
+    @FunctionalInterface
+    private interface StreamWriter<E extends ResponseBodyEmitter, T> {
+        
+        void write(E emitter, T element) throws IOException;
+    }
 }
@@ -0,0 +1,25 @@
+package com.datapublic.mcp.web.crawler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백그라운드 프리패치 진행 현황 Actuator 엔드포인트 (/actuator/publicdatacrawler)
+ * 웹 노출은 management.endpoints.web.exposure.include에 publicdatacrawler 추가 필요
+ */
+@Component
+@Endpoint(id = "publicdatacrawler")
+@ConditionalOnProperty(name = "public.data.crawler.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CrawlerEndpoint {
+
+    private final PrefetchCrawler prefetchCrawler;
+
+    @ReadOperation
+    public CrawlerStatus crawler() {
+        return prefetchCrawler.getStatus();
+    }
+}
@@ -0,0 +1,27 @@
+package com.datapublic.mcp.web.crawler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 프리패치 진행 현황
+ *
+ * @param running 지금 수집 중인지 여부
+ * @param targets 수집 대상 (지역코드, 계약년월) 수
+ * @param pending 다시 수집해야 하는 대상 수
+ * @param neverCrawled 한 번도 수집에 성공하지 못한 대상 수
+ * @param oldestSuccessAt 수집에 성공한 대상 중 가장 오래된 성공 시각
+ * @param lagSeconds oldestSuccessAt 이후 지난 시간 (초)
+ * @param backgroundBudget 프리패치가 쓸 수 있는 오늘 백그라운드 호출 수
+ * @param backgroundUsed 오늘 사용한 백그라운드 호출 수
+ * @param lastRunStartedAt 마지막 수집 시작 시각
+ * @param lastRunFinishedAt 마지막 수집 종료 시각
+ * @param lastRunCrawled 마지막 수집에서 성공한 대상 수
+ * @param lastRunFailed 마지막 수집에서 실패한 대상 수
+ * @param lastStopReason 마지막 수집 종료 사유 (completed, quota-share, quota, circuit-open, max-run)
+ */
+public record CrawlerStatus(boolean running, int targets, int pending, int neverCrawled,
+                            LocalDateTime oldestSuccessAt, Long lagSeconds,
+                            long backgroundBudget, long backgroundUsed,
+                            LocalDateTime lastRunStartedAt, LocalDateTime lastRunFinishedAt,
+                            int lastRunCrawled, int lastRunFailed, String lastStopReason) {
+}
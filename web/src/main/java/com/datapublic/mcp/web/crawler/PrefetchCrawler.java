@@ -0,0 +1,299 @@
+package com.datapublic.mcp.web.crawler;
+
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.storage.entity.PrefetchCheckpoint;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import com.datapublic.mcp.storage.service.PrefetchCheckpointStore;
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.quota.QuotaGovernor;
+import com.datapublic.mcp.web.quota.QuotaStatus;
+import com.datapublic.mcp.web.quota.RequestPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 최근 계약년월 백그라운드 프리패치
+ * 한가한 시간대(기본: 01~05시)에 서울 25개 구(+ 추가 지역코드) × 최근 months개월을 BACKGROUND 우선순위로 수집해
+ * 실거래 저장소와 열 단위 저장소를 미리 채움 (RentColumnLoader.reload로 캐시를 거치지 않고 공공데이터 포털에서 다시 받아 병합)
+ *
+ * - 확정된 달은 확정된 뒤 한 번 수집하면 끝, 열린 달은 openMonthInterval마다 다시 수집
+ * - 마지막 성공 시각이 오래된 대상부터 수집하고 결과를 prefetch_checkpoint에 기록하므로 재시작 후 이어서 진행
+ * - 오늘 백그라운드 호출이 일일 한도 × quotaShare를 넘거나 한도/서킷 오류가 나면 이번 수집을 멈춤
+ */
+@Component
+@ConditionalOnProperty(name = "public.data.crawler.enabled", havingValue = "true")
+@Slf4j
+public final class PrefetchCrawler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final RentColumnLoader columnLoader;
+    private final PrefetchCheckpointStore checkpointStore;
+    private final QuotaGovernor quotaGovernor;
+    private final DealMonthPolicy dealMonthPolicy;
+    private final Clock clock;
+
+    private final int months;
+    private final List<String> extraDistricts;
+    private final double quotaShare;
+    private final Duration openMonthInterval;
+    private final Duration maxRun;
+    private final Duration fetchTimeout;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Progress progress = new Progress(0, 0, 0, null);
+    private volatile LastRun lastRun = new LastRun(null, null, 0, 0, null);
+
+    @Autowired
+    public PrefetchCrawler(RentColumnLoader columnLoader, PrefetchCheckpointStore checkpointStore,
+                           QuotaGovernor quotaGovernor, DealMonthPolicy dealMonthPolicy, MeterRegistry meterRegistry,
+                           @Value("${public.data.crawler.months:3}") int months,
+                           @Value("${public.data.crawler.extra-districts:}") List<String> extraDistricts,
+                           @Value("${public.data.crawler.quota-share:0.3}") double quotaShare,
+                           @Value("${public.data.crawler.open-month-interval:6h}") Duration openMonthInterval,
+                           @Value("${public.data.crawler.max-run:45m}") Duration maxRun,
+                           @Value("${public.data.crawler.fetch-timeout:5m}") Duration fetchTimeout) {
+        this(columnLoader, checkpointStore, quotaGovernor, dealMonthPolicy, meterRegistry, months, extraDistricts,
+                quotaShare, openMonthInterval, maxRun, fetchTimeout, Clock.system(ZONE));
+    }
+
+    public PrefetchCrawler(RentColumnLoader columnLoader, PrefetchCheckpointStore checkpointStore,
+                           QuotaGovernor quotaGovernor, DealMonthPolicy dealMonthPolicy, MeterRegistry meterRegistry,
+                           int months, List<String> extraDistricts, double quotaShare, Duration openMonthInterval,
+                           Duration maxRun, Duration fetchTimeout, Clock clock) {
+        this.columnLoader = columnLoader;
+        this.checkpointStore = checkpointStore;
+        this.quotaGovernor = quotaGovernor;
+        this.dealMonthPolicy = dealMonthPolicy;
+        this.months = Math.max(months, 1);
+        this.extraDistricts = extraDistricts;
+        this.quotaShare = quotaShare;
+        this.openMonthInterval = openMonthInterval;
+        this.maxRun = maxRun;
+        this.fetchTimeout = fetchTimeout;
+        this.clock = clock;
+
+        Gauge.builder("public.data.crawler.pending", this, crawler -> crawler.progress.pending())
+                .description("다시 수집해야 하는 (지역코드, 계약년월) 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.crawler.lag", this, crawler -> crawler.lagSeconds(crawler.progress))
+                .description("가장 오래된 수집 성공 이후 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${public.data.crawler.cron:0 */15 1-5 * * *}", zone = "Asia/Seoul")
+    public void crawl() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("⏭️ 이전 프리패치가 아직 진행 중이라 건너뜀");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 현재 진행 현황 (진행 상황 저장소를 다시 읽어 계산)
+     */
+    public CrawlerStatus getStatus() {
+        Progress current = computeProgress(targets(), loadCheckpoints(targets()));
+        progress = current;
+        QuotaStatus quota = quotaGovernor.getStatus();
+        LastRun last = lastRun;
+
+        Long lag = current.oldestSuccessAt() == null ? null : (long) lagSeconds(current);
+        return new CrawlerStatus(running.get(), current.targets(), current.pending(), current.neverCrawled(),
+                current.oldestSuccessAt(), lag, backgroundBudget(quota), quota.backgroundUsed(),
+                last.startedAt(), last.finishedAt(), last.crawled(), last.failed(), last.stopReason());
+    }
+
+    void run() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime deadline = startedAt.plus(maxRun);
+        lastRun = new LastRun(startedAt, null, 0, 0, null);
+
+        List<RentMonthKey> targets = targets();
+        Map<RentMonthKey, PrefetchCheckpoint> checkpoints = loadCheckpoints(targets);
+        List<RentMonthKey> due = dueTargets(targets, checkpoints, startedAt);
+        progress = computeProgress(targets, checkpoints);
+
+        log.info("🕷️ 프리패치 시작 - 대상 {}개 중 수집 필요 {}개", targets.size(), due.size());
+
+        int crawled = 0;
+        int failed = 0;
+        String stopReason = "completed";
+
+        for (RentMonthKey key : due) {
+            if (LocalDateTime.now(clock).isAfter(deadline)) {
+                stopReason = "max-run";
+                break;
+            }
+            QuotaStatus quota = quotaGovernor.getStatus();
+            if (quota.backgroundUsed() >= backgroundBudget(quota)) {
+                stopReason = "quota-share";
+                break;
+            }
+
+            String dealYearMonth = String.valueOf(key.getDealYm());
+            try {
+                RentColumnSegment segment = columnLoader.reload(key.getLawdCd(), dealYearMonth)
+                        .contextWrite(RequestPriority.BACKGROUND.asContext())
+                        .block(fetchTimeout);
+                checkpointStore.recordSuccess(key, segment.size(), segment.finalized(),
+                        LocalDateTime.now(clock));
+                crawled++;
+            } catch (RuntimeException e) {
+                String errorCode = e instanceof PublicDataApiException apiException
+                        ? apiException.getErrorCode() : "UNKNOWN_ERROR";
+                checkpointStore.recordFailure(key, errorCode, LocalDateTime.now(clock));
+                failed++;
+
+                log.warn("⚠️ 프리패치 실패 - 지역코드: {}, 계약년월: {}, 오류: [{}] {}",
+                        key.getLawdCd(), dealYearMonth, errorCode, e.getMessage());
+
+                if (errorCode.startsWith("QUOTA_")) {
+                    stopReason = "quota";
+                    break;
+                }
+                if ("CIRCUIT_OPEN".equals(errorCode)) {
+                    stopReason = "circuit-open";
+                    break;
+                }
+            }
+            lastRun = new LastRun(startedAt, null, crawled, failed, null);
+        }
+
+        progress = computeProgress(targets, loadCheckpoints(targets));
+        lastRun = new LastRun(startedAt, LocalDateTime.now(clock), crawled, failed, stopReason);
+
+        log.info("✅ 프리패치 종료 - 성공 {}개, 실패 {}개, 남은 대상 {}개, 사유: {}",
+                crawled, failed, progress.pending(), stopReason);
+    }
+
+    /**
+     * 수집 대상 (지역코드 × 최근 months개월)
+     */
+    private List<RentMonthKey> targets() {
+        Set<String> districtCodes = new LinkedHashSet<>(SeoulDistrictCode.getAllCodes());
+        for (String code : extraDistricts) {
+            if (code != null && !code.isBlank()) {
+                districtCodes.add(code.trim());
+            }
+        }
+
+        YearMonth current = YearMonth.now(clock);
+        List<RentMonthKey> targets = new ArrayList<>(districtCodes.size() * months);
+        for (int i = 0; i < months; i++) {
+            int dealYm = Integer.parseInt(current.minusMonths(i).format(DEAL_YMD_FORMAT));
+            for (String districtCode : districtCodes) {
+                targets.add(new RentMonthKey(districtCode, dealYm));
+            }
+        }
+        return targets;
+    }
+
+    private Map<RentMonthKey, PrefetchCheckpoint> loadCheckpoints(List<RentMonthKey> targets) {
+        Map<RentMonthKey, PrefetchCheckpoint> checkpoints = new HashMap<>();
+        for (PrefetchCheckpoint checkpoint : checkpointStore.findAll(targets)) {
+            checkpoints.put(checkpoint.getId(), checkpoint);
+        }
+        return checkpoints;
+    }
+
+    /**
+     * 다시 수집할 대상 (한 번도 성공하지 못한 대상 먼저, 그다음 마지막 성공이 오래된 순)
+     */
+    private List<RentMonthKey> dueTargets(List<RentMonthKey> targets, Map<RentMonthKey, PrefetchCheckpoint> checkpoints,
+                                          LocalDateTime now) {
+        List<RentMonthKey> due = new ArrayList<>();
+        for (RentMonthKey key : targets) {
+            if (isDue(checkpoints.get(key), key, now)) {
+                due.add(key);
+            }
+        }
+        due.sort(Comparator.comparing((RentMonthKey key) -> lastSuccessAt(checkpoints.get(key)),
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        return due;
+    }
+
+    private boolean isDue(PrefetchCheckpoint checkpoint, RentMonthKey key, LocalDateTime now) {
+        if (checkpoint == null || checkpoint.getLastSuccessAt() == null) {
+            return true;
+        }
+        if (checkpoint.isFinalized()) {
+            return false;
+        }
+        // 열린 달로 수집한 뒤 확정된 달은 저장소 적재를 위해 한 번 더 수집
+        return dealMonthPolicy.isFinalized(String.valueOf(key.getDealYm()))
+                || !checkpoint.getLastSuccessAt().plus(openMonthInterval).isAfter(now);
+    }
+
+    private Progress computeProgress(List<RentMonthKey> targets, Map<RentMonthKey, PrefetchCheckpoint> checkpoints) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int pending = 0;
+        int neverCrawled = 0;
+        LocalDateTime oldestSuccessAt = null;
+
+        for (RentMonthKey key : targets) {
+            PrefetchCheckpoint checkpoint = checkpoints.get(key);
+            if (isDue(checkpoint, key, now)) {
+                pending++;
+            }
+            LocalDateTime successAt = lastSuccessAt(checkpoint);
+            if (successAt == null) {
+                neverCrawled++;
+            } else if (oldestSuccessAt == null || successAt.isBefore(oldestSuccessAt)) {
+                oldestSuccessAt = successAt;
+            }
+        }
+        return new Progress(targets.size(), pending, neverCrawled, oldestSuccessAt);
+    }
+
+    private double lagSeconds(Progress current) {
+        return current.oldestSuccessAt() == null ? 0
+                : Duration.between(current.oldestSuccessAt(), LocalDateTime.now(clock)).toSeconds();
+    }
+
+    private long backgroundBudget(QuotaStatus quota) {
+        return (long) Math.floor(quota.dailyLimit() * quotaShare);
+    }
+
+    private static LocalDateTime lastSuccessAt(PrefetchCheckpoint checkpoint) {
+        return checkpoint == null ? null : checkpoint.getLastSuccessAt();
+    }
+
+    private record Progress(int targets, int pending, int neverCrawled, LocalDateTime oldestSuccessAt) {
+    }
+
+    private record LastRun(LocalDateTime startedAt, LocalDateTime finishedAt, int crawled, int failed,
+                           String stopReason) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.datapublic.mcp.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 서울특별시 다중 구/다중 월 일괄 조회 결과 DTO
+ * 일부 (구, 계약년월) 조회가 실패해도 성공한 조합의 데이터는 그대로 반환
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApartmentRentBulkResult {
+
+    /**
+     * 성공한 조합의 거래 목록 (구 → 계약년월 순)
+     */
+    @JsonProperty("items")
+    private List<ApartmentRentRecord> items;
+
+    /**
+     * 조합별 조회 결과
+     */
+    @JsonProperty("segments")
+    private List<Segment> segments;
+
+    /**
+     * 실패한 조합 목록
+     */
+    @JsonProperty("failures")
+    private List<Failure> failures;
+
+    /**
+     * (구, 계약년월) 조합별 건수
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Segment {
+        @JsonProperty("districtCode")
+        private String districtCode;
+
+        @JsonProperty("dealYearMonth")
+        private String dealYearMonth;
+
+        @JsonProperty("count")
+        private int count;
+    }
+
+    /**
+     * 실패한 (구, 계약년월) 조합
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        @JsonProperty("districtCode")
+        private String districtCode;
+
+        @JsonProperty("dealYearMonth")
+        private String dealYearMonth;
+
+        @JsonProperty("errorCode")
+        private String errorCode;
+
+        @JsonProperty("errorMessage")
+        private String errorMessage;
+    }
+}
@@ -5,9 +5,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.math.BigDecimal;
+import java.util.Locale;
+
 /**
  * 아파트 전월세 실거래가 API 응답 아이템 DTO
  * 실제 API 응답 스펙에 맞게 수정
+ * 내부에서는 ApartmentRentRecord를 사용하고, API 응답으로 내보낼 때만 이 형식으로 변환
  */
 @Data
 @NoArgsConstructor
@@ -116,6 +120,43 @@ public class ApartmentRentItem {
     @JsonProperty("useRRRight")
     private String useRRRight;
     
+    /**
+     * 내부 레코드 → 응답 아이템
+     * 금액은 공공데이터 포털과 같은 천 단위 쉼표 형식("12,000")으로 되돌림
+     */
+    public static ApartmentRentItem from(ApartmentRentRecord record) {
+        ApartmentRentItem item = new ApartmentRentItem();
+        item.setAptNm(record.aptNm());
+        item.setBuildYear(toText(record.buildYear()));
+        item.setContractTerm(record.contractTerm());
+        item.setContractType(record.contractType());
+        if (record.dealDate() != 0) {
+            item.setDealYear(String.valueOf(record.dealYear()));
+            item.setDealMonth(String.valueOf(record.dealMonth()));
+            item.setDealDay(record.dealDay() == 0 ? null : String.valueOf(record.dealDay()));
+        }
+        item.setDeposit(formatAmount(record.deposit()));
+        item.setExcluUseAr(Double.isNaN(record.exclusiveArea()) ? null
+                : BigDecimal.valueOf(record.exclusiveArea()).stripTrailingZeros().toPlainString());
+        item.setFloor(toText(record.floor()));
+        item.setJibun(record.jibun());
+        item.setMonthlyRent(formatAmount(record.monthlyRent()));
+        item.setPreDeposit(formatAmount(record.preDeposit()));
+        item.setPreMonthlyRent(formatAmount(record.preMonthlyRent()));
+        item.setSggCd(record.sggCd());
+        item.setUmdNm(record.umdNm());
+        item.setUseRRRight(record.useRRRight());
+        return item;
+    }
+
+    private static String formatAmount(long amount) {
+        return amount == ApartmentRentRecord.NO_AMOUNT ? null : String.format(Locale.ROOT, "%,d", amount);
+    }
+
+    private static String toText(int value) {
+        return value == ApartmentRentRecord.NO_VALUE ? null : String.valueOf(value);
+    }
+    
     // 편의 메서드들
     public String getApartmentName() {
         return aptNm;
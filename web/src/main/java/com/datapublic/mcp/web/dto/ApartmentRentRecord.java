@@ -0,0 +1,231 @@
+package com.datapublic.mcp.web.dto;
+
+import com.datapublic.mcp.storage.diff.ContentHasher;
+
+/**
+ * 아파트 전월세 실거래 내부 표현
+ * 파싱 시점에 한 번만 숫자로 변환해 원시 타입으로 보관 (금액 단위: 만원, 계약일: yyyyMMdd 정수)
+ * 값이 없는 숫자 필드는 NO_VALUE / NaN으로 표시
+ * API 응답 JSON은 ApartmentRentItem.from(record)로 기존 문자열 형식으로 되돌림
+ *
+ * @param aptNm 아파트명
+ * @param umdNm 법정동명
+ * @param jibun 지번
+ * @param sggCd 시군구 코드
+ * @param dealDate 계약일 (yyyyMMdd, 일자가 없으면 yyyyMM00)
+ * @param deposit 보증금
+ * @param monthlyRent 월세
+ * @param preDeposit 종전 보증금
+ * @param preMonthlyRent 종전 월세
+ * @param exclusiveArea 전용면적 (㎡)
+ * @param floor 층
+ * @param buildYear 건축년도
+ * @param contractType 계약구분
+ * @param contractTerm 계약기간
+ * @param useRRRight 갱신요구권 사용 여부
+ */
+public record ApartmentRentRecord(String aptNm, String umdNm, String jibun, String sggCd, int dealDate,
+                                  long deposit, long monthlyRent, long preDeposit, long preMonthlyRent,
+                                  double exclusiveArea, int floor, int buildYear,
+                                  String contractType, String contractTerm, String useRRRight) {
+
+    /**
+     * 값 없음 (정수 필드)
+     */
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+
+    /**
+     * 값 없음 (금액 필드)
+     */
+    public static final long NO_AMOUNT = Long.MIN_VALUE;
+
+    public int dealYear() {
+        return dealDate / 10000;
+    }
+
+    public int dealMonth() {
+        return dealDate / 100 % 100;
+    }
+
+    public int dealDay() {
+        return dealDate % 100;
+    }
+
+    /**
+     * 계약년월 (yyyyMM)
+     */
+    public int dealYearMonth() {
+        return dealDate / 100;
+    }
+
+    /**
+     * 같은 (지역코드, 계약년월)을 다시 받았을 때 같은 거래인지 판단하는 자연키
+     * (시군구, 법정동, 지번, 아파트명, 층, 계약일, 전용면적)
+     */
+    public NaturalKey naturalKey() {
+        return new NaturalKey(sggCd, umdNm, jibun, aptNm, floor, dealDate, exclusiveArea);
+    }
+
+    /**
+     * 자연키 외 필드의 내용 해시 (신고 정정으로 금액/계약 정보가 바뀌었는지 비교)
+     */
+    public long contentHash() {
+        return new ContentHasher()
+                .add(deposit)
+                .add(monthlyRent)
+                .add(preDeposit)
+                .add(preMonthlyRent)
+                .add(buildYear)
+                .add(contractType)
+                .add(contractTerm)
+                .add(useRRRight)
+                .hash();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 거래 자연키
+     */
+    public record NaturalKey(String sggCd, String umdNm, String jibun, String aptNm, int floor, int dealDate,
+                             double exclusiveArea) {
+    }
+
+    /**
+     * 공공데이터 포털 응답 필드(문자열)를 받아 ApartmentRentRecord 생성
+     * XML/JSON 파서가 필드를 읽는 즉시 set(필드명, 값)으로 넘김
+     */
+    public static final class Builder {
+
+        private String aptNm;
+        private String umdNm;
+        private String jibun;
+        private String sggCd;
+        private int dealYear;
+        private int dealMonth;
+        private int dealDay;
+        private long deposit = NO_AMOUNT;
+        private long monthlyRent = NO_AMOUNT;
+        private long preDeposit = NO_AMOUNT;
+        private long preMonthlyRent = NO_AMOUNT;
+        private double exclusiveArea = Double.NaN;
+        private int floor = NO_VALUE;
+        private int buildYear = NO_VALUE;
+        private String contractType;
+        private String contractTerm;
+        private String useRRRight;
+
+        private Builder() {
+        }
+
+        /**
+         * 공공데이터 포털 필드명 기준으로 값 설정 (스펙에 없는 필드는 무시)
+         *
+         * @return 인식한 필드이면 true
+         */
+        public boolean set(String field, String value) {
+            switch (field) {
+                case "aptNm" -> aptNm = trimToNull(value);
+                case "umdNm" -> umdNm = trimToNull(value);
+                case "jibun" -> jibun = trimToNull(value);
+                case "sggCd" -> sggCd = trimToNull(value);
+                case "dealYear" -> dealYear = parseInt(value, 0);
+                case "dealMonth" -> dealMonth = parseInt(value, 0);
+                case "dealDay" -> dealDay = parseInt(value, 0);
+                case "deposit" -> deposit = parseAmount(value);
+                case "monthlyRent" -> monthlyRent = parseAmount(value);
+                case "preDeposit" -> preDeposit = parseAmount(value);
+                case "preMonthlyRent" -> preMonthlyRent = parseAmount(value);
+                case "excluUseAr" -> exclusiveArea = parseDouble(value);
+                case "floor" -> floor = parseInt(value, NO_VALUE);
+                case "buildYear" -> buildYear = parseInt(value, NO_VALUE);
+                case "contractType" -> contractType = trimToNull(value);
+                case "contractTerm" -> contractTerm = trimToNull(value);
+                case "useRRRight" -> useRRRight = trimToNull(value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public ApartmentRentRecord build() {
+            return new ApartmentRentRecord(aptNm, umdNm, jibun, sggCd, dealYear * 10000 + dealMonth * 100 + dealDay,
+                    deposit, monthlyRent, preDeposit, preMonthlyRent, exclusiveArea, floor, buildYear,
+                    contractType, contractTerm, useRRRight);
+        }
+
+        private static String trimToNull(String value) {
+            if (value == null) {
+                return null;
+            }
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        /**
+         * 정수 파싱 (공백 허용, 실패 시 기본값)
+         */
+        private static int parseInt(String value, int defaultValue) {
+            long parsed = parseLong(value, false);
+            return parsed == NO_AMOUNT ? defaultValue : (int) parsed;
+        }
+
+        /**
+         * 금액 파싱 ("12,000" 처럼 천 단위 쉼표 허용)
+         */
+        private static long parseAmount(String value) {
+            return parseLong(value, true);
+        }
+
+        /**
+         * 문자열을 새로 만들지 않고 한 글자씩 읽어 정수로 변환
+         */
+        private static long parseLong(String value, boolean allowComma) {
+            if (value == null) {
+                return NO_AMOUNT;
+            }
+
+            int start = 0;
+            int end = value.length();
+            while (start < end && Character.isWhitespace(value.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+                end--;
+            }
+            if (start == end) {
+                return NO_AMOUNT;
+            }
+
+            boolean negative = value.charAt(start) == '-';
+            if (negative && ++start == end) {
+                return NO_AMOUNT;
+            }
+
+            long result = 0;
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    result = result * 10 + (c - '0');
+                } else if (c != ',' || !allowComma) {
+                    return NO_AMOUNT;
+                }
+            }
+            return negative ? -result : result;
+        }
+
+        private static double parseDouble(String value) {
+            if (value == null || value.isBlank()) {
+                return Double.NaN;
+            }
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.datapublic.mcp.web.dto;
+
+import java.util.List;
+
+/**
+ * 다중 구/다중 월 스트리밍 조회 이벤트
+ * 거래는 받는 대로 Item으로, 조합 단위 실패는 SegmentFailure로 내보내고 마지막에 Summary 하나로 끝남
+ */
+public sealed interface ApartmentRentStreamEvent {
+
+    /**
+     * 거래 하나
+     */
+    record Item(ApartmentRentRecord record) implements ApartmentRentStreamEvent {
+    }
+
+    /**
+     * (구, 계약년월) 조합 조회 실패 (이미 내보낸 그 조합의 거래는 일부일 수 있음)
+     */
+    record SegmentFailure(ApartmentRentBulkResult.Failure failure) implements ApartmentRentStreamEvent {
+    }
+
+    /**
+     * 스트림 요약 (마지막 이벤트)
+     *
+     * @param segments 조합별 내보낸 건수 (구 → 계약년월 순)
+     * @param failures 실패한 조합 목록
+     * @param totalCount 내보낸 전체 거래 수
+     */
+    record Summary(List<ApartmentRentBulkResult.Segment> segments, List<ApartmentRentBulkResult.Failure> failures,
+                   long totalCount) implements ApartmentRentStreamEvent {
+    }
+}
@@ -0,0 +1,67 @@
+package com.datapublic.mcp.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 전월세 집계 DTO (구, 계약년월, 계약구분, 면적 구간 단위)
+ * 금액 단위: 만원, 해당 거래가 없으면 평균은 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentRollup {
+
+    @JsonProperty("districtCode")
+    private String districtCode;
+
+    @JsonProperty("districtName")
+    private String districtName;
+
+    @JsonProperty("dealYearMonth")
+    private String dealYearMonth;
+
+    /**
+     * 계약구분 (신규/갱신, 없으면 null)
+     */
+    @JsonProperty("contractType")
+    private String contractType;
+
+    @JsonProperty("areaBand")
+    private String areaBand;
+
+    @JsonProperty("count")
+    private long count;
+
+    /**
+     * 전세(월세 0) 거래 건수
+     */
+    @JsonProperty("jeonseCount")
+    private long jeonseCount;
+
+    /**
+     * 전세 평균 보증금
+     */
+    @JsonProperty("jeonseDepositAvg")
+    private Double jeonseDepositAvg;
+
+    /**
+     * 월세 거래 건수
+     */
+    @JsonProperty("monthlyCount")
+    private long monthlyCount;
+
+    /**
+     * 월세 평균 보증금
+     */
+    @JsonProperty("monthlyDepositAvg")
+    private Double monthlyDepositAvg;
+
+    /**
+     * 월세 평균 월세
+     */
+    @JsonProperty("monthlyRentAvg")
+    private Double monthlyRentAvg;
+}
@@ -0,0 +1,96 @@
+package com.datapublic.mcp.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아파트 전월세 통계 조회 결과 DTO
+ * 그룹마다 건수, 평균, 분위수(p10/p50/p90)를 보증금/월세별로 제공 (금액 단위: 만원)
+ * 분위수는 병합 가능한 스케치로 계산한 추정값 (상대 오차 1% 이내)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentStatisticsResult {
+
+    /**
+     * 그룹별 통계 (그룹 키 순)
+     */
+    @JsonProperty("groups")
+    private List<Group> groups;
+
+    /**
+     * 집계에 사용한 거래 건수
+     */
+    @JsonProperty("rowCount")
+    private long rowCount;
+
+    /**
+     * 집계에 사용한 (구, 계약년월) 조합 수
+     */
+    @JsonProperty("segmentCount")
+    private int segmentCount;
+
+    /**
+     * 적재에 실패해 집계에서 빠진 조합 목록
+     */
+    @JsonProperty("failures")
+    private List<ApartmentRentBulkResult.Failure> failures;
+
+    /**
+     * 그룹 하나의 통계
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        /**
+         * 그룹 기준 → 값 (예: {"district": "11680", "areaBand": "60~85㎡"})
+         */
+        @JsonProperty("key")
+        private Map<String, String> key;
+
+        @JsonProperty("count")
+        private long count;
+
+        @JsonProperty("deposit")
+        private Summary deposit;
+
+        @JsonProperty("monthlyRent")
+        private Summary monthlyRent;
+    }
+
+    /**
+     * 금액 요약 통계 (값이 없으면 count 외에는 null)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+        @JsonProperty("count")
+        private long count;
+
+        @JsonProperty("mean")
+        private Double mean;
+
+        @JsonProperty("min")
+        private Long min;
+
+        @JsonProperty("p10")
+        private Long p10;
+
+        @JsonProperty("p50")
+        private Long p50;
+
+        @JsonProperty("p90")
+        private Long p90;
+
+        @JsonProperty("max")
+        private Long max;
+    }
+}
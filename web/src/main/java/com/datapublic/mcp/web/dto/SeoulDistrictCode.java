@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -46,6 +47,16 @@ public class SeoulDistrictCode {
         SONGPA("11710", "송파구"),
         GANGDONG("11740", "강동구");
         
+        private static final Map<String, District> BY_CODE = new HashMap<>();
+        private static final Map<String, District> BY_NAME = new HashMap<>();
+        
+        static {
+            for (District district : values()) {
+                BY_CODE.put(district.code, district);
+                BY_NAME.put(district.name, district);
+            }
+        }
+        
         private final String code;
         private final String name;
         
@@ -53,20 +64,14 @@ public class SeoulDistrictCode {
          * 코드로 District 찾기
          */
         public static District fromCode(String code) {
-            return Arrays.stream(values())
-                    .filter(district -> district.getCode().equals(code))
-                    .findFirst()
-                    .orElse(null);
+            return code == null ? null : BY_CODE.get(code);
         }
         
         /**
          * 이름으로 District 찾기
          */
         public static District fromName(String name) {
-            return Arrays.stream(values())
-                    .filter(district -> district.getName().equals(name))
-                    .findFirst()
-                    .orElse(null);
+            return name == null ? null : BY_NAME.get(name);
         }
     }
     
@@ -41,6 +41,11 @@ public enum PublicDataErrorCode {
      * 에러 코드로 PublicDataErrorCode 찾기
      */
     public static PublicDataErrorCode fromCode(String code) {
+        // 신규 API는 3자리 코드 사용 (예: "000" = "00")
+        if (code != null && code.length() == 3 && code.charAt(0) == '0') {
+            code = code.substring(1);
+        }
+        
         for (PublicDataErrorCode errorCode : values()) {
             if (errorCode.getCode().equals(code)) {
                 return errorCode;
@@ -62,5 +67,12 @@ public enum PublicDataErrorCode {
     public boolean isError() {
         return !isSuccess();
     }
+    
+    /**
+     * 재시도하면 성공할 수 있는 일시적 에러인지 확인
+     */
+    public boolean isTransient() {
+        return this == HTTP_ERROR || this == SERVICETIMEOUT;
+    }
 }
 
@@ -0,0 +1,223 @@
+package com.datapublic.mcp.web.export;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+
+/**
+ * CSV 내보내기 열 (선언 순서가 곧 CSV 열 순서이므로 새 열은 맨 뒤에만 추가)
+ * 숫자는 천 단위 쉼표 없이, 값이 없으면 빈 칸으로 씀
+ */
+public enum RentCsvColumn {
+
+    /**
+     * 지역코드 (요청한 5자리 코드)
+     */
+    DISTRICT_CODE("districtCode"),
+
+    /**
+     * 계약년월 (yyyyMM)
+     */
+    DEAL_YEAR_MONTH("dealYearMonth"),
+
+    /**
+     * 계약일 (yyyy-MM-dd, 일자가 없으면 빈 칸)
+     */
+    DEAL_DATE("dealDate"),
+
+    /**
+     * 시군구 코드
+     */
+    SGG_CD("sggCd"),
+
+    /**
+     * 법정동명
+     */
+    UMD_NM("umdNm"),
+
+    /**
+     * 지번
+     */
+    JIBUN("jibun"),
+
+    /**
+     * 아파트명
+     */
+    APT_NM("aptNm"),
+
+    /**
+     * 전용면적 (㎡)
+     */
+    EXCLUSIVE_AREA("exclusiveArea"),
+
+    /**
+     * 층
+     */
+    FLOOR("floor"),
+
+    /**
+     * 건축년도
+     */
+    BUILD_YEAR("buildYear"),
+
+    /**
+     * 보증금 (만원)
+     */
+    DEPOSIT("deposit"),
+
+    /**
+     * 월세 (만원)
+     */
+    MONTHLY_RENT("monthlyRent"),
+
+    /**
+     * 종전 보증금 (만원)
+     */
+    PRE_DEPOSIT("preDeposit"),
+
+    /**
+     * 종전 월세 (만원)
+     */
+    PRE_MONTHLY_RENT("preMonthlyRent"),
+
+    /**
+     * 계약구분
+     */
+    CONTRACT_TYPE("contractType"),
+
+    /**
+     * 계약기간
+     */
+    CONTRACT_TERM("contractTerm"),
+
+    /**
+     * 갱신요구권 사용 여부
+     */
+    USE_RR_RIGHT("useRRRight");
+
+    private static final RentCsvColumn[] COLUMNS = values();
+
+    private final String header;
+
+    RentCsvColumn(String header) {
+        this.header = header;
+    }
+
+    /**
+     * CSV 헤더 이름
+     */
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * 헤더 줄 (줄바꿈 포함)
+     */
+    public static String headerLine() {
+        StringBuilder line = new StringBuilder();
+        for (RentCsvColumn column : COLUMNS) {
+            if (column.ordinal() > 0) {
+                line.append(',');
+            }
+            line.append(column.header);
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * 거래 하나를 CSV 한 줄로 덧붙임 (줄바꿈 포함)
+     *
+     * @param districtCode 지역코드 (요청한 5자리 코드)
+     * @param dealYearMonth 계약년월 (6자리)
+     */
+    public static void appendRow(String districtCode, String dealYearMonth, ApartmentRentRecord record, StringBuilder line) {
+        for (RentCsvColumn column : COLUMNS) {
+            if (column.ordinal() > 0) {
+                line.append(',');
+            }
+            column.appendValue(districtCode, dealYearMonth, record, line);
+        }
+        line.append('\n');
+    }
+
+    private void appendValue(String districtCode, String dealYearMonth, ApartmentRentRecord record, StringBuilder line) {
+        switch (this) {
+            case DISTRICT_CODE -> appendText(districtCode, line);
+            case DEAL_YEAR_MONTH -> line.append(dealYearMonth);
+            case DEAL_DATE -> appendDate(record.dealDate(), line);
+            case SGG_CD -> appendText(record.sggCd(), line);
+            case UMD_NM -> appendText(record.umdNm(), line);
+            case JIBUN -> appendText(record.jibun(), line);
+            case APT_NM -> appendText(record.aptNm(), line);
+            case EXCLUSIVE_AREA -> {
+                double area = record.exclusiveArea();
+                if (!Double.isNaN(area)) {
+                    line.append(area);
+                }
+            }
+            case FLOOR -> appendNumber(record.floor(), line);
+            case BUILD_YEAR -> appendNumber(record.buildYear(), line);
+            case DEPOSIT -> appendAmount(record.deposit(), line);
+            case MONTHLY_RENT -> appendAmount(record.monthlyRent(), line);
+            case PRE_DEPOSIT -> appendAmount(record.preDeposit(), line);
+            case PRE_MONTHLY_RENT -> appendAmount(record.preMonthlyRent(), line);
+            case CONTRACT_TYPE -> appendText(record.contractType(), line);
+            case CONTRACT_TERM -> appendText(record.contractTerm(), line);
+            case USE_RR_RIGHT -> appendText(record.useRRRight(), line);
+        }
+    }
+
+    private static void appendDate(int dealDate, StringBuilder line) {
+        int day = dealDate % 100;
+        if (dealDate == 0 || day == 0) {
+            return;
+        }
+        int month = dealDate / 100 % 100;
+        line.append(dealDate / 10000).append('-');
+        if (month < 10) {
+            line.append('0');
+        }
+        line.append(month).append('-');
+        if (day < 10) {
+            line.append('0');
+        }
+        line.append(day);
+    }
+
+    private static void appendNumber(int value, StringBuilder line) {
+        if (value != ApartmentRentRecord.NO_VALUE) {
+            line.append(value);
+        }
+    }
+
+    private static void appendAmount(long value, StringBuilder line) {
+        if (value != ApartmentRentRecord.NO_AMOUNT) {
+            line.append(value);
+        }
+    }
+
+    /**
+     * RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+     */
+    private static void appendText(String value, StringBuilder line) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,202 @@
+package com.datapublic.mcp.web.export;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import com.datapublic.mcp.web.service.ApartmentRentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 다중 구/다중 월 실거래 gzip CSV 내보내기
+ * (구, 계약년월)을 하나씩 스트리밍 조회(페이지 캐시 → 저장소/공공데이터 포털)하며 행을 바로 압축 스트림에 씀
+ * 열 단위 저장소/검색 색인에 적재하지 않고 전체 결과를 목록으로 모으지도 않으므로,
+ * 메모리 사용은 조회 중인 페이지 몇 장(동시 요청 수 x 페이지 크기)과 버퍼로 고정됨
+ *
+ * 행 순서는 지역코드(요청 순) → 계약년월 → 월 전체 조회 순으로 고정되어,
+ * 끊긴 내보내기는 마지막으로 받은 (지역코드, 계약년월)과 그 달에서 받은 행 수를 커서로 넘겨 이어받을 수 있음
+ * (이어받을 때는 헤더 줄 없음, 앞선 달과 그 달의 이미 받은 페이지는 다시 조회하지 않음)
+ * 확정된 달은 내용이 바뀌지 않으므로 이어받아도 행이 겹치거나 빠지지 않고,
+ * 열린 달은 그 사이 신고가 추가/정정되면 순서가 달라질 수 있음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentCsvExporter {
+
+    /**
+     * 압축 버퍼 크기, 모인 CSV 문자가 이보다 많으면 압축 스트림으로 넘김
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 압축 스트림에 쓰기 전에 미리 받아 두는 행 수
+     */
+    private static final int ROW_PREFETCH = 256;
+
+    private final ApartmentRentBulkService apartmentRentBulkService;
+    private final ApartmentRentService apartmentRentService;
+
+    /**
+     * 한 번에 내보낼 수 있는 최대 기간 (개월)
+     */
+    @Value("${public.data.export.max-months:120}")
+    private int maxMonths;
+
+    /**
+     * 내보내기 범위 확인 (응답을 쓰기 전에 파라미터 오류를 알리도록 분리)
+     *
+     * @param districts 지역코드 또는 구명 목록 ("all"이면 서울 25개 구 전체)
+     * @param fromYearMonth 시작 계약년월 (6자리)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함)
+     * @param cursor 이어받을 위치 ("지역코드:계약년월:그 달에서 이미 받은 행 수", null이면 처음부터 헤더 포함)
+     */
+    public Export prepare(List<String> districts, String fromYearMonth, String toYearMonth, String cursor) {
+        List<String> districtCodes = apartmentRentBulkService.resolveDistrictCodes(districts);
+        List<String> months = apartmentRentBulkService.resolveMonths(fromYearMonth, toYearMonth, maxMonths);
+        return new Export(districtCodes, months, cursor == null ? null : Cursor.parse(cursor, districtCodes, months));
+    }
+
+    /**
+     * gzip CSV를 out에 씀 (성공하면 out을 닫음)
+     * (구, 계약년월) 조회에 실패하면 gzip을 마무리하지 않고 예외를 던지므로,
+     * 받는 쪽은 잘린 압축 스트림으로 실패를 알 수 있고 받은 행 수부터 다시 요청하면 됨
+     *
+     * @return 쓴 데이터 행 수 (헤더 제외)
+     */
+    public long write(Export export, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        log.info("📤 아파트 전월세 CSV 내보내기 시작 - 구 {}개, 계약년월 {}~{}, 커서: {}",
+                export.districtCodes().size(), export.months().getFirst(), export.months().getLast(), export.cursor());
+
+        Writer writer = new OutputStreamWriter(new GZIPOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8);
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+        if (export.cursor() == null) {
+            buffer.append(RentCsvColumn.headerLine());
+        }
+
+        long rowCount = 0;
+        try (Stream<ExportRow> rows = rows(export).toStream(ROW_PREFETCH)) {
+            for (Iterator<ExportRow> it = rows.iterator(); it.hasNext(); ) {
+                ExportRow row = it.next();
+                RentCsvColumn.appendRow(row.districtCode(), row.dealYearMonth(), row.record(), buffer);
+                rowCount++;
+                if (buffer.length() >= BUFFER_SIZE) {
+                    writer.append(buffer);
+                    buffer.setLength(0);
+                }
+            }
+        } catch (PublicDataApiException e) {
+            log.warn("⚠️ 아파트 전월세 CSV 내보내기 중단 - 쓴 행: {}, 오류: [{}] {}",
+                    rowCount, e.getErrorCode(), e.getErrorMessage());
+            throw e;
+        }
+
+        writer.append(buffer);
+        writer.close();
+
+        log.info("✅ 아파트 전월세 CSV 내보내기 완료 - 조합 {}개, {}건, {}ms",
+                export.districtCodes().size() * export.months().size(), rowCount, (System.nanoTime() - startedAt) / 1_000_000);
+        return rowCount;
+    }
+
+    /**
+     * 지역코드 → 계약년월 순으로 (구, 계약년월)을 하나씩 조회한 행 (커서가 있으면 커서 위치부터)
+     * 실패하면 어느 (구, 계약년월)에서 실패했는지 남기고 PublicDataApiException으로 끝남
+     */
+    private Flux<ExportRow> rows(Export export) {
+        Cursor cursor = export.cursor();
+        List<String> districtCodes = export.districtCodes();
+        List<String> months = export.months();
+        if (cursor != null) {
+            districtCodes = districtCodes.subList(districtCodes.indexOf(cursor.districtCode()), districtCodes.size());
+        }
+
+        return Flux.fromIterable(districtCodes)
+                .concatMap(districtCode -> Flux.fromIterable(cursor != null && cursor.districtCode().equals(districtCode)
+                                ? months.subList(months.indexOf(cursor.dealYearMonth()), months.size())
+                                : months)
+                        .concatMap(dealYearMonth -> month(districtCode, dealYearMonth,
+                                cursor != null && cursor.isAt(districtCode, dealYearMonth) ? cursor.rowInMonth() : 0)));
+    }
+
+    private Flux<ExportRow> month(String districtCode, String dealYearMonth, int skipRows) {
+        return apartmentRentService.streamAllApartmentRentDataReactive(districtCode, dealYearMonth, skipRows)
+                .map(record -> new ExportRow(districtCode, dealYearMonth, record))
+                .onErrorMap(e -> !(e instanceof PublicDataApiException),
+                        e -> new PublicDataApiException("UNKNOWN_ERROR", e.getMessage(), e))
+                .doOnError(e -> log.warn("⚠️ 아파트 전월세 CSV 내보내기 조회 실패 - 지역코드: {}, 계약년월: {}",
+                        districtCode, dealYearMonth));
+    }
+
+    /**
+     * 내보내기 범위
+     *
+     * @param districtCodes 지역코드 목록 (내보내는 순서)
+     * @param months 계약년월 목록 (오름차순)
+     * @param cursor 이어받을 위치 (null이면 처음부터)
+     */
+    public record Export(List<String> districtCodes, List<String> months, Cursor cursor) {
+
+        /**
+         * 내려받을 파일 이름 (예: apartment-rent-202301-202412.csv.gz)
+         */
+        public String fileName() {
+            return "apartment-rent-" + months.getFirst() + "-" + months.getLast() + ".csv.gz";
+        }
+    }
+
+    /**
+     * 이어받을 위치 ("11680:202402:1200" 형식)
+     * 받은 파일의 마지막 행의 districtCode, dealYearMonth와 그 (구, 계약년월) 행 수로 만듦
+     *
+     * @param districtCode 지역코드 (내보내기 범위 안)
+     * @param dealYearMonth 계약년월 (내보내기 범위 안)
+     * @param rowInMonth 그 (구, 계약년월)에서 이미 받은 행 수
+     */
+    public record Cursor(String districtCode, String dealYearMonth, int rowInMonth) {
+
+        static Cursor parse(String value, List<String> districtCodes, List<String> months) {
+            String[] parts = value.split(":", -1);
+            Cursor cursor;
+            try {
+                cursor = parts.length == 3 ? new Cursor(parts[0].trim(), parts[1].trim(), Integer.parseInt(parts[2].trim())) : null;
+            } catch (NumberFormatException e) {
+                cursor = null;
+            }
+            if (cursor == null || cursor.rowInMonth() < 0) {
+                throw new PublicDataApiException("INVALID_CURSOR",
+                        "cursor는 '지역코드:계약년월:행 수' 형식이어야 합니다: " + value);
+            }
+            if (!districtCodes.contains(cursor.districtCode()) || !months.contains(cursor.dealYearMonth())) {
+                throw new PublicDataApiException("INVALID_CURSOR", "cursor가 내보내기 범위 밖입니다: " + value);
+            }
+            return cursor;
+        }
+
+        boolean isAt(String districtCode, String dealYearMonth) {
+            return this.districtCode.equals(districtCode) && this.dealYearMonth.equals(dealYearMonth);
+        }
+
+        @Override
+        public String toString() {
+            return districtCode + ":" + dealYearMonth + ":" + rowInMonth;
+        }
+    }
+
+    private record ExportRow(String districtCode, String dealYearMonth, ApartmentRentRecord record) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.datapublic.mcp.web.lawd;
+
+/**
+ * 한글 자모 분해 (자동완성 키 생성용)
+ * 완성형 음절을 초성/중성/종성 호환 자모로 풀고, 겹모음(ㅘ → ㅗㅏ)과 겹받침(ㄺ → ㄹㄱ)도 나눔
+ * 그래서 입력 중인 글자("역ㅅ", "가ㄴ")도 분해 결과가 완성된 이름 분해 결과의 접두어가 됨
+ * 한글이 아닌 문자는 소문자로만 바꿔 그대로 둠
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    /**
+     * 호환 자모 중 겹자모 → 홑자모 (입력창에서 겹자모 하나로 들어오는 경우)
+     */
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 자모 분해 ("역삼동" → "ㅇㅕㄱㅅㅏㅁㄷㅗㅇ")
+     */
+    static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                builder.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[offset % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[offset % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    builder.append(COMPOUND_SPLIT[compound]);
+                } else {
+                    builder.append(Character.toLowerCase(c));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성만 추출 ("강남구" → "ㄱㄴㄱ")
+     */
+    static String choseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                builder.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성(자음)만으로 된 입력인지 확인 ("ㄱㄴ")
+     */
+    static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,345 @@
+package com.datapublic.mcp.web.lawd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 전국 법정동코드 색인 (불변)
+ * docs/legal-administrative-district-code.txt (법정동코드\t법정동명\t폐지여부, 약 5만 건)를 기동 시 한 번 읽어 만듦
+ *
+ * - 코드는 정렬된 long 배열로 보관하고 이진 탐색으로 조회 (O(log n))
+ * - 하위 계층(시도 → 시군구 → 읍면동 → 리)은 정렬된 코드의 연속 구간이므로 구간 탐색으로 순회
+ * - 읍면동/리 이름은 상위 시군구 이름을 뺀 나머지만 보관하고 조회할 때 붙임
+ * - 시도/시군구 이름 → 코드는 해시 조회 (O(1), 폐지된 코드 제외)
+ */
+public final class LawdCodeIndex {
+
+    private static final String ABOLISHED = "폐지";
+    private static final long LAWD_CD_UNIT = 100_000L;
+
+    private final long[] codes;
+    private final String[] names;
+    private final BitSet relativeNames;
+    private final BitSet abolished;
+    private final int activeCount;
+
+    private final Map<String, Integer> regionsByName;
+    private final Map<String, Integer> sigunguByShortName;
+
+    private LawdCodeIndex(long[] codes, String[] names, BitSet relativeNames, BitSet abolished) {
+        this.codes = codes;
+        this.names = names;
+        this.relativeNames = relativeNames;
+        this.abolished = abolished;
+        this.activeCount = codes.length - abolished.cardinality();
+
+        this.regionsByName = new HashMap<>();
+        this.sigunguByShortName = new HashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            LawdLevel level = LawdLevel.of(codes[i]);
+            if (abolished.get(i) || (level != LawdLevel.SIDO && level != LawdLevel.SIGUNGU)) {
+                continue;
+            }
+            regionsByName.put(names[i], i);
+            if (level == LawdLevel.SIGUNGU) {
+                // 시도명을 뺀 이름 (예: "강남구", "수원시 장안구"), 여러 시도에 있으면(예: "중구") 이름만으로는 찾지 않음
+                int space = names[i].indexOf(' ');
+                if (space > 0) {
+                    sigunguByShortName.merge(names[i].substring(space + 1), i, (first, second) -> -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 법정동코드 파일 읽기 (UTF-8, 첫 줄은 헤더)
+     */
+    public static LawdCodeIndex load(InputStream inputStream) throws IOException {
+        List<Row> rows = new ArrayList<>(50_000);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t");
+                if (columns.length >= 3 && !columns[0].isBlank()) {
+                    rows.add(new Row(Long.parseLong(columns[0].trim()), columns[1].trim(),
+                            ABOLISHED.equals(columns[2].trim())));
+                }
+            }
+        }
+        rows.sort(Comparator.comparingLong(Row::code));
+
+        long[] codes = new long[rows.size()];
+        String[] names = new String[rows.size()];
+        BitSet relativeNames = new BitSet(rows.size());
+        BitSet abolished = new BitSet(rows.size());
+
+        int sigungu = -1;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            codes[i] = row.code();
+            String name = row.name();
+            abolished.set(i, row.abolished());
+
+            LawdLevel level = LawdLevel.of(codes[i]);
+            if (level == LawdLevel.SIDO || level == LawdLevel.SIGUNGU) {
+                names[i] = name;
+                sigungu = level == LawdLevel.SIGUNGU ? i : -1;
+                continue;
+            }
+
+            // 같은 시군구 구간 안이고 이름이 시군구 이름으로 시작하면 나머지만 보관
+            if (sigungu >= 0 && codes[i] / LAWD_CD_UNIT == codes[sigungu] / LAWD_CD_UNIT
+                    && name.length() > names[sigungu].length() + 1
+                    && name.startsWith(names[sigungu]) && name.charAt(names[sigungu].length()) == ' ') {
+                names[i] = name.substring(names[sigungu].length() + 1);
+                relativeNames.set(i);
+            } else {
+                names[i] = name;
+            }
+        }
+        return new LawdCodeIndex(codes, names, relativeNames, abolished);
+    }
+
+    /**
+     * 전체 코드 수 (폐지 포함)
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * 폐지되지 않은 코드 수
+     */
+    public int activeSize() {
+        return activeCount;
+    }
+
+    /**
+     * 코드 조회 (폐지된 코드 포함)
+     *
+     * @param code 법정동코드 10자리 또는 지역코드 5자리
+     */
+    public Optional<LawdRegion> find(String code) {
+        long value = parseCode(code);
+        if (value < 0) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(codes, value);
+        return index < 0 ? Optional.empty() : Optional.of(region(index));
+    }
+
+    /**
+     * 공공데이터 포털 LAWD_CD로 쓸 수 있는 지역코드인지 확인 (폐지되지 않은 시군구 5자리)
+     */
+    public boolean isActiveLawdCd(String lawdCd) {
+        if (lawdCd == null || lawdCd.length() != 5) {
+            return false;
+        }
+        long value = parseCode(lawdCd);
+        if (value < 0 || LawdLevel.of(value) != LawdLevel.SIGUNGU) {
+            return false;
+        }
+        int index = Arrays.binarySearch(codes, value);
+        return index >= 0 && !abolished.get(index);
+    }
+
+    /**
+     * 시도/시군구 이름으로 조회 (폐지된 코드 제외)
+     * 전체 이름("서울특별시 강남구", "경기도") 또는 시도명을 뺀 시군구 이름("강남구", "수원시 장안구")
+     * 시도명을 뺀 이름이 여러 시도에 있으면(예: "중구") empty
+     */
+    public Optional<LawdRegion> findRegionByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String trimmed = name.trim();
+        Integer index = regionsByName.get(trimmed);
+        if (index == null) {
+            index = sigunguByShortName.get(trimmed);
+        }
+        return index == null || index < 0 ? Optional.empty() : Optional.of(region(index));
+    }
+
+    /**
+     * 시도 목록 (폐지된 코드 제외)
+     * 세종특별자치시처럼 시도 코드 없이 시군구 코드만 있는 지역도 포함
+     */
+    public List<LawdRegion> sidos() {
+        List<LawdRegion> result = new ArrayList<>();
+        for (int i = 0; i < codes.length; i++) {
+            if (abolished.get(i)) {
+                continue;
+            }
+            LawdLevel level = LawdLevel.of(codes[i]);
+            if (level == LawdLevel.SIDO
+                    || (level == LawdLevel.SIGUNGU && Arrays.binarySearch(codes, sidoCode(codes[i])) < 0)) {
+                result.add(region(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 바로 아래 계층 목록 (폐지된 코드 제외, 코드 순)
+     * 시도 → 시군구, 시군구 → 읍면동, 읍면동 → 리
+     *
+     * @param code 법정동코드 10자리 또는 지역코드 5자리
+     */
+    public List<LawdRegion> children(String code) {
+        long parent = parseCode(code);
+        if (parent < 0 || Arrays.binarySearch(codes, parent) < 0) {
+            return List.of();
+        }
+
+        LawdLevel parentLevel = LawdLevel.of(parent);
+        if (parentLevel == LawdLevel.RI) {
+            return List.of();
+        }
+        LawdLevel childLevel = LawdLevel.values()[parentLevel.ordinal() + 1];
+        long span = switch (parentLevel) {
+            case SIDO -> 100_000_000L;
+            case SIGUNGU -> LAWD_CD_UNIT;
+            default -> 100L;
+        };
+
+        List<LawdRegion> result = new ArrayList<>();
+        for (int i = lowerBound(parent + 1); i < codes.length && codes[i] < parent + span; i++) {
+            if (!abolished.get(i) && LawdLevel.of(codes[i]) == childLevel) {
+                result.add(region(i));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 시군구 안의 읍면동/리를 이름으로 조회 (폐지된 코드 제외)
+     *
+     * @param lawdCd 지역코드 5자리
+     * @param name 시군구 이름을 뺀 읍면동/리 이름 (예: "역삼동")
+     */
+    public Optional<LawdRegion> findInSigungu(String lawdCd, String name) {
+        long parent = parseCode(lawdCd);
+        if (parent < 0 || name == null) {
+            return Optional.empty();
+        }
+        String trimmed = name.trim();
+        for (int i = lowerBound(parent + 1); i < codes.length && codes[i] < parent + LAWD_CD_UNIT; i++) {
+            if (!abolished.get(i) && localName(i).equals(trimmed)) {
+                return Optional.of(region(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean isAbolished(int position) {
+        return abolished.get(position);
+    }
+
+    LawdLevel levelAt(int position) {
+        return LawdLevel.of(codes[position]);
+    }
+
+    LawdRegion regionAt(int position) {
+        return region(position);
+    }
+
+    /**
+     * 상위 지역 이름을 뺀 자기 이름 (자동완성 키)
+     * 시도: "서울특별시", 시군구: "강남구"/"수원시 장안구", 읍면동: "역삼동", 리: "읍내리"
+     */
+    String ownName(int position) {
+        String name = names[position];
+        return switch (LawdLevel.of(codes[position])) {
+            case SIDO -> name;
+            case SIGUNGU -> {
+                int space = name.indexOf(' ');
+                yield space > 0 ? name.substring(space + 1) : name;
+            }
+            case EUPMYEONDONG -> localName(position);
+            case RI -> {
+                String local = localName(position);
+                yield local.substring(local.lastIndexOf(' ') + 1);
+            }
+        };
+    }
+
+    private LawdRegion region(int index) {
+        long code = codes[index];
+        return new LawdRegion(zeroPad(code, 10), zeroPad(code / LAWD_CD_UNIT, 5),
+                fullName(index), LawdLevel.of(code), abolished.get(index));
+    }
+
+    private String fullName(int index) {
+        if (!relativeNames.get(index)) {
+            return names[index];
+        }
+        int sigungu = Arrays.binarySearch(codes, codes[index] / LAWD_CD_UNIT * LAWD_CD_UNIT);
+        return names[sigungu] + " " + names[index];
+    }
+
+    /**
+     * 시군구 이름을 뺀 이름 (읍면동/리 이름 비교용)
+     */
+    private String localName(int index) {
+        if (relativeNames.get(index)) {
+            return names[index];
+        }
+        String name = names[index];
+        int sigungu = Arrays.binarySearch(codes, codes[index] / LAWD_CD_UNIT * LAWD_CD_UNIT);
+        if (sigungu >= 0 && name.startsWith(names[sigungu] + " ")) {
+            return name.substring(names[sigungu].length() + 1);
+        }
+        return name;
+    }
+
+    private int lowerBound(long code) {
+        int index = Arrays.binarySearch(codes, code);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static String zeroPad(long value, int width) {
+        String digits = Long.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static long sidoCode(long code) {
+        return code / 100_000_000L * 100_000_000L;
+    }
+
+    /**
+     * 10자리 또는 5자리 숫자 코드 → 10자리 long (형식이 맞지 않으면 -1)
+     */
+    private static long parseCode(String code) {
+        if (code == null) {
+            return -1;
+        }
+        String trimmed = code.trim();
+        if (trimmed.length() != 5 && trimmed.length() != 10) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return trimmed.length() == 5 ? value * LAWD_CD_UNIT : value;
+    }
+
+    private record Row(long code, String name, boolean abolished) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.datapublic.mcp.web.lawd;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 법정동코드 계층 (10자리 코드 중 0이 아닌 자리로 구분)
+ * 시도(2) → 시군구(5) → 읍면동(8) → 리(10)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LawdLevel {
+    SIDO("시도"),
+    SIGUNGU("시군구"),
+    EUPMYEONDONG("읍면동"),
+    RI("리");
+
+    private final String label;
+
+    /**
+     * 요청 파라미터 → 계층 (sido, sigungu, eupmyeondong, ri)
+     */
+    public static LawdLevel fromParameter(String value) {
+        String trimmed = value == null ? "" : value.trim();
+        for (LawdLevel level : values()) {
+            if (level.name().equalsIgnoreCase(trimmed)) {
+                return level;
+            }
+        }
+        throw new PublicDataApiException("INVALID_LEVEL",
+                "지원하지 않는 계층: " + value + " (sido, sigungu, eupmyeondong, ri)");
+    }
+
+    /**
+     * 10자리 법정동코드 → 계층
+     */
+    public static LawdLevel of(long code) {
+        if (code % 100_000_000L == 0) {
+            return SIDO;
+        }
+        if (code % 100_000L == 0) {
+            return SIGUNGU;
+        }
+        if (code % 100L == 0) {
+            return EUPMYEONDONG;
+        }
+        return RI;
+    }
+}
@@ -0,0 +1,13 @@
+package com.datapublic.mcp.web.lawd;
+
+/**
+ * 법정동코드 한 건
+ *
+ * @param code 법정동코드 (10자리)
+ * @param lawdCd 지역코드 (앞 5자리, 공공데이터 포털 LAWD_CD)
+ * @param name 전체 법정동명 (예: "서울특별시 강남구 역삼동")
+ * @param level 계층
+ * @param abolished 폐지 여부
+ */
+public record LawdRegion(String code, String lawdCd, String name, LawdLevel level, boolean abolished) {
+}
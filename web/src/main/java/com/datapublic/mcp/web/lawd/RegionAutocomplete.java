@@ -0,0 +1,230 @@
+package com.datapublic.mcp.web.lawd;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 시도/시군구/읍면동/리 이름 자동완성
+ * 기동 시 LawdCodeIndex의 폐지되지 않은 지역마다 자기 이름(예: "강남구", "역삼동")의 단어를 키로 만들어
+ * 자모 분해 키 배열과 초성 키 배열을 각각 정렬해 둠
+ *
+ * - "강남", "역ㅅ" → 자모 분해 키 접두어 검색 (입력 중인 글자도 일치)
+ * - "ㄱㄴ" → 초성 키 접두어 검색
+ * - "강남 역삼" → 첫 단어로 찾고 나머지 단어는 전체 이름의 단어 접두어로 거름
+ *
+ * 정렬 기준: 입력과 키가 완전히 같은 지역 → 상위 계층(시도 → 시군구 → 읍면동 → 리) → 짧은 이름 → 코드 순
+ */
+@Component
+@Slf4j
+public class RegionAutocomplete {
+
+    /**
+     * 한 번에 돌려줄 수 있는 최대 결과 수
+     */
+    public static final int MAX_LIMIT = 50;
+
+    private static final long INEXACT = 1L << 47;
+
+    private final LawdCodeIndex index;
+
+    private final String[] jamoKeys;
+    private final long[] jamoScores;
+    private final String[] choseongKeys;
+    private final long[] choseongScores;
+
+    public RegionAutocomplete(LawdCodeIndex index) {
+        long startedAt = System.nanoTime();
+        this.index = index;
+
+        List<Key> jamo = new ArrayList<>();
+        List<Key> choseong = new ArrayList<>();
+        for (int position = 0; position < index.size(); position++) {
+            if (index.isAbolished(position)) {
+                continue;
+            }
+            String ownName = index.ownName(position);
+            long score = score(index.levelAt(position), ownName.length(), position);
+            for (String word : ownName.split(" ")) {
+                if (!word.isEmpty()) {
+                    jamo.add(new Key(HangulJamo.decompose(word), score));
+                    choseong.add(new Key(HangulJamo.choseong(word), score));
+                }
+            }
+        }
+        jamo.sort(Comparator.comparing(Key::key).thenComparingLong(Key::score));
+        choseong.sort(Comparator.comparing(Key::key).thenComparingLong(Key::score));
+
+        this.jamoKeys = jamo.stream().map(Key::key).toArray(String[]::new);
+        this.jamoScores = jamo.stream().mapToLong(Key::score).toArray();
+        this.choseongKeys = choseong.stream().map(Key::key).toArray(String[]::new);
+        this.choseongScores = choseong.stream().mapToLong(Key::score).toArray();
+
+        log.info("🔤 지역명 자동완성 색인 생성 완료 - 키 {}개, {}ms",
+                jamoKeys.length + choseongKeys.length, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 자동완성
+     *
+     * @param query 입력 문자열 (완성형, 입력 중인 글자, 초성, 공백으로 나눈 여러 단어)
+     * @param level 계층 제한 (null이면 전체)
+     * @param limit 최대 결과 수 (1~MAX_LIMIT)
+     * @return 순위순 지역 목록
+     */
+    public List<LawdRegion> suggest(String query, LawdLevel level, int limit) {
+        String[] words = query == null ? new String[0] : query.trim().split("\\s+");
+        if (words.length == 0 || words[0].isEmpty()) {
+            return List.of();
+        }
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        boolean choseongOnly = HangulJamo.isChoseongOnly(words[0]);
+        String[] keys = choseongOnly ? choseongKeys : jamoKeys;
+        long[] scores = choseongOnly ? choseongScores : jamoScores;
+        String prefix = choseongOnly ? words[0] : HangulJamo.decompose(words[0]);
+        String[] filters = Arrays.copyOfRange(words, 1, words.length);
+
+        TopK top = new TopK(k);
+        for (int i = lowerBound(keys, prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            if (level != null && levelOf(scores[i]) != level) {
+                continue;
+            }
+            // 입력과 키가 완전히 같으면 맨 앞 비트를 내려 앞 순위로
+            long score = keys[i].length() == prefix.length() ? scores[i] & ~INEXACT : scores[i];
+            int position = positionOf(score);
+            if (top.accepts(score) && matchesAll(position, filters)) {
+                top.offer(position, score);
+            }
+        }
+
+        List<LawdRegion> result = new ArrayList<>(top.size());
+        for (int position : top.positions()) {
+            result.add(index.regionAt(position));
+        }
+        return result;
+    }
+
+    /**
+     * 나머지 입력 단어가 모두 전체 이름의 어떤 단어의 접두어인지 확인 ("강남 역삼" → "서울특별시 강남구 역삼동")
+     */
+    private boolean matchesAll(int position, String[] filters) {
+        if (filters.length == 0) {
+            return true;
+        }
+        String[] nameWords = index.regionAt(position).name().split(" ");
+        for (String filter : filters) {
+            boolean choseongOnly = HangulJamo.isChoseongOnly(filter);
+            String prefix = choseongOnly ? filter : HangulJamo.decompose(filter);
+            boolean matched = false;
+            for (String nameWord : nameWords) {
+                String key = choseongOnly ? HangulJamo.choseong(nameWord) : HangulJamo.decompose(nameWord);
+                if (key.startsWith(prefix)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 작을수록 앞 순위 (완전 일치 여부 1비트 | 계층 3비트 | 이름 길이 12비트 | 위치 32비트)
+     * 기동 시 키마다 완전 일치가 아닌 점수로 계산해 두고, 조회 시 완전 일치면 INEXACT 비트만 지움
+     */
+    private static long score(LawdLevel level, int nameLength, int position) {
+        return INEXACT
+                | (long) level.ordinal() << 44
+                | (long) Math.min(nameLength, 0xFFF) << 32
+                | position;
+    }
+
+    private static LawdLevel levelOf(long score) {
+        return LawdLevel.values()[(int) (score >>> 44) & 0x7];
+    }
+
+    private static int positionOf(long score) {
+        return (int) score;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index >= 0) {
+            // 같은 키가 여러 개면 첫 번째로
+            while (index > 0 && keys[index - 1].equals(prefix)) {
+                index--;
+            }
+            return index;
+        }
+        return -index - 1;
+    }
+
+    private record Key(String key, long score) {
+    }
+
+    /**
+     * 점수가 작은 k개 (같은 지역이 여러 키로 걸리면 더 좋은 점수 하나만 유지)
+     */
+    private static final class TopK {
+
+        private final int[] positions;
+        private final long[] scores;
+        private int size;
+
+        TopK(int k) {
+            this.positions = new int[k];
+            this.scores = new long[k];
+        }
+
+        boolean accepts(long score) {
+            return size < scores.length || score < scores[size - 1];
+        }
+
+        void offer(int position, long score) {
+            for (int i = 0; i < size; i++) {
+                if (positions[i] == position) {
+                    if (score >= scores[i]) {
+                        return;
+                    }
+                    remove(i);
+                    break;
+                }
+            }
+            int insertAt = size < scores.length ? size : scores.length - 1;
+            if (size == scores.length && score >= scores[insertAt]) {
+                return;
+            }
+            while (insertAt > 0 && scores[insertAt - 1] > score) {
+                scores[insertAt] = scores[insertAt - 1];
+                positions[insertAt] = positions[insertAt - 1];
+                insertAt--;
+            }
+            scores[insertAt] = score;
+            positions[insertAt] = position;
+            if (size < scores.length) {
+                size++;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] positions() {
+            return Arrays.copyOf(positions, size);
+        }
+
+        private void remove(int i) {
+            System.arraycopy(positions, i + 1, positions, i, size - i - 1);
+            System.arraycopy(scores, i + 1, scores, i, size - i - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.datapublic.mcp.web.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 피닝 진단
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드가 고정되는 구간을
+ * JFR jdk.VirtualThreadPinned 이벤트로 감지하여 로그와 메트릭(public.data.virtual.pinned)으로 노출
+ */
+@Component
+@ConditionalOnProperty(name = "public.data.execution-mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    private static final int LOGGED_FRAME_COUNT = 5;
+    
+    private final Counter pinnedCounter;
+    
+    @Value("${public.data.virtual.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+    
+    private RecordingStream recordingStream;
+    
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("public.data.virtual.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 블로킹 횟수")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+        
+        log.info("🔍 가상 스레드 피닝 감지 시작 - 임계값: {}ms", pinnedThresholdMs);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("📌 가상 스레드 피닝 감지 - {}ms, 위치: {}", event.getDuration().toMillis(), topFrames(event));
+    }
+    
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAME_COUNT)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
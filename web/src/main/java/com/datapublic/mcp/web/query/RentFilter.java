@@ -0,0 +1,54 @@
+package com.datapublic.mcp.web.query;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.statistics.RentType;
+import lombok.Builder;
+
+/**
+ * 실거래 조회 필터 (모든 조건은 AND, null이면 조건 없음)
+ * 범위 조건이 있으면 그 값이 없는 거래는 제외
+ *
+ * @param aptNm 아파트명 일부 (공백/기호 무시)
+ * @param umdNm 법정동명 (정확히 일치)
+ * @param contractType 계약구분 (정확히 일치, 예: 신규, 갱신)
+ * @param rentType 전월세 구분 (월세 금액 0이면 전세)
+ * @param minArea 최소 전용면적 (㎡, 포함)
+ * @param maxArea 최대 전용면적 (㎡, 포함)
+ * @param minFloor 최저 층 (포함)
+ * @param maxFloor 최고 층 (포함)
+ * @param minDeposit 최소 보증금 (만원, 포함)
+ * @param maxDeposit 최대 보증금 (만원, 포함)
+ * @param minMonthlyRent 최소 월세 (만원, 포함)
+ * @param maxMonthlyRent 최대 월세 (만원, 포함)
+ * @param minBuildYear 최소 건축년도 (포함)
+ * @param maxBuildYear 최대 건축년도 (포함)
+ */
+@Builder
+public record RentFilter(String aptNm, String umdNm, String contractType, RentType rentType,
+                         Double minArea, Double maxArea, Integer minFloor, Integer maxFloor,
+                         Long minDeposit, Long maxDeposit, Long minMonthlyRent, Long maxMonthlyRent,
+                         Integer minBuildYear, Integer maxBuildYear) {
+
+    public RentFilter {
+        aptNm = blankToNull(aptNm);
+        umdNm = blankToNull(umdNm);
+        contractType = blankToNull(contractType);
+        rentType = rentType == null ? RentType.ALL : rentType;
+
+        checkRange("전용면적", minArea, maxArea);
+        checkRange("층", minFloor, maxFloor);
+        checkRange("보증금", minDeposit, maxDeposit);
+        checkRange("월세", minMonthlyRent, maxMonthlyRent);
+        checkRange("건축년도", minBuildYear, maxBuildYear);
+    }
+
+    private static <T extends Comparable<T>> void checkRange(String name, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new PublicDataApiException("INVALID_FILTER", name + " 최솟값이 최댓값보다 큽니다: " + min + " > " + max);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
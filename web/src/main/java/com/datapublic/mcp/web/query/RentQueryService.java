@@ -0,0 +1,234 @@
+package com.datapublic.mcp.web.query;
+
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.columnar.StringDictionary;
+import com.datapublic.mcp.web.dto.ApartmentRentBulkResult;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.search.RentSearchIndex;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import com.datapublic.mcp.web.statistics.RentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 다중 구/다중 월 실거래 필터/정렬 조회
+ * 열 단위 세그먼트를 적재(캐시 → 저장소/공공데이터 포털)한 뒤 조건을 아래 순서로 내려보내
+ * 조건에 맞고 상위 limit건 안에 드는 행만 레코드로 만듦
+ *
+ * 1. 사전: 문자열 조건(아파트명, 법정동명, 계약구분)을 사전 id로 바꾸고, 일치하는 값이 없으면 행을 읽지 않음
+ * 2. 검색 색인: 아파트명/법정동명 조건이 있으면 RentSearchIndex의 행 색인으로 후보 행만 고름
+ * 3. 열: 나머지 숫자 조건은 원시 타입 열에서 바로 비교
+ * 4. 정렬: limit 크기 힙으로 (세그먼트, 행) 참조만 정렬하고 마지막에 남은 행만 레코드로 복원
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentQueryService {
+
+    /**
+     * 한 번에 돌려줄 수 있는 최대 결과 수
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private final ApartmentRentBulkService apartmentRentBulkService;
+    private final RentColumnLoader columnLoader;
+    private final RentColumnStore columnStore;
+    private final RentSearchIndex searchIndex;
+
+    /**
+     * 필터/정렬 조회
+     *
+     * @param districts 지역코드 또는 구명 목록 ("all"이면 서울 25개 구 전체)
+     * @param fromYearMonth 시작 계약년월 (6자리)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함)
+     * @param filter 필터 조건
+     * @param sorts 정렬 기준 (앞의 기준이 우선)
+     * @param limit 최대 결과 수 (1~MAX_LIMIT)
+     * @return 조회 결과 Mono (조합 단위 적재 실패는 failures에 기록)
+     */
+    public Mono<Result> queryReactive(List<String> districts, String fromYearMonth, String toYearMonth,
+                                      RentFilter filter, List<RentSort> sorts, int limit) {
+        return Mono.defer(() -> {
+            List<String> districtCodes = apartmentRentBulkService.resolveDistrictCodes(districts);
+            List<String> months = apartmentRentBulkService.resolveMonths(fromYearMonth, toYearMonth);
+            int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+            log.info("🔍 아파트 전월세 필터 조회 - 구 {}개, 계약년월 {}~{}, 조건: {}, 정렬: {}",
+                    districtCodes.size(), fromYearMonth, toYearMonth, filter, sorts);
+
+            return columnLoader.loadAll(districtCodes, months)
+                    .collectList()
+                    .map(loads -> execute(loads, filter, sorts, k));
+        });
+    }
+
+    private Result execute(List<RentColumnLoader.SegmentLoad> loads, RentFilter filter, List<RentSort> sorts, int limit) {
+        CompiledFilter compiled = compile(filter, columnStore.dictionaries());
+        Comparator<Hit> order = comparator(sorts);
+        // 가장 뒤 순위가 맨 앞에 오도록 뒤집은 힙 (limit건을 넘으면 맨 앞을 버림)
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, order.reversed());
+
+        List<ApartmentRentBulkResult.Failure> failures = new ArrayList<>();
+        long matchedRows = 0;
+        long scannedRows = 0;
+        int segmentCount = 0;
+        int sequence = 0;
+
+        for (RentColumnLoader.SegmentLoad load : loads) {
+            if (load.error() != null) {
+                failures.add(new ApartmentRentBulkResult.Failure(load.districtCode(), load.dealYearMonth(),
+                        load.error().getErrorCode(), load.error().getErrorMessage()));
+                continue;
+            }
+            segmentCount++;
+            RentColumnSegment segment = load.segment();
+            if (segment.dictionaries() != compiled.dictionaries()) {
+                // 조회 도중 사전이 압축되면 세그먼트마다 사전이 다를 수 있음
+                compiled = compile(filter, segment.dictionaries());
+            }
+            if (compiled.matchesNothing()) {
+                continue;
+            }
+
+            int[] candidates = searchIndex.candidateRows(segment, compiled.aptNmIds(), compiled.umdNmId());
+            int rowCount = candidates != null ? candidates.length : segment.size();
+            scannedRows += rowCount;
+
+            for (int i = 0; i < rowCount; i++) {
+                int row = candidates != null ? candidates[i] : i;
+                if (!compiled.test(segment, row)) {
+                    continue;
+                }
+                matchedRows++;
+
+                Hit hit = new Hit(segment, row, sequence++);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(order);
+        List<ApartmentRentRecord> records = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            records.add(hit.segment().record(hit.row()));
+        }
+
+        log.info("✅ 아파트 전월세 필터 조회 완료 - 조합 {}개, 실패 {}개, 확인 {}건, 일치 {}건, 반환 {}건",
+                segmentCount, failures.size(), scannedRows, matchedRows, records.size());
+        return new Result(records, matchedRows, scannedRows, segmentCount, failures);
+    }
+
+    /**
+     * 문자열 조건을 사전 id로 바꿈 (세그먼트마다 문자열을 비교하지 않도록 사전이 바뀔 때만)
+     */
+    private CompiledFilter compile(RentFilter filter, RentColumnStore.Dictionaries dictionaries) {
+        int[] aptNmIds = filter.aptNm() == null ? null : searchIndex.findAptNmIds(dictionaries, filter.aptNm());
+        Integer umdNmId = filter.umdNm() == null ? null : dictionaries.umdNm().find(filter.umdNm());
+        Integer contractTypeId = filter.contractType() == null ? null
+                : dictionaries.contractType().find(filter.contractType());
+        return new CompiledFilter(filter, dictionaries, aptNmIds, umdNmId, contractTypeId);
+    }
+
+    private static Comparator<Hit> comparator(List<RentSort> sorts) {
+        Comparator<Hit> order = (left, right) -> {
+            for (RentSort sort : sorts) {
+                int result = sort.compare(left.segment(), left.row(), right.segment(), right.row());
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        // 값이 같으면 적재 순서(지역코드, 계약년월, 행 순)로 결과를 고정
+        return order.thenComparingLong(Hit::sequence);
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param records 정렬 순서대로 상위 limit건
+     * @param totalCount 조건에 맞는 전체 건수
+     * @param scannedRowCount 조건을 확인한 행 수 (검색 색인으로 고른 후보 행만 셈)
+     * @param segmentCount 적재에 성공한 (구, 계약년월) 조합 수
+     * @param failures 적재에 실패해 조회에서 빠진 조합 목록
+     */
+    public record Result(List<ApartmentRentRecord> records, long totalCount, long scannedRowCount, int segmentCount,
+                         List<ApartmentRentBulkResult.Failure> failures) {
+    }
+
+    /**
+     * 정렬 대상 행 참조 (레코드는 최종 결과에 남은 행만 만듦)
+     */
+    private record Hit(RentColumnSegment segment, int row, long sequence) {
+    }
+
+    /**
+     * 사전 id로 바꾼 필터 (dictionaries로 인코딩된 세그먼트에만 적용)
+     */
+    private record CompiledFilter(RentFilter filter, RentColumnStore.Dictionaries dictionaries, int[] aptNmIds,
+                                  Integer umdNmId, Integer contractTypeId) {
+
+        /**
+         * 문자열 조건에 맞는 사전 값이 하나도 없으면 어떤 행도 맞지 않음
+         */
+        boolean matchesNothing() {
+            return (aptNmIds != null && aptNmIds.length == 0)
+                    || (umdNmId != null && umdNmId == StringDictionary.NULL_ID)
+                    || (contractTypeId != null && contractTypeId == StringDictionary.NULL_ID);
+        }
+
+        boolean test(RentColumnSegment segment, int row) {
+            if (contractTypeId != null && segment.contractTypeId(row) != contractTypeId) {
+                return false;
+            }
+            if (umdNmId != null && segment.umdNmId(row) != umdNmId) {
+                return false;
+            }
+            if (aptNmIds != null && Arrays.binarySearch(aptNmIds, segment.aptNmId(row)) < 0) {
+                return false;
+            }
+
+            long monthlyRent = segment.monthlyRent(row);
+            if (filter.rentType() != RentType.ALL && (monthlyRent == ApartmentRentRecord.NO_AMOUNT
+                    || !filter.rentType().matches(monthlyRent))) {
+                return false;
+            }
+            if (!inRange(monthlyRent, ApartmentRentRecord.NO_AMOUNT, filter.minMonthlyRent(), filter.maxMonthlyRent())
+                    || !inRange(segment.deposit(row), ApartmentRentRecord.NO_AMOUNT, filter.minDeposit(), filter.maxDeposit())
+                    || !inRange(segment.floor(row), ApartmentRentRecord.NO_VALUE, filter.minFloor(), filter.maxFloor())
+                    || !inRange(segment.buildYear(row), ApartmentRentRecord.NO_VALUE,
+                    filter.minBuildYear(), filter.maxBuildYear())) {
+                return false;
+            }
+
+            double area = segment.exclusiveArea(row);
+            // NaN(값 없음)은 어떤 비교도 만족하지 않으므로 범위 조건이 있으면 제외됨
+            return (filter.minArea() == null || area >= filter.minArea())
+                    && (filter.maxArea() == null || area <= filter.maxArea());
+        }
+
+        private static boolean inRange(long value, long missing, Number min, Number max) {
+            if (min == null && max == null) {
+                return true;
+            }
+            return value != missing
+                    && (min == null || value >= min.longValue())
+                    && (max == null || value <= max.longValue());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.datapublic.mcp.web.query;
+
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+
+import java.util.List;
+
+/**
+ * 정렬 기준 하나 ("deposit"은 오름차순, "-deposit"은 내림차순)
+ * 값이 없는 행은 정렬 방향과 관계없이 맨 뒤
+ */
+public record RentSort(RentSortField field, boolean descending) {
+
+    /**
+     * 기본 정렬 (계약일 최신순)
+     */
+    public static final List<RentSort> DEFAULT = List.of(new RentSort(RentSortField.DEAL_DATE, true));
+
+    public static RentSort fromParameter(String parameter) {
+        String value = parameter == null ? "" : parameter.trim();
+        boolean descending = value.startsWith("-");
+        return new RentSort(RentSortField.fromParameter(descending || value.startsWith("+") ? value.substring(1) : value),
+                descending);
+    }
+
+    public static List<RentSort> fromParameters(List<String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return DEFAULT;
+        }
+        return parameters.stream().map(RentSort::fromParameter).toList();
+    }
+
+    int compare(RentColumnSegment left, int leftRow, RentColumnSegment right, int rightRow) {
+        boolean leftMissing = field.isMissing(left, leftRow);
+        boolean rightMissing = field.isMissing(right, rightRow);
+        if (leftMissing || rightMissing) {
+            return Boolean.compare(leftMissing, rightMissing);
+        }
+        int result = field.compare(left, leftRow, right, rightRow);
+        return descending ? -result : result;
+    }
+}
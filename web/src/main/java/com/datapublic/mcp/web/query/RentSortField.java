@@ -0,0 +1,94 @@
+package com.datapublic.mcp.web.query;
+
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+
+/**
+ * 실거래 조회 정렬 기준
+ * 열 단위 세그먼트의 원시 타입 열을 그대로 비교하므로 정렬하는 동안 행 객체를 만들지 않음
+ */
+public enum RentSortField {
+
+    /**
+     * 계약일 (yyyyMMdd)
+     */
+    DEAL_DATE("dealDate"),
+
+    /**
+     * 보증금 (만원)
+     */
+    DEPOSIT("deposit"),
+
+    /**
+     * 월세 (만원)
+     */
+    MONTHLY_RENT("monthlyRent"),
+
+    /**
+     * 전용면적 (㎡)
+     */
+    AREA("area"),
+
+    /**
+     * 층
+     */
+    FLOOR("floor"),
+
+    /**
+     * 건축년도
+     */
+    BUILD_YEAR("buildYear");
+
+    private final String parameter;
+
+    RentSortField(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /**
+     * 요청 파라미터 이름
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * 두 행의 값 비교 (값이 없는 행은 isMissing으로 따로 처리)
+     */
+    int compare(RentColumnSegment left, int leftRow, RentColumnSegment right, int rightRow) {
+        return switch (this) {
+            case DEAL_DATE -> Integer.compare(left.dealDate(leftRow), right.dealDate(rightRow));
+            case DEPOSIT -> Long.compare(left.deposit(leftRow), right.deposit(rightRow));
+            case MONTHLY_RENT -> Long.compare(left.monthlyRent(leftRow), right.monthlyRent(rightRow));
+            case AREA -> Double.compare(left.exclusiveArea(leftRow), right.exclusiveArea(rightRow));
+            case FLOOR -> Integer.compare(left.floor(leftRow), right.floor(rightRow));
+            case BUILD_YEAR -> Integer.compare(left.buildYear(leftRow), right.buildYear(rightRow));
+        };
+    }
+
+    /**
+     * 행에 값이 없는지 (정렬 방향과 관계없이 맨 뒤로 보낼 때 사용)
+     */
+    boolean isMissing(RentColumnSegment segment, int row) {
+        return switch (this) {
+            case DEAL_DATE -> false;
+            case DEPOSIT -> segment.deposit(row) == ApartmentRentRecord.NO_AMOUNT;
+            case MONTHLY_RENT -> segment.monthlyRent(row) == ApartmentRentRecord.NO_AMOUNT;
+            case AREA -> Double.isNaN(segment.exclusiveArea(row));
+            case FLOOR -> segment.floor(row) == ApartmentRentRecord.NO_VALUE;
+            case BUILD_YEAR -> segment.buildYear(row) == ApartmentRentRecord.NO_VALUE;
+        };
+    }
+
+    public static RentSortField fromParameter(String parameter) {
+        String value = parameter == null ? "" : parameter.trim();
+        for (RentSortField field : values()) {
+            if (field.parameter.equalsIgnoreCase(value) || field.name().equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new PublicDataApiException("INVALID_SORT", "지원하지 않는 정렬 기준: " + parameter
+                + " (dealDate, deposit, monthlyRent, area, floor, buildYear 중 선택)");
+    }
+}
@@ -0,0 +1,23 @@
+package com.datapublic.mcp.web.quota;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * serviceKey 호출 한도 현황 Actuator 엔드포인트 (/actuator/publicdataquota)
+ * 웹 노출은 management.endpoints.web.exposure.include에 publicdataquota 추가 필요
+ */
+@Component
+@Endpoint(id = "publicdataquota")
+@RequiredArgsConstructor
+public class QuotaEndpoint {
+
+    private final QuotaGovernor quotaGovernor;
+
+    @ReadOperation
+    public QuotaStatus quota() {
+        return quotaGovernor.getStatus();
+    }
+}
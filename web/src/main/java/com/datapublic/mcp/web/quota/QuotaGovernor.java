@@ -0,0 +1,321 @@
+package com.datapublic.mcp.web.quota;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * serviceKey 호출 한도 관리
+ * 공공데이터 포털의 일일 한도를 넘기기 전에 요청을 대기시키거나 거절함
+ *
+ * - 초당 한도: 토큰 버킷, 토큰이 없으면 우선순위 큐에서 대기 (INTERACTIVE 먼저, 같은 우선순위는 도착 순)
+ * - 일일 한도: 자정(Asia/Seoul) 초기화, 남은 호출이 interactiveReserve 이하이면 BACKGROUND 요청 거절
+ * - 공공데이터 포털이 한도 초과(22)를 응답하면 그날 남은 호출을 모두 거절
+ */
+@Component
+@Slf4j
+public final class QuotaGovernor {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final int perSecondLimit;
+    private final long dailyLimit;
+    private final long interactiveReserve;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+    private final Clock clock;
+
+    private final Scheduler scheduler = Schedulers.newSingle("quota-governor", true);
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+    private final Map<RequestPriority, Map<String, Counter>> counters = new EnumMap<>(RequestPriority.class);
+
+    private double tokens;
+    private long lastRefillMillis;
+    private LocalDate day;
+    private long dailyUsed;
+    private long backgroundUsed;
+    private boolean exhausted;
+    private boolean drainScheduled;
+    private long sequence;
+
+    @Autowired
+    public QuotaGovernor(@Value("${public.data.quota.per-second:10}") int perSecondLimit,
+                         @Value("${public.data.quota.daily-limit:10000}") long dailyLimit,
+                         @Value("${public.data.quota.interactive-reserve:1000}") long interactiveReserve,
+                         @Value("${public.data.quota.max-queue:200}") int maxQueueSize,
+                         @Value("${public.data.quota.max-wait:5s}") Duration maxWait,
+                         MeterRegistry meterRegistry) {
+        this(perSecondLimit, dailyLimit, interactiveReserve, maxQueueSize, maxWait, meterRegistry, Clock.system(ZONE));
+    }
+
+    public QuotaGovernor(int perSecondLimit, long dailyLimit, long interactiveReserve, int maxQueueSize,
+                         Duration maxWait, MeterRegistry meterRegistry, Clock clock) {
+        this.perSecondLimit = Math.max(perSecondLimit, 1);
+        this.dailyLimit = dailyLimit;
+        this.interactiveReserve = Math.min(interactiveReserve, dailyLimit);
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.clock = clock;
+        this.tokens = this.perSecondLimit;
+        this.lastRefillMillis = clock.millis();
+        this.day = LocalDate.now(clock);
+
+        for (RequestPriority priority : RequestPriority.values()) {
+            Map<String, Counter> byResult = new HashMap<>();
+            for (String result : List.of("granted", "queued", "throttled", "exceeded")) {
+                byResult.put(result, Counter.builder("public.data.quota.requests")
+                        .description("호출 한도 관리 결과")
+                        .tag("priority", priority.name().toLowerCase())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+            counters.put(priority, byResult);
+        }
+        Gauge.builder("public.data.quota.daily.used", this, governor -> governor.getStatus().dailyUsed())
+                .description("오늘 사용한 공공데이터 포털 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.quota.daily.remaining", this, governor -> governor.getStatus().dailyRemaining())
+                .description("오늘 남은 공공데이터 포털 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.quota.queue.size", this, governor -> governor.queueSize())
+                .description("호출 한도 대기 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 1회분 한도 확보
+     * 바로 쓸 수 있으면 즉시 완료, 초당 한도에 걸리면 대기 후 완료,
+     * 일일 한도/대기열/대기 시간을 넘으면 PublicDataApiException으로 거절
+     *
+     * @param priority 요청 우선순위
+     * @return 한도를 확보하면 완료되는 Mono
+     */
+    public Mono<Void> acquire(RequestPriority priority) {
+        return Mono.create(sink -> {
+            PublicDataApiException rejection;
+            boolean granted = false;
+
+            synchronized (this) {
+                rollOverDay();
+                rejection = checkDailyBudget(priority);
+
+                if (rejection == null) {
+                    refill();
+                    if (queue.isEmpty() && tokens >= 1) {
+                        consume(priority);
+                        granted = true;
+                    } else if (queue.size() >= maxQueueSize) {
+                        rejection = throttled(priority, "대기 중인 요청이 너무 많습니다.");
+                    } else {
+                        Waiter waiter = new Waiter(priority, sequence++, sink, clock.millis() + maxWait.toMillis());
+                        queue.add(waiter);
+                        sink.onCancel(() -> cancel(waiter));
+                        counter(priority, "queued").increment();
+                        scheduleDrain();
+                        return;
+                    }
+                }
+            }
+
+            if (granted) {
+                sink.success();
+            } else {
+                sink.error(rejection);
+            }
+        });
+    }
+
+    /**
+     * 공공데이터 포털이 한도 초과(22)를 응답했을 때 호출
+     * 다음 날까지 모든 요청을 거절
+     */
+    public void markExhausted() {
+        List<Waiter> rejected;
+        synchronized (this) {
+            if (exhausted) {
+                return;
+            }
+            exhausted = true;
+            rejected = new ArrayList<>(queue);
+            queue.clear();
+        }
+
+        log.error("🚫 공공데이터 포털 일일 호출 한도 초과 응답 - 오늘 남은 호출을 중단합니다.");
+        rejected.forEach(waiter -> waiter.sink.error(exceeded(waiter.priority)));
+    }
+
+    /**
+     * 현재 한도 사용 현황
+     */
+    public synchronized QuotaStatus getStatus() {
+        rollOverDay();
+        refill();
+
+        int queuedInteractive = 0;
+        for (Waiter waiter : queue) {
+            if (waiter.priority == RequestPriority.INTERACTIVE) {
+                queuedInteractive++;
+            }
+        }
+
+        return new QuotaStatus(dailyLimit, dailyUsed, backgroundUsed, Math.max(dailyLimit - dailyUsed, 0),
+                interactiveReserve, exhausted, perSecondLimit, tokens, queuedInteractive, queue.size() - queuedInteractive,
+                day.plusDays(1).atStartOfDay(ZONE));
+    }
+
+    /**
+     * 대기 중인 요청을 토큰이 있는 만큼 처리
+     */
+    void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Map.Entry<Waiter, PublicDataApiException>> rejected = new ArrayList<>();
+
+        synchronized (this) {
+            drainScheduled = false;
+            rollOverDay();
+            refill();
+            long now = clock.millis();
+
+            while (!queue.isEmpty()) {
+                Waiter waiter = queue.peek();
+                PublicDataApiException rejection = checkDailyBudget(waiter.priority);
+                if (rejection == null && waiter.deadlineMillis < now) {
+                    rejection = throttled(waiter.priority, "호출 한도 대기 시간을 초과했습니다.");
+                }
+
+                if (rejection != null) {
+                    queue.poll();
+                    rejected.add(Map.entry(waiter, rejection));
+                } else if (tokens >= 1) {
+                    queue.poll();
+                    consume(waiter.priority);
+                    granted.add(waiter);
+                } else {
+                    break;
+                }
+            }
+
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        granted.forEach(waiter -> waiter.sink.success());
+        rejected.forEach(entry -> entry.getKey().sink.error(entry.getValue()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    synchronized int queueSize() {
+        return queue.size();
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        queue.remove(waiter);
+    }
+
+    /**
+     * 다음 토큰이 생기는 시점에 drain 예약
+     */
+    private void scheduleDrain() {
+        if (drainScheduled || scheduler.isDisposed()) {
+            return;
+        }
+        drainScheduled = true;
+
+        long delayMillis = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * 1000.0 / perSecondLimit);
+        scheduler.schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private PublicDataApiException checkDailyBudget(RequestPriority priority) {
+        long remaining = dailyLimit - dailyUsed;
+
+        if (exhausted || remaining <= 0) {
+            return exceeded(priority);
+        }
+        if (priority == RequestPriority.BACKGROUND && remaining <= interactiveReserve) {
+            return throttled(priority, "남은 일일 호출 한도는 사용자 요청 전용입니다. (남은 호출: " + remaining + ")");
+        }
+        return null;
+    }
+
+    private void consume(RequestPriority priority) {
+        tokens -= 1;
+        dailyUsed++;
+        if (priority == RequestPriority.BACKGROUND) {
+            backgroundUsed++;
+        }
+        counter(priority, "granted").increment();
+    }
+
+    private void refill() {
+        long now = clock.millis();
+        if (now > lastRefillMillis) {
+            tokens = Math.min(perSecondLimit, tokens + (now - lastRefillMillis) * perSecondLimit / 1000.0);
+            lastRefillMillis = now;
+        }
+    }
+
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(day)) {
+            log.info("🔄 공공데이터 포털 일일 호출 한도 초기화 - 전일 사용: {}건", dailyUsed);
+            day = today;
+            dailyUsed = 0;
+            backgroundUsed = 0;
+            exhausted = false;
+        }
+    }
+
+    private PublicDataApiException throttled(RequestPriority priority, String message) {
+        counter(priority, "throttled").increment();
+        return new PublicDataApiException("QUOTA_THROTTLED", message);
+    }
+
+    private PublicDataApiException exceeded(RequestPriority priority) {
+        counter(priority, "exceeded").increment();
+        return new PublicDataApiException("QUOTA_EXCEEDED", "오늘의 공공데이터 포털 호출 한도를 모두 사용했습니다.");
+    }
+
+    private Counter counter(RequestPriority priority, String result) {
+        return counters.get(priority).get(result);
+    }
+
+    /**
+     * 초당 한도 대기 요청
+     */
+    private record Waiter(RequestPriority priority, long sequence, MonoSink<Void> sink, long deadlineMillis)
+            implements Comparable<Waiter> {
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.datapublic.mcp.web.quota;
+
+import java.time.ZonedDateTime;
+
+/**
+ * serviceKey 호출 한도 사용 현황
+ *
+ * @param dailyLimit 일일 호출 한도
+ * @param dailyUsed 오늘 사용한 호출 수
+ * @param backgroundUsed 오늘 사용한 호출 중 백그라운드 요청 수
+ * @param dailyRemaining 오늘 남은 호출 수
+ * @param interactiveReserve 사용자 요청 전용으로 남겨두는 호출 수
+ * @param exhausted 공공데이터 포털이 한도 초과(22)를 응답해 오늘 호출을 중단했는지 여부
+ * @param perSecondLimit 초당 호출 한도
+ * @param availableTokens 지금 바로 쓸 수 있는 초당 토큰 수
+ * @param queuedInteractive 대기 중인 사용자 요청 수
+ * @param queuedBackground 대기 중인 백그라운드 요청 수
+ * @param resetAt 일일 한도 초기화 시각
+ */
+public record QuotaStatus(long dailyLimit, long dailyUsed, long backgroundUsed, long dailyRemaining, long interactiveReserve,
+                          boolean exhausted, int perSecondLimit, double availableTokens,
+                          int queuedInteractive, int queuedBackground, ZonedDateTime resetAt) {
+}
@@ -0,0 +1,38 @@
+package com.datapublic.mcp.web.quota;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * 공공데이터 포털 호출 우선순위
+ * Reactor Context로 전달하며, 지정하지 않으면 INTERACTIVE
+ */
+public enum RequestPriority {
+
+    /**
+     * 사용자 요청 (먼저 처리, 일일 예비 한도 사용 가능)
+     */
+    INTERACTIVE,
+
+    /**
+     * 백그라운드 작업 (프리패치, 적재 등 - 남는 한도만 사용)
+     */
+    BACKGROUND;
+
+    private static final String CONTEXT_KEY = RequestPriority.class.getName();
+
+    /**
+     * 이 우선순위를 담은 Reactor Context
+     * 예: {@code mono.contextWrite(RequestPriority.BACKGROUND.asContext())}
+     */
+    public Context asContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Reactor Context에서 우선순위 조회
+     */
+    public static RequestPriority from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+}
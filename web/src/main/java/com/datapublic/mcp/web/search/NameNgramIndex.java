@@ -0,0 +1,173 @@
+package com.datapublic.mcp.web.search;
+
+import com.datapublic.mcp.web.columnar.StringDictionary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열 사전 값의 n-gram 역색인 (글자 1개, 연속한 글자 2개 → 사전 id 목록)
+ * "래미안", "자이"처럼 이름 일부로 찾을 때 사전 전체를 훑지 않고 후보 id만 골라 확인함
+ * 사전은 추가만 되므로 새로 등록된 id만 이어서 색인하고, id 목록은 항상 오름차순
+ *
+ * 공백과 기호는 무시하고 영문은 소문자로 맞춤 ("래미안 대치팰리스" = "래미안대치팰리스")
+ */
+final class NameNgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final StringDictionary dictionary;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Posting> grams = new HashMap<>();
+    private String[] normalized = new String[64];
+    private int indexed;
+
+    NameNgramIndex(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * 사전에 새로 등록된 값을 색인
+     */
+    void sync() {
+        int target = dictionary.size();
+        if (target == indexedCount()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int id = indexed; id < target; id++) {
+                String name = normalize(dictionary.decode(id));
+                if (id == normalized.length) {
+                    normalized = Arrays.copyOf(normalized, normalized.length * 2);
+                }
+                normalized[id] = name;
+                for (String gram : grams(name, true)) {
+                    grams.computeIfAbsent(gram, g -> new Posting()).add(id);
+                }
+            }
+            indexed = Math.max(indexed, target);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화한 검색어를 이름 안에 포함하는 사전 id (오름차순)
+     */
+    int[] find(String query) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 id 목록을 후보로 삼고 나머지 gram은 실제 포함 여부로 확인
+            Posting smallest = null;
+            for (String gram : grams(needle, false)) {
+                Posting posting = grams.get(gram);
+                if (posting == null) {
+                    return EMPTY;
+                }
+                if (smallest == null || posting.size < smallest.size) {
+                    smallest = posting;
+                }
+            }
+
+            int[] matches = new int[smallest.size];
+            int count = 0;
+            for (int i = 0; i < smallest.size; i++) {
+                int id = smallest.ids[i];
+                if (normalized[id].contains(needle)) {
+                    matches[count++] = id;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 없이 사전 전체를 훑어 검색어를 포함하는 id (오름차순)
+     * 사전 압축 직후 이전 사전으로 인코딩된 세그먼트를 조회할 때처럼 색인이 없는 사전에만 사용
+     */
+    static int[] scan(StringDictionary dictionary, String query) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            return EMPTY;
+        }
+        int size = dictionary.size();
+        int[] matches = new int[size];
+        int count = 0;
+        for (int id = 0; id < size; id++) {
+            if (normalize(dictionary.decode(id)).contains(needle)) {
+                matches[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+        int indexedCount() {
+        lock.readLock().lock();
+        try {
+            return indexed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자 1개/연속한 글자 2개 목록 (중복 제거)
+     * 검색어는 두 글자 이상이면 연속한 두 글자만 사용
+     */
+    private static Set<String> grams(String name, boolean withUnigrams) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            if (withUnigrams || name.length() == 1) {
+                result.add(name.substring(i, i + 1));
+            }
+            if (i + 1 < name.length()) {
+                result.add(name.substring(i, i + 2));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 오름차순 사전 id 목록 (쓰기 잠금 안에서만 추가)
+     */
+    private static final class Posting {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
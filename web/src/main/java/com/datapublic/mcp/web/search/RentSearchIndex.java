@@ -0,0 +1,469 @@
+package com.datapublic.mcp.web.search;
+
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.columnar.SegmentListener;
+import com.datapublic.mcp.web.columnar.StringDictionary;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 열 단위 저장소에 적재된 실거래의 역색인 (아파트명 n-gram, 법정동명/지번 정확히 일치)
+ * 세그먼트가 적재/교체/제거될 때마다 SegmentListener 알림으로 그 세그먼트만 다시 색인하므로
+ * 크롤러나 통계 조회가 새 달을 받아오면 바로 검색에 반영됨
+ *
+ * - 사전 값 색인: 아파트명 사전의 n-gram → 아파트명 id (사전이 공유되므로 이름마다 한 번만 색인)
+ * - 세그먼트 색인: 아파트명/법정동명 id → 그 값이 있는 세그먼트, 세그먼트 안에서는 아파트명/법정동명/지번 id → 행 번호
+ *   (지번은 구마다 흔한 값이라 세그먼트 목록을 따로 두지 않고, 지번만으로 찾으면 모든 세그먼트의 행 색인을 확인)
+ *
+ * 검색은 가장 적게 걸리는 조건으로 세그먼트와 행을 고른 뒤 나머지 조건을 행의 id로 확인하며 원본 행을 훑지 않음
+ * 저장소가 사전을 압축하면 새 사전 기준으로 색인 전체를 따로 만든 뒤 한 번에 바꿈 (검색 중에 사전이 섞이지 않도록)
+ */
+@Component
+@Slf4j
+public final class RentSearchIndex implements SegmentListener {
+
+    /**
+     * 한 번에 돌려줄 수 있는 최대 결과 수
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private static final Comparator<SegmentKey> NEWEST_FIRST = Comparator.comparingInt(SegmentKey::dealYm).reversed()
+            .thenComparing(SegmentKey::districtCode);
+
+    private volatile Generation generation;
+
+    public RentSearchIndex(RentColumnStore columnStore, MeterRegistry meterRegistry) {
+        this.generation = new Generation(columnStore.dictionaries());
+
+        Gauge.builder("public.data.search.segments", this, index -> index.generation.postings.size())
+                .description("검색 색인에 반영된 (지역코드, 계약년월) 세그먼트 수")
+                .register(meterRegistry);
+        Gauge.builder("public.data.search.names", this, index -> index.generation.aptNames.indexedCount())
+                .description("검색 색인에 반영된 아파트명 수")
+                .register(meterRegistry);
+
+        columnStore.addListener(this);
+        for (RentColumnSegment segment : columnStore.segments()) {
+            segmentPut(null, segment);
+        }
+    }
+
+    @Override
+    public void segmentPut(RentColumnSegment previous, RentColumnSegment current) {
+        Generation g = generation;
+        // 사전 압축 전에 만든 세그먼트 (압축 알림으로 새 사본이 이미 반영됨)
+        if (current.dictionaries() != g.dictionaries) {
+            return;
+        }
+        g.aptNames.sync();
+        SegmentPostings built = new SegmentPostings(current);
+        SegmentKey key = new SegmentKey(current.districtCode(), current.dealYm());
+
+        synchronized (this) {
+            if (generation != g) {
+                return;
+            }
+            Map<SegmentKey, SegmentPostings> postings = g.postings;
+            SegmentPostings existing = postings.get(key);
+            // 알림 순서가 뒤바뀌어 더 오래된 세그먼트가 늦게 도착한 경우
+            if (existing != null && existing.segment().version() > current.version()) {
+                return;
+            }
+            if (existing != null) {
+                g.unlink(key, existing);
+            }
+            postings.put(key, built);
+            g.link(key, built);
+        }
+
+        log.debug("🔎 검색 색인 갱신 - 지역코드: {}, 계약년월: {}, {}건", key.districtCode(), key.dealYm(), current.size());
+    }
+
+    @Override
+    public void segmentRemoved(RentColumnSegment segment) {
+        SegmentKey key = new SegmentKey(segment.districtCode(), segment.dealYm());
+        synchronized (this) {
+            Generation g = generation;
+            SegmentPostings existing = g.postings.get(key);
+            if (existing != null && existing.segment().version() == segment.version()) {
+                g.postings.remove(key);
+                g.unlink(key, existing);
+            }
+        }
+    }
+
+    @Override
+    public void dictionariesCompacted(RentColumnStore.Dictionaries dictionaries, List<RentColumnSegment> segments) {
+        Generation rebuilt = new Generation(dictionaries);
+        rebuilt.aptNames.sync();
+        for (RentColumnSegment segment : segments) {
+            SegmentKey key = new SegmentKey(segment.districtCode(), segment.dealYm());
+            SegmentPostings built = new SegmentPostings(segment);
+            rebuilt.postings.put(key, built);
+            rebuilt.link(key, built);
+        }
+        synchronized (this) {
+            generation = rebuilt;
+        }
+        log.info("🔎 검색 색인 재구성 (사전 압축) - 세그먼트 {}개, 아파트명 {}개",
+                segments.size(), rebuilt.aptNames.indexedCount());
+    }
+
+    /**
+     * 실거래 검색
+     * 결과는 계약년월 최신순 → 지역코드 순 → 같은 세그먼트 안에서는 계약일 최신순
+     *
+     * @return 검색 결과 (records는 최대 limit건, totalCount는 전체 일치 건수)
+     */
+    public SearchResult search(RentSearchQuery query) {
+        String aptNm = blankToNull(query.aptNm());
+        String umdNm = blankToNull(query.umdNm());
+        String jibun = blankToNull(query.jibun());
+        if (aptNm == null && umdNm == null && jibun == null) {
+            throw new PublicDataApiException("INVALID_SEARCH", "아파트명, 법정동명, 지번 중 하나 이상을 입력해야 합니다.");
+        }
+        if (aptNm != null && NameNgramIndex.normalize(aptNm).isEmpty()) {
+            throw new PublicDataApiException("INVALID_SEARCH", "아파트명에 문자나 숫자가 없습니다: " + aptNm);
+        }
+        int limit = Math.min(Math.max(query.limit(), 1), MAX_LIMIT);
+
+        Generation g = generation;
+        Map<SegmentKey, SegmentPostings> postings = g.postings;
+        int[] aptNmIds = aptNm == null ? null : g.aptNames.find(aptNm);
+        int umdNmId = umdNm == null ? StringDictionary.NULL_ID : g.dictionaries.umdNm().find(umdNm);
+        int jibunId = jibun == null ? StringDictionary.NULL_ID : g.dictionaries.jibun().find(jibun);
+        if ((aptNmIds != null && aptNmIds.length == 0)
+                || (umdNm != null && umdNmId == StringDictionary.NULL_ID)
+                || (jibun != null && jibunId == StringDictionary.NULL_ID)) {
+            return new SearchResult(List.of(), 0, 0, postings.size());
+        }
+
+        List<SegmentKey> candidates = candidateSegments(g, query, aptNmIds, umdNm != null ? umdNmId : null,
+                jibun != null ? jibunId : null);
+
+        List<ApartmentRentRecord> records = new ArrayList<>(Math.min(limit, 64));
+        long totalCount = 0;
+        int matchedSegments = 0;
+        for (SegmentKey key : candidates) {
+            SegmentPostings segmentPostings = postings.get(key);
+            if (segmentPostings == null) {
+                continue;
+            }
+            Integer umdNmFilter = umdNm != null ? umdNmId : null;
+            Integer jibunFilter = jibun != null ? jibunId : null;
+            // limit건을 채운 뒤에는 행 번호를 만들지 않고 건수만 셈
+            if (records.size() >= limit) {
+                int count = segmentPostings.count(aptNmIds, umdNmFilter, jibunFilter);
+                if (count > 0) {
+                    matchedSegments++;
+                    totalCount += count;
+                }
+                continue;
+            }
+
+            int[] rows = segmentPostings.match(aptNmIds, umdNmFilter, jibunFilter);
+            if (rows.length > 0) {
+                matchedSegments++;
+                totalCount += rows.length;
+                RentColumnSegment segment = segmentPostings.segment();
+                Integer[] byDealDate = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+                Arrays.sort(byDealDate, Comparator.comparingInt(segment::dealDate).reversed());
+                for (int i = 0; i < byDealDate.length && records.size() < limit; i++) {
+                    records.add(segment.record(byDealDate[i]));
+                }
+            }
+        }
+
+        log.info("🔎 실거래 검색 - 아파트명: {}, 법정동: {}, 지번: {} → 세그먼트 {}개, {}건",
+                aptNm, umdNm, jibun, matchedSegments, totalCount);
+        return new SearchResult(records, totalCount, matchedSegments, postings.size());
+    }
+
+    /**
+     * 아파트명 일부를 포함하는 아파트명 사전 id (오름차순)
+     * 다른 조회가 필터 조건을 문자열 비교 대신 id 비교로 바꿀 때 사용
+     *
+     * @param dictionaries id를 비교할 세그먼트의 사전 (색인 기준 사전이 아니면 사전 전체를 훑음)
+     */
+    public int[] findAptNmIds(RentColumnStore.Dictionaries dictionaries, String aptNm) {
+        Generation g = generation;
+        if (g.dictionaries == dictionaries) {
+            return g.aptNames.find(aptNm);
+        }
+        return NameNgramIndex.scan(dictionaries.aptNm(), aptNm);
+    }
+
+    /**
+     * 세그먼트 안에서 아파트명 id 목록/법정동명 id에 맞는 행 번호 (오름차순)
+     *
+     * @param aptNmIds 아파트명 사전 id (오름차순, null이면 조건 없음)
+     * @param umdNmId 법정동명 사전 id (null이면 조건 없음)
+     * @return 행 번호, 조건이 없거나 이 세그먼트가 아직 색인되지 않았으면 null
+     */
+    public int[] candidateRows(RentColumnSegment segment, int[] aptNmIds, Integer umdNmId) {
+        if (aptNmIds == null && umdNmId == null) {
+            return null;
+        }
+        SegmentPostings segmentPostings = generation.postings.get(new SegmentKey(segment.districtCode(), segment.dealYm()));
+        if (segmentPostings == null || segmentPostings.segment() != segment) {
+            return null;
+        }
+        return segmentPostings.match(aptNmIds, umdNmId, null);
+    }
+
+    /**
+     * 주어진 조건 중 세그먼트가 가장 적게 걸리는 조건으로 후보 세그먼트를 고름
+     */
+    private static List<SegmentKey> candidateSegments(Generation g, RentSearchQuery query, int[] aptNmIds,
+                                                      Integer umdNmId, Integer jibunId) {
+        Set<SegmentKey> smallest = null;
+        if (umdNmId != null) {
+            smallest = g.segmentsByUmdNm.getOrDefault(umdNmId, Set.of());
+        }
+        if (aptNmIds != null && (smallest == null || aptNmIds.length < smallest.size())) {
+            Set<SegmentKey> byAptNm = new HashSet<>();
+            for (int id : aptNmIds) {
+                byAptNm.addAll(g.segmentsByAptNm.getOrDefault(id, Set.of()));
+            }
+            if (smallest == null || byAptNm.size() < smallest.size()) {
+                smallest = byAptNm;
+            }
+        }
+
+        List<SegmentKey> result = new ArrayList<>();
+        for (SegmentKey key : smallest != null ? smallest : g.postings.keySet()) {
+            if (query.matchesSegment(key.districtCode(), key.dealYm())) {
+                result.add(key);
+            }
+        }
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param records 일치한 거래 (최대 limit건)
+     * @param totalCount 전체 일치 건수
+     * @param segmentCount 일치한 거래가 있는 (지역코드, 계약년월) 수
+     * @param indexedSegmentCount 검색 대상이 된 전체 세그먼트 수 (열 단위 저장소에 적재된 범위)
+     */
+    public record SearchResult(List<ApartmentRentRecord> records, long totalCount, int segmentCount,
+                               int indexedSegmentCount) {
+    }
+
+    /**
+     * 사전 하나를 기준으로 한 색인 전체 (사전 압축 시 통째로 교체)
+     */
+    private static final class Generation {
+
+        private final RentColumnStore.Dictionaries dictionaries;
+        private final NameNgramIndex aptNames;
+        private final Map<SegmentKey, SegmentPostings> postings = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<SegmentKey>> segmentsByAptNm = new ConcurrentHashMap<>();
+        private final Map<Integer, Set<SegmentKey>> segmentsByUmdNm = new ConcurrentHashMap<>();
+
+        Generation(RentColumnStore.Dictionaries dictionaries) {
+            this.dictionaries = dictionaries;
+            this.aptNames = new NameNgramIndex(dictionaries.aptNm());
+        }
+
+        void link(SegmentKey key, SegmentPostings built) {
+            built.aptNm().forEachId(id -> segmentsByAptNm.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(key));
+            built.umdNm().forEachId(id -> segmentsByUmdNm.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(key));
+        }
+
+        void unlink(SegmentKey key, SegmentPostings existing) {
+            existing.aptNm().forEachId(id -> unlink(segmentsByAptNm, id, key));
+            existing.umdNm().forEachId(id -> unlink(segmentsByUmdNm, id, key));
+        }
+
+        private static void unlink(Map<Integer, Set<SegmentKey>> segmentsById, int id, SegmentKey key) {
+            segmentsById.computeIfPresent(id, (k, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * 세그먼트 하나의 id → 행 번호 색인
+     */
+    private record SegmentPostings(RentColumnSegment segment, IdPostings aptNm, IdPostings umdNm, IdPostings jibun) {
+
+        SegmentPostings(RentColumnSegment segment) {
+            this(segment, IdPostings.of(segment.size(), segment::aptNmId),
+                    IdPostings.of(segment.size(), segment::umdNmId),
+                    IdPostings.of(segment.size(), segment::jibunId));
+        }
+
+        /**
+         * 조건에 모두 맞는 행 번호 (오름차순)
+         * 가장 적게 걸리는 조건의 행 목록에서 시작해 나머지 조건은 행의 id로 확인
+         */
+        int[] match(int[] aptNmIds, Integer umdNmId, Integer jibunId) {
+            int[] rows = null;
+            if (umdNmId != null) {
+                rows = umdNm.rows(umdNmId);
+            }
+            if (jibunId != null) {
+                int[] byJibun = jibun.rows(jibunId);
+                if (rows == null || byJibun.length < rows.length) {
+                    rows = byJibun;
+                }
+            }
+            if (aptNmIds != null && (rows == null || aptNm.count(aptNmIds) < rows.length)) {
+                rows = aptNm.rows(aptNmIds);
+            }
+
+            int[] matched = new int[rows.length];
+            int count = 0;
+            for (int row : rows) {
+                if ((umdNmId == null || segment.umdNmId(row) == umdNmId)
+                        && (jibunId == null || segment.jibunId(row) == jibunId)
+                        && (aptNmIds == null || Arrays.binarySearch(aptNmIds, segment.aptNmId(row)) >= 0)) {
+                    matched[count++] = row;
+                }
+            }
+            return count == matched.length ? matched : Arrays.copyOf(matched, count);
+        }
+
+        /**
+         * 조건에 모두 맞는 행 수 (조건이 하나면 행 색인 구간 길이만 더함)
+         */
+        int count(int[] aptNmIds, Integer umdNmId, Integer jibunId) {
+            if (umdNmId == null && jibunId == null) {
+                return aptNm.count(aptNmIds);
+            }
+            if (aptNmIds == null && jibunId == null) {
+                return umdNm.count(umdNmId);
+            }
+            if (aptNmIds == null && umdNmId == null) {
+                return jibun.count(jibunId);
+            }
+            return match(aptNmIds, umdNmId, jibunId).length;
+        }
+    }
+
+    /**
+     * id → 행 번호 목록 (id 오름차순으로 정렬한 행 번호 배열을 id별 구간으로 나눔)
+     */
+    private record IdPostings(int[] ids, int[] offsets, int[] rows) {
+
+        static IdPostings of(int size, IntUnaryOperator idOf) {
+            long[] packed = new long[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                int id = idOf.applyAsInt(row);
+                if (id != StringDictionary.NULL_ID) {
+                    packed[count++] = (long) id << 32 | row;
+                }
+            }
+            Arrays.sort(packed, 0, count);
+
+            int[] rows = new int[count];
+            int[] ids = new int[count];
+            int[] offsets = new int[count + 1];
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                int id = (int) (packed[i] >>> 32);
+                rows[i] = (int) packed[i];
+                if (distinct == 0 || ids[distinct - 1] != id) {
+                    ids[distinct] = id;
+                    offsets[distinct] = i;
+                    distinct++;
+                }
+            }
+            offsets[distinct] = count;
+            return new IdPostings(Arrays.copyOf(ids, distinct), Arrays.copyOf(offsets, distinct + 1), rows);
+        }
+
+        int[] rows(int id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? new int[0] : Arrays.copyOfRange(rows, offsets[index], offsets[index + 1]);
+        }
+
+        int count(int id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? 0 : offsets[index + 1] - offsets[index];
+        }
+
+        /**
+         * 여러 id의 행 번호 (오름차순)
+         */
+        int[] rows(int[] sortedIds) {
+            int[] result = new int[count(sortedIds)];
+            int[] length = {0};
+            forEachIndex(sortedIds, index -> {
+                int from = offsets[index];
+                int to = offsets[index + 1];
+                System.arraycopy(rows, from, result, length[0], to - from);
+                length[0] += to - from;
+            });
+            Arrays.sort(result);
+            return result;
+        }
+
+        int count(int[] sortedIds) {
+            int[] count = {0};
+            forEachIndex(sortedIds, index -> count[0] += offsets[index + 1] - offsets[index]);
+            return count[0];
+        }
+
+        /**
+         * 주어진 id 중 이 세그먼트에 있는 id의 위치
+         * 찾을 id가 적으면 이진 탐색, 많으면 두 정렬 목록을 나란히 훑음
+         */
+        private void forEachIndex(int[] sortedIds, IntConsumer action) {
+            if (sortedIds.length * 16L < ids.length) {
+                for (int id : sortedIds) {
+                    int index = Arrays.binarySearch(ids, id);
+                    if (index >= 0) {
+                        action.accept(index);
+                    }
+                }
+                return;
+            }
+            for (int i = 0, j = 0; i < sortedIds.length && j < ids.length; ) {
+                if (sortedIds[i] < ids[j]) {
+                    i++;
+                } else if (sortedIds[i] > ids[j]) {
+                    j++;
+                } else {
+                    action.accept(j);
+                    i++;
+                    j++;
+                }
+            }
+        }
+
+        void forEachId(IntConsumer action) {
+            for (int id : ids) {
+                action.accept(id);
+            }
+        }
+    }
+
+    private record SegmentKey(String districtCode, int dealYm) {
+    }
+}
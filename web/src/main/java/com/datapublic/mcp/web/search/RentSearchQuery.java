@@ -0,0 +1,62 @@
+package com.datapublic.mcp.web.search;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 실거래 검색 조건
+ * 아파트명은 이름 일부, 법정동명/지번은 정확히 일치하는 값으로 찾으며 적어도 하나는 있어야 함
+ *
+ * @param aptNm 아파트명 일부 (공백/기호 무시, 없으면 null)
+ * @param umdNm 법정동명 (정확히 일치, 없으면 null)
+ * @param jibun 지번 (정확히 일치, 없으면 null)
+ * @param districtCodes 지역코드 제한 (비어있으면 전체)
+ * @param fromYm 시작 계약년월 (yyyyMM, 0이면 제한 없음)
+ * @param toYm 종료 계약년월 (yyyyMM, 포함, 0이면 제한 없음)
+ * @param limit 최대 결과 수
+ */
+public record RentSearchQuery(String aptNm, String umdNm, String jibun, Set<String> districtCodes,
+                              int fromYm, int toYm, int limit) {
+
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * 요청 파라미터 → 검색 조건
+     *
+     * @param fromYearMonth 시작 계약년월 (6자리, null이면 제한 없음)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함, null이면 제한 없음)
+     */
+    public static RentSearchQuery of(String aptNm, String umdNm, String jibun, Collection<String> districtCodes,
+                                     String fromYearMonth, String toYearMonth, int limit) {
+        int fromYm = parseYearMonth(fromYearMonth);
+        int toYm = parseYearMonth(toYearMonth);
+        if (fromYm != 0 && toYm != 0 && fromYm > toYm) {
+            throw new PublicDataApiException("INVALID_DEAL_YEAR_MONTH",
+                    "시작 계약년월이 종료 계약년월보다 늦습니다: " + fromYearMonth + " > " + toYearMonth);
+        }
+        return new RentSearchQuery(aptNm, umdNm, jibun, Set.copyOf(districtCodes), fromYm, toYm, limit);
+    }
+
+    boolean matchesSegment(String districtCode, int dealYm) {
+        return (districtCodes.isEmpty() || districtCodes.contains(districtCode))
+                && (fromYm == 0 || dealYm >= fromYm)
+                && (toYm == 0 || dealYm <= toYm);
+    }
+
+    private static int parseYearMonth(String dealYearMonth) {
+        if (dealYearMonth == null || dealYearMonth.isBlank()) {
+            return 0;
+        }
+        try {
+            YearMonth month = YearMonth.parse(dealYearMonth.trim(), DEAL_YMD_FORMAT);
+            return month.getYear() * 100 + month.getMonthValue();
+        } catch (DateTimeParseException e) {
+            throw new PublicDataApiException("INVALID_DEAL_YEAR_MONTH", "계약년월 형식이 올바르지 않습니다: " + dealYearMonth);
+        }
+    }
+}
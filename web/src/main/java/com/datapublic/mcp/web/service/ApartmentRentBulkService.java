@@ -0,0 +1,299 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentBulkResult;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.ApartmentRentStreamEvent;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.lawd.LawdCodeIndex;
+import com.datapublic.mcp.web.lawd.LawdLevel;
+import com.datapublic.mcp.web.lawd.LawdRegion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 구/다중 월 일괄 조회 서비스
+ * (구, 계약년월) 조합마다 전체 조회를 수행하고 결과를 하나로 합침
+ * "all"은 서울특별시 25개 구, 그 밖의 지역은 전국 지역코드나 시군구 이름으로 지정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApartmentRentBulkService {
+
+    /**
+     * 전체 구 선택 키워드
+     */
+    public static final String ALL_DISTRICTS = "all";
+
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ApartmentRentService apartmentRentService;
+    private final LawdCodeIndex lawdCodeIndex;
+
+    /**
+     * 동시에 조회하는 (구, 계약년월) 조합 수
+     * 조합마다 전체 조회의 페이지 동시 요청(public.data.fetch-all.concurrency)이 곱해짐
+     */
+    @Value("${public.data.bulk.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * 한 번에 조회할 수 있는 최대 개월 수
+     */
+    @Value("${public.data.bulk.max-months:12}")
+    private int maxMonths;
+
+    /**
+     * 다중 구/다중 월 일괄 조회
+     *
+     * @param districts 지역코드 또는 구명 목록 ("all"이면 서울 25개 구 전체, 서울 밖은 전국 지역코드/시군구 이름)
+     * @param fromYearMonth 시작 계약년월 (6자리)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함)
+     * @return 일괄 조회 결과 Mono (조합 단위 실패는 failures에 기록)
+     */
+    public Mono<ApartmentRentBulkResult> getBulkApartmentRentDataReactive(List<String> districts,
+                                                                         String fromYearMonth, String toYearMonth) {
+        return Mono.defer(() -> {
+            List<String> districtCodes = resolveDistrictCodes(districts);
+            List<String> months = resolveMonths(fromYearMonth, toYearMonth);
+
+            log.info("📦 아파트 전월세 일괄 조회 - 구 {}개, 계약년월 {}~{} ({}개월), 동시 조회: {}",
+                    districtCodes.size(), fromYearMonth, toYearMonth, months.size(), concurrency);
+
+            return Flux.fromIterable(districtCodes)
+                    .concatMap(districtCode -> Flux.fromIterable(months)
+                            .map(month -> new SegmentKey(districtCode, month)))
+                    .flatMapSequential(key -> fetchSegment(key.districtCode(), key.dealYearMonth()), concurrency)
+                    .collectList()
+                    .map(this::merge);
+        });
+    }
+
+    /**
+     * 다중 구/다중 월 스트리밍 조회
+     * 결과 전체를 모으지 않고 거래를 받는 대로 (구 → 계약년월 순서를 유지하며) 내보냄
+     * 구독자가 느리면 다음 페이지 요청도 늦춰지므로 요청 하나가 메모리에 두는 거래 수는 결과 크기와 관계없이
+     * 대략 (concurrency x public.data.fetch-all.concurrency x 페이지 크기)건으로 제한됨
+     *
+     * @param districts 지역코드 또는 구명 목록 ("all"이면 서울 25개 구 전체)
+     * @param fromYearMonth 시작 계약년월 (6자리)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함)
+     * @return 거래/실패/요약 이벤트 Flux (파라미터 오류는 구독 전에 바로 예외)
+     */
+    public Flux<ApartmentRentStreamEvent> streamBulkApartmentRentData(List<String> districts,
+                                                                      String fromYearMonth, String toYearMonth) {
+        List<String> districtCodes = resolveDistrictCodes(districts);
+        List<String> months = resolveMonths(fromYearMonth, toYearMonth);
+
+        return Flux.defer(() -> {
+            log.info("🌊 아파트 전월세 스트리밍 일괄 조회 - 구 {}개, 계약년월 {}~{} ({}개월), 동시 조회: {}",
+                    districtCodes.size(), fromYearMonth, toYearMonth, months.size(), concurrency);
+
+            StreamProgress progress = new StreamProgress(districtCodes.size() * months.size());
+            return Flux.fromIterable(districtCodes)
+                    .concatMap(districtCode -> Flux.fromIterable(months)
+                            .map(month -> new SegmentKey(districtCode, month)))
+                    .index()
+                    .flatMapSequential(indexed -> streamSegment(indexed.getT2(), indexed.getT1().intValue(), progress),
+                            concurrency)
+                    .concatWith(Mono.fromSupplier(progress::toSummary));
+        });
+    }
+
+    /**
+     * (구, 계약년월) 조합 하나를 스트리밍 조회
+     * 실패하면 스트림을 끊지 않고 실패 이벤트로 변환
+     */
+    private Flux<ApartmentRentStreamEvent> streamSegment(SegmentKey key, int position, StreamProgress progress) {
+        AtomicInteger count = new AtomicInteger();
+        return apartmentRentService.streamAllApartmentRentDataReactive(key.districtCode(), key.dealYearMonth())
+                .<ApartmentRentStreamEvent>map(record -> {
+                    count.incrementAndGet();
+                    return new ApartmentRentStreamEvent.Item(record);
+                })
+                .onErrorResume(e -> {
+                    PublicDataApiException error = e instanceof PublicDataApiException apiException
+                            ? apiException
+                            : new PublicDataApiException("UNKNOWN_ERROR", e.getMessage(), e);
+
+                    log.warn("⚠️ 스트리밍 일괄 조회 실패 - 지역코드: {}, 계약년월: {}, {}건 전송 후 오류: [{}] {}",
+                            key.districtCode(), key.dealYearMonth(), count.get(), error.getErrorCode(),
+                            error.getErrorMessage());
+
+                    ApartmentRentBulkResult.Failure failure = new ApartmentRentBulkResult.Failure(
+                            key.districtCode(), key.dealYearMonth(), error.getErrorCode(), error.getErrorMessage());
+                    progress.fail(failure);
+                    return Mono.just(new ApartmentRentStreamEvent.SegmentFailure(failure));
+                })
+                .doOnComplete(() -> progress.complete(position,
+                        new ApartmentRentBulkResult.Segment(key.districtCode(), key.dealYearMonth(), count.get())));
+    }
+
+    /**
+     * (구, 계약년월) 조합 하나를 전체 조회
+     * 실패하면 예외 대신 실패 결과로 변환
+     */
+    private Mono<SegmentResult> fetchSegment(String districtCode, String dealYearMonth) {
+        return apartmentRentService.getAllApartmentRentDataReactive(districtCode, dealYearMonth)
+                .map(body -> new SegmentResult(districtCode, dealYearMonth, body.getItems().getItem(), null))
+                .onErrorResume(e -> {
+                    PublicDataApiException error = e instanceof PublicDataApiException apiException
+                            ? apiException
+                            : new PublicDataApiException("UNKNOWN_ERROR", e.getMessage(), e);
+
+                    log.warn("⚠️ 일괄 조회 실패 - 지역코드: {}, 계약년월: {}, 오류: [{}] {}",
+                            districtCode, dealYearMonth, error.getErrorCode(), error.getErrorMessage());
+
+                    return Mono.just(new SegmentResult(districtCode, dealYearMonth, List.of(),
+                            new ApartmentRentBulkResult.Failure(districtCode, dealYearMonth,
+                                    error.getErrorCode(), error.getErrorMessage())));
+                });
+    }
+
+    private ApartmentRentBulkResult merge(List<SegmentResult> results) {
+        List<ApartmentRentRecord> items = new ArrayList<>();
+        List<ApartmentRentBulkResult.Segment> segments = new ArrayList<>(results.size());
+        List<ApartmentRentBulkResult.Failure> failures = new ArrayList<>();
+
+        for (SegmentResult result : results) {
+            items.addAll(result.items());
+            segments.add(new ApartmentRentBulkResult.Segment(
+                    result.districtCode(), result.dealYearMonth(), result.items().size()));
+            if (result.failure() != null) {
+                failures.add(result.failure());
+            }
+        }
+
+        log.info("✅ 아파트 전월세 일괄 조회 완료 - 조합 {}개, 실패 {}개, 총 {}건",
+                results.size(), failures.size(), items.size());
+
+        return new ApartmentRentBulkResult(items, segments, failures);
+    }
+
+    /**
+     * 지역코드/구명 목록 → 중복 없는 지역코드 목록 (통계 조회에서도 같은 규칙으로 사용)
+     */
+    public List<String> resolveDistrictCodes(List<String> districts) {
+        if (districts == null || districts.isEmpty()) {
+            throw new PublicDataApiException("INVALID_DISTRICT", "조회할 구가 비어있습니다.");
+        }
+
+        Set<String> codes = new LinkedHashSet<>();
+        for (String district : districts) {
+            String value = district == null ? "" : district.trim();
+
+            if (ALL_DISTRICTS.equalsIgnoreCase(value)) {
+                codes.addAll(SeoulDistrictCode.getAllCodes());
+            } else if (SeoulDistrictCode.isValidCode(value)) {
+                codes.add(value);
+            } else if (SeoulDistrictCode.isValidName(value)) {
+                codes.add(SeoulDistrictCode.District.fromName(value).getCode());
+            } else if (lawdCodeIndex.isActiveLawdCd(value)) {
+                codes.add(value);
+            } else if (!value.isEmpty()) {
+                codes.add(lawdCodeIndex.findRegionByName(value)
+                        .filter(region -> region.level() == LawdLevel.SIGUNGU)
+                        .map(LawdRegion::lawdCd)
+                        .orElseThrow(() -> new PublicDataApiException("INVALID_DISTRICT", "유효하지 않은 구: " + value)));
+            }
+        }
+
+        if (codes.isEmpty()) {
+            throw new PublicDataApiException("INVALID_DISTRICT", "조회할 구가 비어있습니다.");
+        }
+        return new ArrayList<>(codes);
+    }
+
+    /**
+     * 계약년월 범위 → 월 목록 (양 끝 포함, 최대 maxMonths개월)
+     */
+    public List<String> resolveMonths(String fromYearMonth, String toYearMonth) {
+        return resolveMonths(fromYearMonth, toYearMonth, maxMonths);
+    }
+
+    /**
+     * 계약년월 범위 → 월 목록 (양 끝 포함, 최대 limit개월)
+     */
+    public List<String> resolveMonths(String fromYearMonth, String toYearMonth, int limit) {
+        YearMonth from = parseYearMonth(fromYearMonth);
+        YearMonth to = parseYearMonth(toYearMonth);
+
+        if (from.isAfter(to)) {
+            throw new PublicDataApiException("INVALID_DEAL_YEAR_MONTH",
+                    "시작 계약년월이 종료 계약년월보다 늦습니다: " + fromYearMonth + " > " + toYearMonth);
+        }
+
+        List<String> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month.format(DEAL_YMD_FORMAT));
+            if (months.size() > limit) {
+                throw new PublicDataApiException("INVALID_DEAL_YEAR_MONTH",
+                        "한 번에 조회할 수 있는 기간은 최대 " + limit + "개월입니다.");
+            }
+        }
+        return months;
+    }
+
+    private YearMonth parseYearMonth(String dealYearMonth) {
+        try {
+            return YearMonth.parse(dealYearMonth == null ? "" : dealYearMonth.trim(), DEAL_YMD_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new PublicDataApiException("INVALID_DEAL_YEAR_MONTH", "계약년월 형식이 올바르지 않습니다: " + dealYearMonth);
+        }
+    }
+
+    private record SegmentKey(String districtCode, String dealYearMonth) {
+    }
+
+    /**
+     * 스트리밍 조회 진행 상황 (조합마다 다른 스레드에서 끝나므로 동기화)
+     */
+    private static final class StreamProgress {
+
+        private final ApartmentRentBulkResult.Segment[] segments;
+        private final List<ApartmentRentBulkResult.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong totalCount = new AtomicLong();
+
+        StreamProgress(int segmentCount) {
+            this.segments = new ApartmentRentBulkResult.Segment[segmentCount];
+        }
+
+        synchronized void complete(int position, ApartmentRentBulkResult.Segment segment) {
+            segments[position] = segment;
+            totalCount.addAndGet(segment.getCount());
+        }
+
+        void fail(ApartmentRentBulkResult.Failure failure) {
+            failures.add(failure);
+        }
+
+        synchronized ApartmentRentStreamEvent.Summary toSummary() {
+            log.info("✅ 아파트 전월세 스트리밍 일괄 조회 완료 - 조합 {}개, 실패 {}개, 총 {}건",
+                    segments.length, failures.size(), totalCount.get());
+            return new ApartmentRentStreamEvent.Summary(List.of(segments), List.copyOf(failures), totalCount.get());
+        }
+    }
+
+    /**
+     * (구, 계약년월) 조합 조회 결과
+     */
+    private record SegmentResult(String districtCode, String dealYearMonth,
+                                 List<ApartmentRentRecord> items, ApartmentRentBulkResult.Failure failure) {
+    }
+}
@@ -1,17 +1,36 @@
 package com.datapublic.mcp.web.service;
 
-import com.datapublic.mcp.web.dto.ApartmentRentItem;
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.storage.cache.RentCacheKey;
+import com.datapublic.mcp.storage.cache.TwoTierCache;
+import com.datapublic.mcp.storage.diff.ContentHasher;
+import com.datapublic.mcp.storage.entity.RentTransaction;
+import com.datapublic.mcp.storage.service.RentMonthChange;
+import com.datapublic.mcp.storage.service.RentMonthPage;
+import com.datapublic.mcp.storage.service.RentTransactionStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
 import com.datapublic.mcp.web.dto.ApartmentRentRequest;
 import com.datapublic.mcp.web.dto.PublicDataApiResponse;
 import com.datapublic.mcp.web.dto.SeoulDistrictCode;
 import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.lawd.LawdCodeIndex;
+import com.datapublic.mcp.web.lawd.LawdLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 아파트 전월세 실거래가 API 서비스
@@ -22,6 +41,24 @@ import java.util.Map;
 public class ApartmentRentService {
     
     private final PublicDataApiClient apiClient;
+    private final TwoTierCache<PublicDataApiResponse.Body<ApartmentRentRecord>> pageCache;
+    private final DealMonthPolicy dealMonthPolicy;
+    private final RentTransactionStore transactionStore;
+    private final RentTransactionMapper transactionMapper;
+    private final LawdCodeIndex lawdCodeIndex;
+    private final InFlightRequestCoalescer requestCoalescer;
+    
+    /**
+     * 전체 조회(월 적재 포함) 시 공공데이터 포털 한 페이지 요청 건수
+     */
+    @Value("${public.data.fetch-all.page-size:1000}")
+    private int fetchAllPageSize;
+    
+    /**
+     * 전체 조회 시 동시에 요청하는 페이지 수
+     */
+    @Value("${public.data.fetch-all.concurrency:4}")
+    private int fetchAllConcurrency;
     
     /**
      * 아파트 전월세 실거래가 API 엔드포인트
@@ -30,73 +67,431 @@ public class ApartmentRentService {
     private static final String APARTMENT_RENT_ENDPOINT = "/1613000/RTMSDataSvcAptRent/getRTMSDataSvcAptRent";
     
     /**
-     * 서울특별시 아파트 전월세 실거래가 조회
+     * numOfRows 미지정 시 공공데이터 포털 기본값
+     */
+    private static final int DEFAULT_NUM_OF_ROWS = 10;
+    
+    /**
+     * 아파트 전월세 실거래가 조회
      * 
-     * @param districtCode 지역코드 (5자리)
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
      * @param dealYearMonth 계약년월 (6자리, 예: 202401)
      * @param pageNo 페이지 번호
      * @param numOfRows 한 페이지 결과 수
      * @return 아파트 전월세 실거래가 목록
      */
-    public List<ApartmentRentItem> getApartmentRentData(String districtCode, String dealYearMonth, 
+    public List<ApartmentRentRecord> getApartmentRentData(String districtCode, String dealYearMonth, 
                                                        Integer pageNo, Integer numOfRows) {
-        log.info("🏠 아파트 전월세 실거래가 조회 - 지역코드: {}, 계약년월: {}", districtCode, dealYearMonth);
-        
-        // 지역코드 유효성 검증
-        validateDistrictCode(districtCode);
-        
-        // 계약년월 유효성 검증
-        validateDealYearMonth(dealYearMonth);
-        
-        // 요청 파라미터 구성
-        Map<String, String> params = buildRequestParams(districtCode, dealYearMonth, pageNo, numOfRows);
-        
-        // API 호출
-        PublicDataApiResponse<ApartmentRentItem> response = apiClient.callApi(
-                APARTMENT_RENT_ENDPOINT, 
-                params, 
-                ApartmentRentItem.class
-        );
-        
-        // 응답 데이터 추출
-        List<ApartmentRentItem> items = extractItems(response);
-        
-        log.info("✅ 아파트 전월세 실거래가 조회 완료 - 총 {}건", items.size());
-        
-        return items;
+        return getApartmentRentDataReactive(districtCode, dealYearMonth, pageNo, numOfRows).block();
     }
     
     /**
-     * 서울특별시 구 이름으로 아파트 전월세 실거래가 조회
+     * 시군구 이름으로 아파트 전월세 실거래가 조회
      * 
-     * @param districtName 구 이름 (예: "강남구")
+     * @param districtName 시군구 이름 (예: "강남구", "경기도 수원시 장안구", 서울 구 이름을 먼저 찾음)
      * @param dealYearMonth 계약년월 (6자리, 예: 202401)
      * @param pageNo 페이지 번호
      * @param numOfRows 한 페이지 결과 수
      * @return 아파트 전월세 실거래가 목록
      */
-    public List<ApartmentRentItem> getApartmentRentDataByDistrictName(String districtName, String dealYearMonth,
+    public List<ApartmentRentRecord> getApartmentRentDataByDistrictName(String districtName, String dealYearMonth,
                                                                      Integer pageNo, Integer numOfRows) {
-        log.info("🏠 아파트 전월세 실거래가 조회 - 구명: {}, 계약년월: {}", districtName, dealYearMonth);
+        return getApartmentRentDataByDistrictNameReactive(districtName, dealYearMonth, pageNo, numOfRows).block();
+    }
+    
+    /**
+     * 아파트 전월세 실거래가 조회 (논블로킹)
+     * 업스트림 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @param pageNo 페이지 번호
+     * @param numOfRows 한 페이지 결과 수
+     * @return 아파트 전월세 실거래가 목록 Mono
+     */
+    public Mono<List<ApartmentRentRecord>> getApartmentRentDataReactive(String districtCode, String dealYearMonth,
+                                                                    Integer pageNo, Integer numOfRows) {
+        return getApartmentRentPageReactive(districtCode, dealYearMonth, pageNo, numOfRows)
+                .map(this::extractItems);
+    }
+    
+    /**
+     * 시군구 이름으로 아파트 전월세 실거래가 조회 (논블로킹)
+     * 
+     * @param districtName 시군구 이름 (예: "강남구", "경기도 수원시 장안구", 서울 구 이름을 먼저 찾음)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @param pageNo 페이지 번호
+     * @param numOfRows 한 페이지 결과 수
+     * @return 아파트 전월세 실거래가 목록 Mono
+     */
+    public Mono<List<ApartmentRentRecord>> getApartmentRentDataByDistrictNameReactive(String districtName, String dealYearMonth,
+                                                                                  Integer pageNo, Integer numOfRows) {
+        return resolveDistrictCode(districtName)
+                .flatMap(districtCode -> getApartmentRentDataReactive(districtCode, dealYearMonth, pageNo, numOfRows));
+    }
+    
+    /**
+     * 아파트 전월세 실거래가 페이지 조회 (논블로킹)
+     * body의 totalCount는 공공데이터 포털이 알려준 전체 건수
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @param pageNo 페이지 번호
+     * @param numOfRows 한 페이지 결과 수
+     * @return 페이지 body Mono
+     */
+    public Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> getApartmentRentPageReactive(String districtCode, String dealYearMonth,
+                                                                                           Integer pageNo, Integer numOfRows) {
+        return Mono.defer(() -> {
+            log.info("🏠 아파트 전월세 실거래가 조회 - 지역코드: {}, 계약년월: {}", districtCode, dealYearMonth);
+            
+            validateDistrictCode(districtCode);
+            validateDealYearMonth(dealYearMonth);
+            
+            return fetchPage(districtCode, dealYearMonth, pageNo, numOfRows)
+                    .doOnNext(body -> log.info("✅ 아파트 전월세 실거래가 조회 완료 - {}건 / 전체 {}건",
+                            body.getItems().getItem().size(), body.getTotalCount()));
+        });
+    }
+    
+    /**
+     * 시군구 이름으로 아파트 전월세 실거래가 페이지 조회 (논블로킹)
+     */
+    public Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> getApartmentRentPageByDistrictNameReactive(String districtName, String dealYearMonth,
+                                                                                                         Integer pageNo, Integer numOfRows) {
+        return resolveDistrictCode(districtName)
+                .flatMap(districtCode -> getApartmentRentPageReactive(districtCode, dealYearMonth, pageNo, numOfRows));
+    }
+    
+    /**
+     * 아파트 전월세 실거래가 전체 조회 (논블로킹)
+     * 첫 페이지의 totalCount로 남은 페이지를 계산해 동시에 요청하고 페이지 순서대로 합침
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @return 해당 월 전체 거래가 담긴 body Mono (pageNo=1, numOfRows=전체 건수)
+     */
+    public Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> getAllApartmentRentDataReactive(String districtCode, String dealYearMonth) {
+        return Mono.defer(() -> {
+            log.info("🏠 아파트 전월세 실거래가 전체 조회 - 지역코드: {}, 계약년월: {}", districtCode, dealYearMonth);
+            
+            validateDistrictCode(districtCode);
+            validateDealYearMonth(dealYearMonth);
+            
+            return fetchAllPages(page -> fetchPage(districtCode, dealYearMonth, page, fetchAllPageSize))
+                    .doOnNext(body -> log.info("✅ 아파트 전월세 실거래가 전체 조회 완료 - 총 {}건", body.getTotalCount()));
+        });
+    }
+    
+    /**
+     * 아파트 전월세 실거래가 전체 조회를 거래 단위로 흘려보냄 (논블로킹)
+     * 월 전체를 모으지 않고 페이지가 도착하는 대로 페이지 순서대로 내보내며,
+     * 구독자가 요청한 만큼만 다음 페이지를 요청하므로 한 번에 메모리에 있는 거래는 최대 (동시 요청 수 x 페이지 크기)건
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @return 해당 월 전체 거래 Flux
+     */
+    public Flux<ApartmentRentRecord> streamAllApartmentRentDataReactive(String districtCode, String dealYearMonth) {
+        return streamAllApartmentRentDataReactive(districtCode, dealYearMonth, 0);
+    }
+    
+    /**
+     * 아파트 전월세 실거래가 전체 조회를 월 안의 skipRows번째 거래부터 흘려보냄 (논블로킹)
+     * 건너뛸 거래가 담긴 페이지는 요청하지 않고, 시작 거래가 있는 페이지부터 조회함
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @param skipRows 월 전체 조회 순서에서 건너뛸 거래 수 (월 전체 건수 이상이면 빈 Flux)
+     * @return skipRows번째 이후 거래 Flux
+     */
+    public Flux<ApartmentRentRecord> streamAllApartmentRentDataReactive(String districtCode, String dealYearMonth,
+                                                                        int skipRows) {
+        return Flux.defer(() -> {
+            log.info("🌊 아파트 전월세 실거래가 스트리밍 조회 - 지역코드: {}, 계약년월: {}, 시작 행: {}",
+                    districtCode, dealYearMonth, skipRows);
+            
+            validateDistrictCode(districtCode);
+            validateDealYearMonth(dealYearMonth);
+            if (skipRows < 0) {
+                throw new PublicDataApiException("INVALID_SKIP_ROWS", "건너뛸 행 수는 0 이상이어야 합니다: " + skipRows);
+            }
+            
+            return fetchPages(page -> fetchPage(districtCode, dealYearMonth, page, fetchAllPageSize),
+                    skipRows / fetchAllPageSize + 1)
+                    // 페이지를 한 장씩만 미리 받아 구독자보다 앞서 월 전체를 쌓지 않음
+                    .concatMapIterable(this::extractItems, 1)
+                    .skip(skipRows % fetchAllPageSize);
+        });
+    }
+    
+    /**
+     * 시군구 이름으로 아파트 전월세 실거래가 전체 조회 (논블로킹)
+     */
+    public Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> getAllApartmentRentDataByDistrictNameReactive(String districtName,
+                                                                                                            String dealYearMonth) {
+        return resolveDistrictCode(districtName)
+                .flatMap(districtCode -> getAllApartmentRentDataReactive(districtCode, dealYearMonth));
+    }
+    
+    /**
+     * 월 전체 다시 수집 (논블로킹)
+     * 캐시를 거치지 않고 공공데이터 포털에서 월 전체를 받아 저장소에 적재된 거래와 비교해 바뀐 거래만 기록하고,
+     * 바뀐 거래가 있으면 이 월의 캐시된 전체 조회 페이지를 비움 (다른 페이지 크기로 캐시된 페이지는 TTL로 만료)
+     * 열린 달을 주기적으로 다시 수집해 두면, 확정된 뒤 첫 적재에서는 그 사이 추가/정정된 거래만 기록됨
+     * 
+     * @param districtCode 지역코드 (전국 법정동코드 중 폐지되지 않은 시군구 5자리, 예: 11680, 41111)
+     * @param dealYearMonth 계약년월 (6자리, 예: 202401)
+     * @return 새로 받은 월 전체 body와 저장소 변경 건수
+     */
+    public Mono<MonthRefresh> refreshMonthReactive(String districtCode, String dealYearMonth) {
+        return Mono.defer(() -> {
+            log.info("🔄 아파트 전월세 실거래가 월 다시 수집 - 지역코드: {}, 계약년월: {}", districtCode, dealYearMonth);
+            
+            validateDistrictCode(districtCode);
+            validateDealYearMonth(dealYearMonth);
+            
+            return refreshMonth(districtCode, dealYearMonth);
+        });
+    }
+    
+    /**
+     * 캐시에 있는 페이지의 내용 버전 확인 (조건부 요청용, 공공데이터 포털/저장소를 호출하지 않음)
+     * 같은 파라미터로 getApartmentRentPageReactive가 돌려줄 body의 contentVersion과 같음
+     * 
+     * @return 캐시에 없으면 empty
+     */
+    public Mono<Long> findCachedPageVersion(String districtCode, String dealYearMonth, Integer pageNo, Integer numOfRows) {
+        return pageCache.get(new RentCacheKey(districtCode, dealYearMonth, pageNo, numOfRows))
+                .map(ApartmentRentService::contentVersion);
+    }
+    
+    /**
+     * 캐시에 있는 페이지만으로 월 전체 내용 버전 확인 (조건부 요청용, 공공데이터 포털/저장소를 호출하지 않음)
+     * 같은 파라미터로 getAllApartmentRentDataReactive가 돌려줄 body의 contentVersion과 같음
+     * 
+     * @return 페이지가 하나라도 캐시에 없으면 empty
+     */
+    public Mono<Long> findCachedMonthVersion(String districtCode, String dealYearMonth) {
+        return pageCache.get(new RentCacheKey(districtCode, dealYearMonth, 1, fetchAllPageSize))
+                .flatMap(first -> {
+                    int totalPages = totalPages(first.getTotalCount());
+                    return Flux.range(2, totalPages - 1)
+                            .concatMap(page -> pageCache.get(new RentCacheKey(districtCode, dealYearMonth, page, fetchAllPageSize)))
+                            .startWith(first)
+                            .collect(MergedPages::new, MergedPages::add)
+                            .filter(merged -> merged.pageCount == totalPages)
+                            .map(merged -> contentVersion(merged.toBody()));
+                });
+    }
+    
+    /**
+     * body 내용 버전 (페이지 정보와 거래 전체 필드의 64비트 해시, ETag로 사용)
+     * 같은 (지역코드, 계약년월) 내용이 바뀌지 않으면 다시 받아도 같은 값
+     */
+    public static long contentVersion(PublicDataApiResponse.Body<ApartmentRentRecord> body) {
+        ContentHasher hasher = new ContentHasher()
+                .add(body.getPageNo())
+                .add(body.getNumOfRows())
+                .add(body.getTotalCount());
+        for (ApartmentRentRecord record : body.getItems().getItem()) {
+            hasher.add(record.aptNm())
+                    .add(record.umdNm())
+                    .add(record.jibun())
+                    .add(record.sggCd())
+                    .add(record.dealDate())
+                    .add(record.exclusiveArea())
+                    .add(record.floor())
+                    .add(record.contentHash());
+        }
+        return hasher.hash();
+    }
+    
+    /**
+     * 구 이름 → 지역코드
+     * 서울특별시 구 이름을 먼저 찾고("중구" → 서울 중구), 없으면 전국 시군구 이름("경기도 수원시 장안구", "분당구")으로 찾음
+     */
+    private Mono<String> resolveDistrictCode(String districtName) {
+        return Mono.defer(() -> {
+            SeoulDistrictCode.District district = SeoulDistrictCode.District.fromName(districtName);
+            if (district != null) {
+                return Mono.just(district.getCode());
+            }
+            
+            return lawdCodeIndex.findRegionByName(districtName)
+                    .filter(region -> region.level() == LawdLevel.SIGUNGU)
+                    .map(region -> Mono.just(region.lawdCd()))
+                    .orElseGet(() -> Mono.error(
+                            new PublicDataApiException("INVALID_DISTRICT", "유효하지 않은 구명: " + districtName)));
+        });
+    }
+    
+    /**
+     * 페이지 단위 조회 (캐시 → 저장소/공공데이터 포털)
+     * 확정된 계약년월은 저장소에서, 아직 신고가 들어오는 월은 공공데이터 포털에서 조회
+     * 검증이 끝난 파라미터로 호출해야 함
+     */
+    private Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchPage(String districtCode, String dealYearMonth,
+                                                                          Integer pageNo, Integer numOfRows) {
+        RentCacheKey cacheKey = new RentCacheKey(districtCode, dealYearMonth, pageNo, numOfRows);
+        
+        return pageCache.getOrLoad(cacheKey, () -> dealMonthPolicy.isFinalized(dealYearMonth)
+                ? fetchStoredPage(districtCode, dealYearMonth, pageNo, numOfRows)
+                : fetchUpstreamPage(districtCode, dealYearMonth, pageNo, numOfRows));
+    }
+    
+    /**
+     * 공공데이터 포털 페이지 조회
+     */
+    private Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchUpstreamPage(String districtCode, String dealYearMonth,
+                                                                                  Integer pageNo, Integer numOfRows) {
+        Map<String, String> params = buildRequestParams(districtCode, dealYearMonth, pageNo, numOfRows);
+        
+        return apiClient.callApiReactive(APARTMENT_RENT_ENDPOINT, params, ApartmentRentRecord.class)
+                .map(this::extractBody);
+    }
+    
+    /**
+     * 저장소 페이지 조회
+     * 확정된 뒤 적재되지 않은 월이면 공공데이터 포털에서 월 전체를 받아 병합한 뒤 조회
+     * 저장소 장애 시에는 공공데이터 포털 페이지 조회로 대체
+     */
+    private Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchStoredPage(String districtCode, String dealYearMonth,
+                                                                                Integer pageNo, Integer numOfRows) {
+        int dealYm = Integer.parseInt(dealYearMonth);
+        int page = pageNo != null ? pageNo : 1;
+        int rows = numOfRows != null ? numOfRows : DEFAULT_NUM_OF_ROWS;
+        
+        return Mono.fromCallable(() -> transactionStore.findPage(districtCode, dealYm, page, rows))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stored -> stored.map(Mono::just).orElseGet(() ->
+                        refreshMonth(districtCode, dealYearMonth)
+                                .then(Mono.fromCallable(() -> transactionStore.findPage(districtCode, dealYm, page, rows).orElseThrow())
+                                        .subscribeOn(Schedulers.boundedElastic()))))
+                .map(monthPage -> toBody(monthPage, page, rows))
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("⚠️ 실거래 저장소 조회 실패, 공공데이터 포털로 대체 - 지역코드: {}, 계약년월: {}, 원인: {}",
+                            districtCode, dealYearMonth, e.getMessage());
+                    return fetchUpstreamPage(districtCode, dealYearMonth, pageNo, numOfRows);
+                });
+    }
+    
+    /**
+     * 공공데이터 포털에서 월 전체를 받아 저장소에 병합 (이미 적재된 거래와 비교해 바뀐 거래만 기록)
+     * 같은 월을 동시에 적재하려는 요청은 하나로 합치고,
+     * 다른 인스턴스가 먼저 처음 적재해 적재 이력이 충돌하면 적재된 거래와 한 번 더 병합
+     */
+    private Mono<MonthRefresh> refreshMonth(String districtCode, String dealYearMonth) {
+        int dealYm = Integer.parseInt(dealYearMonth);
+        boolean finalized = dealMonthPolicy.isFinalized(dealYearMonth);
         
-        // 구 이름으로 지역코드 찾기
-        SeoulDistrictCode.District district = SeoulDistrictCode.District.fromName(districtName);
-        if (district == null) {
-            throw new PublicDataApiException("INVALID_DISTRICT", "유효하지 않은 구명: " + districtName);
+        return requestCoalescer.execute("store-load:" + districtCode + ":" + dealYearMonth, () ->
+                fetchAllPages(page -> fetchUpstreamPage(districtCode, dealYearMonth, page, fetchAllPageSize))
+                        .doOnNext(body -> log.info("📥 실거래 월 적재 - 지역코드: {}, 계약년월: {}, 총 {}건",
+                                districtCode, dealYearMonth, body.getTotalCount()))
+                        .flatMap(body -> {
+                            List<RentTransaction> entities = extractItems(body).stream()
+                                    .map(record -> transactionMapper.toEntity(record, districtCode, dealYm))
+                                    .toList();
+                            return Mono.fromCallable(() -> transactionStore.mergeMonth(districtCode, dealYm, entities, finalized))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .retryWhen(Retry.max(1).filter(DataIntegrityViolationException.class::isInstance))
+                                    .flatMap(change -> evictMonthPages(districtCode, dealYearMonth, change)
+                                            .thenReturn(new MonthRefresh(body, change)));
+                        }));
+    }
+    
+    /**
+     * 저장소 내용이 바뀐 월의 캐시된 전체 조회 페이지 제거 (바뀌기 전/후 중 많은 쪽 페이지 수만큼)
+     */
+    private Mono<Void> evictMonthPages(String districtCode, String dealYearMonth, RentMonthChange change) {
+        if (!change.changed()) {
+            return Mono.empty();
+        }
+        int previousRows = change.updated() + change.deleted() + change.unchanged();
+        int currentRows = change.inserted() + change.updated() + change.unchanged();
+        return Flux.range(1, totalPages(Math.max(previousRows, currentRows)))
+                .concatMap(page -> pageCache.evict(new RentCacheKey(districtCode, dealYearMonth, page, fetchAllPageSize)))
+                .then();
+    }
+    
+    /**
+     * 전체 페이지 조회
+     * 페이지 순서대로 모든 아이템을 하나의 body로 합침
+     * 
+     * @param pageLoader 페이지 번호 → 페이지 body (fetchAllPageSize 단위)
+     * @return 전체 아이템을 담은 body (pageNo=1, numOfRows=아이템 수)
+     */
+    private Mono<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchAllPages(
+            Function<Integer, Mono<PublicDataApiResponse.Body<ApartmentRentRecord>>> pageLoader) {
+        return fetchPages(pageLoader)
+                .collect(MergedPages::new, MergedPages::add)
+                .map(MergedPages::toBody);
+    }
+    
+    /**
+     * 페이지 단위 조회
+     * 첫 페이지의 totalCount로 남은 페이지 수를 계산하고, fetchAllConcurrency개씩 동시에 요청
+     * flatMapSequential이 도착 순서와 관계없이 페이지 순서를 유지함
+     * 
+     * @param pageLoader 페이지 번호 → 페이지 body (fetchAllPageSize 단위)
+     * @return 페이지 순서대로 body Flux
+     */
+    private Flux<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchPages(
+            Function<Integer, Mono<PublicDataApiResponse.Body<ApartmentRentRecord>>> pageLoader) {
+        return fetchPages(pageLoader, 1);
+    }
+    
+    /**
+     * firstPage부터 페이지 단위 조회
+     * firstPage의 totalCount로 남은 페이지 수를 계산 (firstPage가 마지막 페이지를 넘으면 그 페이지만 내보냄)
+     */
+    private Flux<PublicDataApiResponse.Body<ApartmentRentRecord>> fetchPages(
+            Function<Integer, Mono<PublicDataApiResponse.Body<ApartmentRentRecord>>> pageLoader, int firstPage) {
+        return pageLoader.apply(firstPage)
+                .flatMapMany(first -> {
+                    int totalCount = first.getTotalCount();
+                    int totalPages = totalPages(totalCount);
+                    
+                    log.debug("📑 전체 조회 - 총 {}건 / {}페이지, {}페이지부터, 동시 요청 {}",
+                            totalCount, totalPages, firstPage, fetchAllConcurrency);
+                    
+                    return Flux.range(firstPage + 1, Math.max(0, totalPages - firstPage))
+                            .flatMapSequential(pageLoader, fetchAllConcurrency)
+                            .startWith(first);
+                });
+    }
+    
+    private int totalPages(int totalCount) {
+        return Math.max(1, (totalCount + fetchAllPageSize - 1) / fetchAllPageSize);
+    }
+    
+    /**
+     * 저장소 페이지 → 응답 body
+     */
+    private PublicDataApiResponse.Body<ApartmentRentRecord> toBody(RentMonthPage monthPage, int pageNo, int numOfRows) {
+        List<ApartmentRentRecord> items = new ArrayList<>(monthPage.rows().size());
+        for (RentTransaction transaction : monthPage.rows()) {
+            items.add(transactionMapper.toRecord(transaction));
         }
         
-        return getApartmentRentData(district.getCode(), dealYearMonth, pageNo, numOfRows);
+        PublicDataApiResponse.Body<ApartmentRentRecord> body = new PublicDataApiResponse.Body<>();
+        body.setItems(new PublicDataApiResponse.Items<>(items));
+        body.setPageNo(pageNo);
+        body.setNumOfRows(numOfRows);
+        body.setTotalCount(monthPage.totalCount());
+        return body;
     }
     
     /**
-     * 지역코드 유효성 검증
+     * 지역코드 유효성 검증 (전국 법정동코드 중 폐지되지 않은 시군구 5자리)
      */
     private void validateDistrictCode(String districtCode) {
         if (districtCode == null || districtCode.trim().isEmpty()) {
             throw new PublicDataApiException("INVALID_DISTRICT_CODE", "지역코드가 비어있습니다.");
         }
         
-        if (!SeoulDistrictCode.isValidCode(districtCode)) {
+        if (!lawdCodeIndex.isActiveLawdCd(districtCode)) {
             throw new PublicDataApiException("INVALID_DISTRICT_CODE", 
                     "유효하지 않은 지역코드: " + districtCode);
         }
@@ -155,16 +550,28 @@ public class ApartmentRentService {
     }
     
     /**
-     * 응답에서 아이템 목록 추출
+     * 응답에서 body 추출 (body나 items가 없으면 빈 목록으로 채움)
      */
-    private List<ApartmentRentItem> extractItems(PublicDataApiResponse<ApartmentRentItem> response) {
-        if (response == null || response.getResponse() == null || 
-            response.getResponse().getBody() == null || 
-            response.getResponse().getBody().getItems() == null) {
-            return List.of();
+    private PublicDataApiResponse.Body<ApartmentRentRecord> extractBody(PublicDataApiResponse<ApartmentRentRecord> response) {
+        PublicDataApiResponse.Body<ApartmentRentRecord> body = response == null || response.getResponse() == null
+                ? null : response.getResponse().getBody();
+        
+        if (body == null) {
+            body = new PublicDataApiResponse.Body<>();
         }
         
-        return response.getResponse().getBody().getItems().getItem();
+        if (body.getItems() == null || body.getItems().getItem() == null) {
+            body.setItems(new PublicDataApiResponse.Items<>(List.of()));
+        }
+        
+        return body;
+    }
+    
+    /**
+     * body에서 아이템 목록 추출
+     */
+    private List<ApartmentRentRecord> extractItems(PublicDataApiResponse.Body<ApartmentRentRecord> body) {
+        return body.getItems().getItem();
     }
     
     /**
@@ -180,4 +587,40 @@ public class ApartmentRentService {
     public Map<String, String> getDistrictCodeMapping() {
         return SeoulDistrictCode.getCodeNameMapping();
     }
+    
+    /**
+     * 페이지 body를 차례로 합치는 누적기 (totalCount는 첫 페이지 값)
+     */
+    private final class MergedPages {
+        
+        private final List<ApartmentRentRecord> items = new ArrayList<>();
+        private int totalCount = -1;
+        private int pageCount;
+        
+        void add(PublicDataApiResponse.Body<ApartmentRentRecord> page) {
+            pageCount++;
+            if (totalCount < 0) {
+                totalCount = page.getTotalCount();
+            }
+            items.addAll(extractItems(page));
+        }
+        
+        PublicDataApiResponse.Body<ApartmentRentRecord> toBody() {
+            PublicDataApiResponse.Body<ApartmentRentRecord> body = new PublicDataApiResponse.Body<>();
+            body.setItems(new PublicDataApiResponse.Items<>(items));
+            body.setPageNo(1);
+            body.setNumOfRows(items.size());
+            body.setTotalCount(Math.max(totalCount, items.size()));
+            return body;
+        }
+    }
+    
+    /**
+     * 월 다시 수집 결과
+     * 
+     * @param body 공공데이터 포털에서 새로 받은 월 전체 body (pageNo=1, numOfRows=전체 건수)
+     * @param change 저장소 변경 건수
+     */
+    public record MonthRefresh(PublicDataApiResponse.Body<ApartmentRentRecord> body, RentMonthChange change) {
+    }
 }
@@ -0,0 +1,88 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.quota.RequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 단일 실행 (single-flight)
+ * 같은 키의 요청이 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과/오류를 함께 받음
+ * 호출이 끝나면 결과를 넘기기 전에 키를 제거하므로 결과를 보관하지 않음 (보관은 TwoTierCache 담당)
+ * 호출은 첫 호출자의 Reactor Context로 실행되므로, RequestPriority가 다른 호출끼리는 합치지 않음
+ * (BACKGROUND 호출에 합류한 INTERACTIVE 호출이 백그라운드 한도로 거절되지 않도록)
+ */
+@Component
+@Slf4j
+public class InFlightRequestCoalescer {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+
+    @Value("${public.data.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    public InFlightRequestCoalescer(MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("public.data.api.single-flight")
+                .description("공공데이터 포털 호출 중 실제로 실행된 호출 수")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("public.data.api.single-flight")
+                .description("진행 중인 동일 호출에 합류한 호출 수")
+                .tag("role", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("public.data.api.in-flight", inFlight, Map::size)
+                .description("진행 중인 공공데이터 포털 호출 수 (중복 제외)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키(+ 구독자의 RequestPriority) 단위로 호출을 합쳐서 실행
+     * 모든 구독자가 취소하면 진행 중인 호출도 취소됨
+     *
+     * @param key 정규화된 요청 키
+     * @param call 실제 호출
+     * @return 호출 결과 Mono (구독 시점에 합류 여부 결정)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+
+        return Mono.deferContextual(context -> {
+            String flightKey = key + '@' + RequestPriority.from(context);
+            boolean[] leader = {false};
+            Mono<?> shared = inFlight.computeIfAbsent(flightKey, k -> {
+                leader[0] = true;
+                // 끝난 호출이 그 사이 같은 키로 새로 시작된 호출을 지우지 않도록 자기 자신일 때만 제거
+                AtomicReference<Mono<?>> self = new AtomicReference<>();
+                Mono<?> flight = Mono.defer(call)
+                        .doOnTerminate(() -> inFlight.remove(k, self.get()))
+                        .doOnCancel(() -> inFlight.remove(k, self.get()))
+                        .share();
+                self.set(flight);
+                return flight;
+            });
+
+            if (leader[0]) {
+                leaderCounter.increment();
+            } else {
+                coalescedCounter.increment();
+                log.debug("🔗 진행 중인 동일 호출에 합류 - 키: {}", key);
+            }
+
+            return (Mono<T>) shared;
+        });
+    }
+}
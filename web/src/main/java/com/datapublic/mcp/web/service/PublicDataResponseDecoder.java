@@ -0,0 +1,303 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공공데이터 포털 응답 디코더
+ * WebClient DataBuffer를 받는 즉시 Jackson 논블로킹 파서에 넣어 토큰 단위로 응답 객체를 구성
+ * 본문 전체를 String/JsonNode로 만들지 않으므로 codec maxInMemorySize 제한을 받지 않으며,
+ * item 하나 분량의 토큰만 잠시 보관함
+ * ApartmentRentRecord는 토큰을 보관하지 않고 필드 값을 바로 빌더에 넣어 숫자로 변환
+ * XML 응답은 StAX 파서가 전체 본문을 필요로 하므로 바이트를 모은 뒤 PublicDataXmlParser로 위임
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublicDataResponseDecoder {
+
+    private static final String[] RESPONSE_PATH = {"response"};
+    private static final String[] HEADER_PATH = {"response", "header"};
+    private static final String[] RESULT_CODE_PATH = {"response", "header", "resultCode"};
+    private static final String[] RESULT_MSG_PATH = {"response", "header", "resultMsg"};
+    private static final String[] BODY_PATH = {"response", "body"};
+    private static final String[] PAGE_NO_PATH = {"response", "body", "pageNo"};
+    private static final String[] NUM_OF_ROWS_PATH = {"response", "body", "numOfRows"};
+    private static final String[] TOTAL_COUNT_PATH = {"response", "body", "totalCount"};
+    private static final String[] ITEMS_PATH = {"response", "body", "items"};
+    private static final String[] ITEM_PATH = {"response", "body", "items", "item"};
+
+    private final ObjectMapper objectMapper;
+    private final PublicDataXmlParser xmlParser;
+
+    /**
+     * 응답 본문 디코딩
+     *
+     * @param body 응답 본문 DataBuffer 스트림
+     * @param responseType 응답 아이템 타입
+     * @return 디코딩된 응답 Mono
+     */
+    public <T> Mono<PublicDataApiResponse<T>> decode(Flux<DataBuffer> body, Class<T> responseType) {
+        return Mono.defer(() -> {
+            DecodingState<T> state = new DecodingState<>(responseType);
+            return body
+                    .doOnNext(buffer -> {
+                        try {
+                            state.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromCallable(state::finish))
+                    .doFinally(signal -> state.close());
+        });
+    }
+
+    private enum Format {
+        UNKNOWN, JSON, XML
+    }
+
+    /**
+     * 구독 단위 디코딩 상태
+     */
+    private final class DecodingState<T> {
+
+        private final Class<T> responseType;
+
+        private Format format = Format.UNKNOWN;
+        private JsonParser parser;
+        private ByteArrayOutputStream xmlBytes;
+
+        private boolean responseFound;
+        private PublicDataApiResponse.Header header;
+        private PublicDataApiResponse.Body<T> body;
+        private PublicDataApiResponse.Items<T> items;
+
+        private TokenBuffer itemTokens;
+        private ApartmentRentRecord.Builder recordBuilder;
+        private int itemDepth;
+
+        private DecodingState(Class<T> responseType) {
+            this.responseType = responseType;
+        }
+
+        void feed(DataBuffer buffer) {
+            try {
+                if (format == Format.UNKNOWN && !detectFormat(buffer)) {
+                    return;
+                }
+
+                if (format == Format.XML) {
+                    try (InputStream in = buffer.asInputStream()) {
+                        in.transferTo(xmlBytes);
+                    }
+                    return;
+                }
+
+                ByteBufferFeeder feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        feeder.feedInput(iterator.next());
+                        drainTokens();
+                    }
+                }
+            } catch (IOException e) {
+                throw parseError(e);
+            }
+        }
+
+        PublicDataApiResponse<T> finish() {
+            try {
+                if (format == Format.XML) {
+                    log.debug("📄 XML 응답 감지됨");
+                    return xmlParser.parse(xmlBytes.toString(StandardCharsets.UTF_8), responseType);
+                }
+
+                if (format == Format.UNKNOWN) {
+                    throw new PublicDataApiException("PARSE_ERROR", "응답 파싱 중 오류 발생: 응답 본문이 비어있습니다.");
+                }
+
+                parser.getNonBlockingInputFeeder().endOfInput();
+                drainTokens();
+
+                if (!responseFound) {
+                    throw new PublicDataApiException("INVALID_RESPONSE_FORMAT", "응답에 'response' 노드가 없습니다.");
+                }
+
+                PublicDataApiResponse<T> apiResponse = new PublicDataApiResponse<>();
+                PublicDataApiResponse.Response<T> responseObj = new PublicDataApiResponse.Response<>();
+                apiResponse.setResponse(responseObj);
+                responseObj.setHeader(header);
+                responseObj.setBody(body);
+
+                if (items != null && items.getItem() == null) {
+                    items.setItem(List.of());
+                }
+
+                log.debug("✅ JSON 응답 파싱 완료");
+                return apiResponse;
+
+            } catch (IOException e) {
+                throw parseError(e);
+            }
+        }
+
+        void close() {
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    log.debug("JSON 파서 종료 중 오류: {}", e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * 첫 번째 공백이 아닌 바이트로 JSON/XML 판별
+         * 공백만 있는 버퍼는 버리고 false 반환
+         */
+        private boolean detectFormat(DataBuffer buffer) throws IOException {
+            for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                int b = buffer.getByte(i) & 0xFF;
+                if (Character.isWhitespace(b) || b == 0xEF || b == 0xBB || b == 0xBF) {
+                    continue;
+                }
+
+                if (b == '{' || b == '[') {
+                    format = Format.JSON;
+                    parser = objectMapper.getFactory().createNonBlockingByteBufferParser();
+                } else {
+                    format = Format.XML;
+                    xmlBytes = new ByteArrayOutputStream(Math.max(buffer.readableByteCount(), 8192));
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void drainTokens() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onToken(JsonToken token) throws IOException {
+            // ApartmentRentRecord item 필드는 빌더로 바로 전달 (중첩 구조는 무시)
+            if (recordBuilder != null) {
+                if (token.isStructStart()) {
+                    itemDepth++;
+                } else if (token.isStructEnd() && --itemDepth == 0) {
+                    items.getItem().add((T) recordBuilder.build());
+                    recordBuilder = null;
+                } else if (itemDepth == 1 && token.isScalarValue()) {
+                    recordBuilder.set(parser.currentName(), parser.getValueAsString());
+                }
+                return;
+            }
+
+            // item 객체 수집 중이면 토큰을 그대로 복사
+            if (itemTokens != null) {
+                itemTokens.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    itemDepth++;
+                } else if (token.isStructEnd() && --itemDepth == 0) {
+                    items.getItem().add(objectMapper.readValue(itemTokens.asParser(objectMapper), responseType));
+                    itemTokens = null;
+                }
+                return;
+            }
+
+            JsonStreamContext context = parser.getParsingContext();
+
+            if (token == JsonToken.START_OBJECT) {
+                JsonStreamContext parent = context.getParent();
+                if (matchesPath(parent, ITEM_PATH)) {
+                    // item이 배열이면 각 원소, 단일 객체면 그 객체 하나를 수집
+                    if (items.getItem() == null) {
+                        items.setItem(new ArrayList<>());
+                    }
+                    if (responseType == ApartmentRentRecord.class) {
+                        recordBuilder = ApartmentRentRecord.builder();
+                    } else {
+                        itemTokens = new TokenBuffer(objectMapper, false);
+                        itemTokens.copyCurrentEvent(parser);
+                    }
+                    itemDepth = 1;
+                } else if (matchesPath(parent, RESPONSE_PATH)) {
+                    responseFound = true;
+                } else if (matchesPath(parent, HEADER_PATH)) {
+                    header = new PublicDataApiResponse.Header();
+                } else if (matchesPath(parent, BODY_PATH)) {
+                    body = new PublicDataApiResponse.Body<>();
+                } else if (matchesPath(parent, ITEMS_PATH) && body != null) {
+                    items = new PublicDataApiResponse.Items<>();
+                    body.setItems(items);
+                }
+                return;
+            }
+
+            if (!token.isScalarValue()) {
+                return;
+            }
+
+            if (header != null && matchesPath(context, RESULT_CODE_PATH)) {
+                header.setResultCode(parser.getValueAsString());
+            } else if (header != null && matchesPath(context, RESULT_MSG_PATH)) {
+                header.setResultMsg(parser.getValueAsString());
+            } else if (body != null && matchesPath(context, PAGE_NO_PATH)) {
+                body.setPageNo(parser.getValueAsInt());
+            } else if (body != null && matchesPath(context, NUM_OF_ROWS_PATH)) {
+                body.setNumOfRows(parser.getValueAsInt());
+            } else if (body != null && matchesPath(context, TOTAL_COUNT_PATH)) {
+                body.setTotalCount(parser.getValueAsInt());
+            }
+        }
+
+        private PublicDataApiException parseError(IOException e) {
+            log.error("❌ JSON 파싱 오류", e);
+            return new PublicDataApiException("PARSE_ERROR", "응답 파싱 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파싱 컨텍스트의 필드 경로가 path와 일치하는지 확인 (배열 단계는 무시)
+     * 토큰마다 호출되므로 경로 문자열을 만들지 않고 컨텍스트를 거슬러 올라가며 비교
+     */
+    private static boolean matchesPath(JsonStreamContext context, String[] path) {
+        int index = path.length - 1;
+        for (JsonStreamContext current = context; current != null && !current.inRoot(); current = current.getParent()) {
+            if (current.inArray()) {
+                continue;
+            }
+            if (index < 0 || !path[index].equals(current.getCurrentName())) {
+                return false;
+            }
+            index--;
+        }
+        return index < 0;
+    }
+}
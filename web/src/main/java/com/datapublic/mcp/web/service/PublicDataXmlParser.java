@@ -0,0 +1,323 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentItem;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공공데이터 포털 XML 응답 파서 (StAX)
+ * 응답 본문을 한 번만 순회하면서 헤더, 페이지 정보, item 필드를 바로 채움
+ * 정상 응답: <response><header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body>...
+ * 오류 응답: <OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>...
+ */
+@Component
+@Slf4j
+public class PublicDataXmlParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /**
+     * XML 응답 파싱
+     *
+     * @param response XML 응답 본문
+     * @param responseType 응답 아이템 타입
+     * @return 파싱된 응답
+     */
+    public <T> PublicDataApiResponse<T> parse(String response, Class<T> responseType) {
+        try {
+            log.debug("🔍 공공데이터 포털 XML 응답 파싱 시작");
+
+            PublicDataApiResponse<T> apiResponse = new PublicDataApiResponse<>();
+            PublicDataApiResponse.Response<T> responseObj = new PublicDataApiResponse.Response<>();
+            apiResponse.setResponse(responseObj);
+
+            PublicDataApiResponse.Header header = new PublicDataApiResponse.Header();
+            PublicDataApiResponse.Body<T> body = new PublicDataApiResponse.Body<>();
+            List<T> itemList = new ArrayList<>();
+
+            boolean itemsFound = false;
+            Integer numOfRows = null;
+            Integer pageNo = null;
+            Integer totalCount = null;
+
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(response));
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+
+                    switch (reader.getLocalName()) {
+                        case "errMsg" -> {
+                            // 오류 메시지 확인 (cmmMsgHeader)
+                            String errMsg = readText(reader);
+                            header.setResultMsg(errMsg);
+                            log.debug("📊 XML errMsg: {}", errMsg);
+
+                            // 오류가 있으면 에러 코드 설정
+                            if (!"OK".equals(errMsg) && !"NORMAL SERVICE".equals(errMsg)) {
+                                header.setResultCode("ERROR");
+                            } else {
+                                header.setResultCode("000");
+                            }
+                        }
+                        case "resultCode" -> header.setResultCode(readText(reader));
+                        case "resultMsg" -> header.setResultMsg(readText(reader));
+                        case "returnAuthMsg" -> log.debug("📊 XML returnAuthMsg: {}", readText(reader));
+                        case "returnReasonCode" -> log.debug("📊 XML returnReasonCode: {}", readText(reader));
+                        case "numOfRows" -> numOfRows = parseIntOrNull(readText(reader));
+                        case "pageNo" -> pageNo = parseIntOrNull(readText(reader));
+                        case "totalCount" -> totalCount = parseIntOrNull(readText(reader));
+                        case "items" -> itemsFound = true;
+                        case "item" -> {
+                            itemsFound = true;
+                            T item = readItem(reader, responseType);
+                            if (item != null) {
+                                itemList.add(item);
+                            }
+                        }
+                        default -> {
+                            // 그 외 태그는 하위 요소만 계속 탐색
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+
+            // items 태그가 없으면 텍스트 형식 데이터 파싱 (실제 API 응답)
+            if (!itemsFound) {
+                parseTextLines(response, responseType, itemList);
+            }
+
+            responseObj.setHeader(header);
+
+            body.setNumOfRows(numOfRows != null ? numOfRows : itemList.size());
+            body.setPageNo(pageNo != null ? pageNo : 1);
+            body.setTotalCount(totalCount != null ? totalCount : itemList.size());
+            PublicDataApiResponse.Items<T> items = new PublicDataApiResponse.Items<>();
+            items.setItem(itemList);
+            body.setItems(items);
+            responseObj.setBody(body);
+
+            log.debug("✅ 공공데이터 포털 XML 응답 파싱 완료 - 총 {}개 아이템", itemList.size());
+            return apiResponse;
+
+        } catch (Exception e) {
+            log.error("❌ 공공데이터 포털 XML 응답 파싱 중 예외 발생", e);
+            throw new PublicDataApiException("XML_PARSE_ERROR", "공공데이터 포털 XML 응답 파싱 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * item 요소 하나를 읽어 응답 타입으로 변환
+     * 호출 시 reader는 <item> 시작 태그, 반환 시 </item> 종료 태그에 위치
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readItem(XMLStreamReader reader, Class<T> responseType) throws XMLStreamException {
+        if (responseType == ApartmentRentRecord.class) {
+            return (T) readRecord(reader);
+        }
+        if (responseType != ApartmentRentItem.class) {
+            skipElement(reader);
+            return null;
+        }
+
+        ApartmentRentItem item = new ApartmentRentItem();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String tagName = reader.getLocalName();
+            String value = readText(reader);
+
+            switch (tagName) {
+                case "aptNm" -> item.setAptNm(value);
+                case "buildYear" -> item.setBuildYear(value);
+                case "contractTerm" -> item.setContractTerm(value);
+                case "contractType" -> item.setContractType(value);
+                case "dealDay" -> item.setDealDay(value);
+                case "dealMonth" -> item.setDealMonth(value);
+                case "dealYear" -> item.setDealYear(value);
+                case "deposit" -> item.setDeposit(value);
+                case "excluUseAr" -> item.setExcluUseAr(value);
+                case "floor" -> item.setFloor(value);
+                case "jibun" -> item.setJibun(value);
+                case "monthlyRent" -> item.setMonthlyRent(value);
+                case "preDeposit" -> item.setPreDeposit(value);
+                case "preMonthlyRent" -> item.setPreMonthlyRent(value);
+                case "sggCd" -> item.setSggCd(value);
+                case "umdNm" -> item.setUmdNm(value);
+                case "useRRRight" -> item.setUseRRRight(value);
+                default -> {
+                    // 스펙에 없는 필드는 무시
+                }
+            }
+        }
+
+        log.debug("📋 XML item 파싱 완료: {}", item.getAptNm());
+        return (T) item;
+    }
+
+    /**
+     * item 요소 하나를 읽어 ApartmentRentRecord로 변환 (숫자 필드는 여기서 한 번만 파싱)
+     */
+    private ApartmentRentRecord readRecord(XMLStreamReader reader) throws XMLStreamException {
+        ApartmentRentRecord.Builder builder = ApartmentRentRecord.builder();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String tagName = reader.getLocalName();
+            builder.set(tagName, readText(reader));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 현재 시작 태그의 하위 요소를 모두 건너뜀
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * 텍스트 형식 데이터 라인 파싱
+     */
+    private <T> void parseTextLines(String response, Class<T> responseType, List<T> itemList) {
+        String[] lines = response.split("\n");
+        for (String line : lines) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("<") && !line.startsWith("000")) {
+                T item = parseTextItem(line, responseType);
+                if (item != null) {
+                    itemList.add(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * 실제 API 응답 텍스트 라인을 ApartmentRentItem으로 파싱
+     * 형식: "아파트명\t건축년도\t계약일\t월세금액\t전용면적\t층\t지번\t법정동\t지역코드"
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parseTextItem(String line, Class<T> responseType) {
+        try {
+            if (responseType == ApartmentRentRecord.class) {
+                return (T) parseTextRecord(line);
+            }
+            if (responseType == ApartmentRentItem.class) {
+                String[] fields = line.split("\t");
+                if (fields.length >= 9) {
+                    ApartmentRentItem item = new ApartmentRentItem();
+
+                    item.setAptNm(fields[0]);                    // 아파트명
+                    item.setBuildYear(fields[1]);                // 건축년도
+
+                    // 계약일 파싱 (YYYYMMDD 형식)
+                    String contractDate = fields[2];
+                    if (contractDate.length() >= 8) {
+                        item.setDealYear(contractDate.substring(0, 4));
+                        item.setDealMonth(contractDate.substring(4, 6));
+                        item.setDealDay(contractDate.substring(6, 8));
+                    }
+
+                    item.setMonthlyRent(fields[3]);              // 월세금액
+                    item.setExcluUseAr(fields[4]);               // 전용면적
+                    item.setFloor(fields[5]);                    // 층
+                    item.setJibun(fields[6]);                    // 지번
+                    item.setUmdNm(fields[7]);                    // 법정동
+                    item.setSggCd(fields[8]);                    // 지역코드
+
+                    log.debug("📋 텍스트 아이템 파싱 완료: {}", item.getAptNm());
+                    return (T) item;
+                }
+            }
+
+            return null;
+        } catch (Exception e) {
+            log.error("❌ 텍스트 아이템 파싱 중 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 텍스트 라인을 ApartmentRentRecord로 파싱 (형식은 parseTextItem과 동일)
+     */
+    private ApartmentRentRecord parseTextRecord(String line) {
+        String[] fields = line.split("\t");
+        if (fields.length < 9) {
+            return null;
+        }
+
+        ApartmentRentRecord.Builder builder = ApartmentRentRecord.builder();
+        builder.set("aptNm", fields[0]);
+        builder.set("buildYear", fields[1]);
+        String contractDate = fields[2];
+        if (contractDate.length() >= 8) {
+            builder.set("dealYear", contractDate.substring(0, 4));
+            builder.set("dealMonth", contractDate.substring(4, 6));
+            builder.set("dealDay", contractDate.substring(6, 8));
+        }
+        builder.set("monthlyRent", fields[3]);
+        builder.set("excluUseAr", fields[4]);
+        builder.set("floor", fields[5]);
+        builder.set("jibun", fields[6]);
+        builder.set("umdNm", fields[7]);
+        builder.set("sggCd", fields[8]);
+        return builder.build();
+    }
+
+    /**
+     * 현재 시작 태그의 텍스트를 읽고 종료 태그로 이동
+     * getElementText()와 달리 중간 버퍼 없이 텍스트 이벤트 문자열을 그대로 사용
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                text = text == null ? reader.getText() : text + reader.getText();
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                throw new XMLStreamException("텍스트 요소에 하위 요소가 있습니다: " + reader.getLocalName(),
+                        reader.getLocation());
+            }
+        }
+        return text == null ? "" : text.trim();
+    }
+
+    private Integer parseIntOrNull(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 외부 엔티티/DTD 처리를 막은 StAX 팩토리 생성
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
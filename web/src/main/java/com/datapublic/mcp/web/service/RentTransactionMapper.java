@@ -0,0 +1,80 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.storage.entity.RentTransaction;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * ApartmentRentRecord ↔ RentTransaction 변환
+ * 숫자 필드는 파싱 시점에 이미 변환되어 있으므로 값 없음 표시(NO_VALUE/NaN)와 null만 서로 바꿈
+ */
+@Component
+public class RentTransactionMapper {
+
+    /**
+     * API 레코드 → 저장 엔티티
+     *
+     * @param record API 응답 레코드
+     * @param lawdCd 요청 지역코드 (레코드에 sggCd가 없을 때 사용)
+     * @param dealYm 요청 계약년월 (yyyyMM)
+     */
+    public RentTransaction toEntity(ApartmentRentRecord record, String lawdCd, int dealYm) {
+        return RentTransaction.builder()
+                .lawdCd(record.sggCd() == null ? lawdCd : record.sggCd())
+                .dealYm(dealYm)
+                .dealDay(record.dealDay() == 0 ? null : record.dealDay())
+                .umdNm(record.umdNm())
+                .jibun(record.jibun())
+                .aptNm(record.aptNm())
+                .floor(toInteger(record.floor()))
+                .exclusiveArea(Double.isNaN(record.exclusiveArea()) ? null : record.exclusiveArea())
+                .buildYear(toInteger(record.buildYear()))
+                .deposit(Math.max(0L, toLong(record.deposit(), 0L)))
+                .monthlyRent(Math.max(0L, toLong(record.monthlyRent(), 0L)))
+                .preDeposit(toLong(record.preDeposit(), null))
+                .preMonthlyRent(toLong(record.preMonthlyRent(), null))
+                .contractType(record.contractType())
+                .contractTerm(record.contractTerm())
+                .useRRRight(record.useRRRight())
+                .build();
+    }
+
+    /**
+     * 저장 엔티티 → API 레코드
+     */
+    public ApartmentRentRecord toRecord(RentTransaction transaction) {
+        int dealDay = transaction.getDealDay() == null ? 0 : transaction.getDealDay();
+        return new ApartmentRentRecord(
+                transaction.getAptNm(),
+                transaction.getUmdNm(),
+                transaction.getJibun(),
+                transaction.getLawdCd(),
+                transaction.getDealYm() * 100 + dealDay,
+                fromLong(transaction.getDeposit()),
+                fromLong(transaction.getMonthlyRent()),
+                fromLong(transaction.getPreDeposit()),
+                fromLong(transaction.getPreMonthlyRent()),
+                transaction.getExclusiveArea() == null ? Double.NaN : transaction.getExclusiveArea(),
+                fromInteger(transaction.getFloor()),
+                fromInteger(transaction.getBuildYear()),
+                transaction.getContractType(),
+                transaction.getContractTerm(),
+                transaction.getUseRRRight());
+    }
+
+    private static Integer toInteger(int value) {
+        return value == ApartmentRentRecord.NO_VALUE ? null : value;
+    }
+
+    private static Long toLong(long value, Long missing) {
+        return value == ApartmentRentRecord.NO_AMOUNT ? missing : Long.valueOf(value);
+    }
+
+    private static int fromInteger(Integer value) {
+        return value == null ? ApartmentRentRecord.NO_VALUE : value;
+    }
+
+    private static long fromLong(Long value) {
+        return value == null ? ApartmentRentRecord.NO_AMOUNT : value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.datapublic.mcp.web.statistics;
+
+/**
+ * 전용면적 구간 (주택 규모 구분 기준)
+ */
+public enum AreaBand {
+
+    UNDER_40("~40㎡"),
+    FROM_40_TO_60("40~60㎡"),
+    FROM_60_TO_85("60~85㎡"),
+    FROM_85_TO_102("85~102㎡"),
+    FROM_102_TO_135("102~135㎡"),
+    OVER_135("135㎡~"),
+    UNKNOWN("미상");
+
+    private final String label;
+
+    AreaBand(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 전용면적(㎡) → 구간 (상한 포함, NaN이면 UNKNOWN)
+     */
+    public static AreaBand of(double exclusiveArea) {
+        if (Double.isNaN(exclusiveArea)) {
+            return UNKNOWN;
+        }
+        if (exclusiveArea <= 40) {
+            return UNDER_40;
+        }
+        if (exclusiveArea <= 60) {
+            return FROM_40_TO_60;
+        }
+        if (exclusiveArea <= 85) {
+            return FROM_60_TO_85;
+        }
+        if (exclusiveArea <= 102) {
+            return FROM_85_TO_102;
+        }
+        if (exclusiveArea <= 135) {
+            return FROM_102_TO_135;
+        }
+        return OVER_135;
+    }
+}
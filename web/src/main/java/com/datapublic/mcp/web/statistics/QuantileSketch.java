@@ -0,0 +1,170 @@
+package com.datapublic.mcp.web.statistics;
+
+/**
+ * 병합 가능한 분위수 스케치 (로그 구간 히스토그램, DDSketch 방식)
+ * 값 v를 ceil(log_γ v) 구간에 세어 두고, 분위수는 해당 구간의 대표값으로 추정
+ * γ = (1 + α) / (1 - α) 이므로 추정값의 상대 오차는 α 이내
+ * 같은 정확도의 스케치는 구간별 개수를 더하기만 하면 병합되므로,
+ * 세그먼트마다 만든 스케치를 합쳐 여러 달/여러 구의 분위수를 원본 행 정렬 없이 계산할 수 있음
+ * 금액(만원)처럼 0 이상인 정수 값 전용이며 0은 별도로 셈
+ */
+public final class QuantileSketch {
+
+    /**
+     * 기본 상대 오차 (1%)
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy는 0과 1 사이여야 합니다: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * 값 추가 (음수는 0으로 취급)
+     */
+    public void add(long value) {
+        long v = Math.max(value, 0);
+        count++;
+        sum += v;
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+
+        if (v == 0) {
+            zeroCount++;
+            return;
+        }
+
+        int index = (int) Math.ceil(Math.log(v) / logGamma);
+        ensureCapacity(index, index);
+        counts[index - offset]++;
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 병합 (상대 오차가 같아야 함)
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("상대 오차가 다른 스케치는 병합할 수 없습니다.");
+        }
+        if (other.count == 0) {
+            return;
+        }
+
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 분위수 추정
+     *
+     * @param quantile 0.0 ~ 1.0
+     * @return 추정값 (값이 없으면 NaN)
+     */
+    public double quantile(double quantile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile <= 0) {
+            return min;
+        }
+        if (quantile >= 1) {
+            return max;
+        }
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+                return Math.min(Math.max(estimate, min), max);
+            }
+        }
+        return max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * 평균 (정확한 합계 기준, 값이 없으면 NaN)
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : (double) sum / count;
+    }
+
+    public long min() {
+        return min;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    /**
+     * [fromIndex, toIndex] 구간을 담을 수 있게 배열 확장
+     */
+    private void ensureCapacity(int fromIndex, int toIndex) {
+        if (counts.length == 0) {
+            offset = fromIndex;
+            counts = new long[toIndex - fromIndex + 1];
+            return;
+        }
+
+        int newOffset = Math.min(offset, fromIndex);
+        int newEnd = Math.max(offset + counts.length - 1, toIndex);
+        if (newOffset == offset && newEnd == offset + counts.length - 1) {
+            return;
+        }
+
+        long[] grown = new long[newEnd - newOffset + 1];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{count=" + count + ", buckets=" + counts.length + ", zero=" + zeroCount
+                + ", min=" + min + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import com.datapublic.mcp.web.quota.RequestPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월별 집계 갱신 스케줄러
+ * 서울 25개 구 × 최근 months개월 세그먼트를 BACKGROUND 우선순위로 적재하고, 바뀐 세그먼트만 다시 집계
+ * 확정된 달은 한 번 적재하면 다시 호출하지 않으므로, 반복 실행 시 공공데이터 포털 호출은 열린 달에만 발생
+ * 공공데이터 포털 호출 한도를 쓰므로 public.data.rollup.enabled=true 일 때만 동작
+ */
+@Component
+@ConditionalOnProperty(name = "public.data.rollup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RentRollupScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DEAL_YMD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final RentColumnLoader columnLoader;
+    private final RentRollupService rollupService;
+
+    /**
+     * 집계를 유지할 최근 개월 수 (이번 달 포함)
+     */
+    @Value("${public.data.rollup.months:12}")
+    private int months;
+
+    /**
+     * 한 번 갱신에 허용하는 최대 시간
+     */
+    @Value("${public.data.rollup.timeout:30m}")
+    private Duration timeout;
+
+    @Scheduled(initialDelayString = "${public.data.rollup.initial-delay:1m}",
+            fixedDelayString = "${public.data.rollup.refresh-interval:1h}")
+    public void refresh() {
+        List<String> dealYearMonths = recentMonths();
+        log.info("🕒 월별 집계 갱신 시작 - 구 {}개, 계약년월 {}~{}", SeoulDistrictCode.getAllCodes().size(),
+                dealYearMonths.get(0), dealYearMonths.get(dealYearMonths.size() - 1));
+
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long started = System.nanoTime();
+
+        try {
+            columnLoader.loadAll(SeoulDistrictCode.getAllCodes(), dealYearMonths)
+                    .doOnNext(load -> {
+                        if (load.error() != null) {
+                            failed.incrementAndGet();
+                        } else if (rollupService.refresh(load.segment())) {
+                            updated.incrementAndGet();
+                        }
+                    })
+                    .contextWrite(RequestPriority.BACKGROUND.asContext())
+                    .blockLast(timeout);
+        } catch (RuntimeException e) {
+            log.error("❌ 월별 집계 갱신 중단 - 갱신 {}개, 실패 {}개", updated.get(), failed.get(), e);
+            return;
+        }
+
+        log.info("✅ 월별 집계 갱신 완료 - 갱신 {}개, 실패 {}개, {}ms",
+                updated.get(), failed.get(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private List<String> recentMonths() {
+        YearMonth current = YearMonth.now(ZONE);
+        List<String> result = new ArrayList<>(months);
+        for (int i = Math.max(months, 1) - 1; i >= 0; i--) {
+            result.add(current.minusMonths(i).format(DEAL_YMD_FORMAT));
+        }
+        return result;
+    }
+}
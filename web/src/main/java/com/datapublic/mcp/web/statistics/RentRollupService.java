@@ -0,0 +1,144 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.RentRollup;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 월별 전월세 집계 (구, 계약년월) → (계약구분, 면적 구간)별 건수/평균
+ * 집계는 열 단위 세그먼트가 바뀔 때만 다시 계산하고, 조회는 미리 계산된 값을 그대로 반환
+ * 세그먼트 갱신은 RentRollupScheduler가 주기적으로 하며,
+ * 다른 요청이 더 새 세그먼트를 적재해 두었으면 조회 시점에 그 세그먼트 하나만 다시 집계
+ */
+@Service
+@Slf4j
+public class RentRollupService {
+
+    private final RentColumnStore columnStore;
+    private final Map<SegmentKey, SegmentRollup> rollups = new ConcurrentHashMap<>();
+
+    public RentRollupService(RentColumnStore columnStore, MeterRegistry meterRegistry) {
+        this.columnStore = columnStore;
+        Gauge.builder("public.data.rollup.segments", rollups, Map::size)
+                .description("월별 집계가 준비된 (지역코드, 계약년월) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * (지역코드, 계약년월) 집계 조회
+     *
+     * @return 집계 목록 (집계된 적이 없으면 empty)
+     */
+    public Optional<List<RentRollup>> getRollups(String districtCode, int dealYm) {
+        SegmentKey key = new SegmentKey(districtCode, dealYm);
+        SegmentRollup rollup = rollups.get(key);
+
+        Optional<RentColumnSegment> segment = columnStore.get(districtCode, dealYm);
+        if (segment.isPresent() && (rollup == null || rollup.sourceVersion() != segment.get().version())) {
+            rollup = update(segment.get());
+        }
+        return Optional.ofNullable(rollup).map(SegmentRollup::rows);
+    }
+
+    /**
+     * 세그먼트가 집계 시점 이후 바뀌었으면 다시 집계
+     *
+     * @return 다시 집계했으면 true
+     */
+    public boolean refresh(RentColumnSegment segment) {
+        SegmentRollup current = rollups.get(new SegmentKey(segment.districtCode(), segment.dealYm()));
+        if (current != null && current.sourceVersion() == segment.version()) {
+            return false;
+        }
+        update(segment);
+        return true;
+    }
+
+    private SegmentRollup update(RentColumnSegment segment) {
+        SegmentRollup rollup = new SegmentRollup(segment.version(), compute(segment));
+        rollups.put(new SegmentKey(segment.districtCode(), segment.dealYm()), rollup);
+
+        log.debug("🧮 월별 집계 갱신 - 지역코드: {}, 계약년월: {}, {}건 → {}개 그룹",
+                segment.districtCode(), segment.dealYm(), segment.size(), rollup.rows().size());
+        return rollup;
+    }
+
+    private List<RentRollup> compute(RentColumnSegment segment) {
+        Map<GroupKey, Accumulator> groups = new HashMap<>();
+
+        for (int row = 0, size = segment.size(); row < size; row++) {
+            GroupKey key = new GroupKey(segment.contractTypeId(row), AreaBand.of(segment.exclusiveArea(row)));
+            Accumulator accumulator = groups.computeIfAbsent(key, k -> new Accumulator());
+            accumulator.count++;
+
+            long deposit = segment.deposit(row);
+            long monthlyRent = segment.monthlyRent(row);
+            if (deposit == ApartmentRentRecord.NO_AMOUNT || monthlyRent == ApartmentRentRecord.NO_AMOUNT) {
+                continue;
+            }
+            if (monthlyRent == 0) {
+                accumulator.jeonseCount++;
+                accumulator.jeonseDepositSum += deposit;
+            } else {
+                accumulator.monthlyCount++;
+                accumulator.monthlyDepositSum += deposit;
+                accumulator.monthlyRentSum += monthlyRent;
+            }
+        }
+
+        SeoulDistrictCode.District district = SeoulDistrictCode.District.fromCode(segment.districtCode());
+        String districtName = district != null ? district.getName() : null;
+        String dealYearMonth = String.valueOf(segment.dealYm());
+
+        List<RentRollup> rows = new ArrayList<>(groups.size());
+        groups.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(GroupKey::contractTypeId)
+                        .thenComparing(GroupKey::areaBand)))
+                .forEach(entry -> {
+                    Accumulator a = entry.getValue();
+                    rows.add(new RentRollup(segment.districtCode(), districtName, dealYearMonth,
+                            segment.dictionaries().contractType().decode(entry.getKey().contractTypeId()),
+                            entry.getKey().areaBand().getLabel(), a.count,
+                            a.jeonseCount, average(a.jeonseDepositSum, a.jeonseCount),
+                            a.monthlyCount, average(a.monthlyDepositSum, a.monthlyCount),
+                            average(a.monthlyRentSum, a.monthlyCount)));
+                });
+        return List.copyOf(rows);
+    }
+
+    private static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    private record SegmentKey(String districtCode, int dealYm) {
+    }
+
+    private record SegmentRollup(long sourceVersion, List<RentRollup> rows) {
+    }
+
+    private record GroupKey(int contractTypeId, AreaBand areaBand) {
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private long jeonseCount;
+        private long jeonseDepositSum;
+        private long monthlyCount;
+        private long monthlyDepositSum;
+        private long monthlyRentSum;
+    }
+}
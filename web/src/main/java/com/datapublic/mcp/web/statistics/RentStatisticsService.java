@@ -0,0 +1,239 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.dto.ApartmentRentBulkResult;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.RentStatisticsResult;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * 아파트 전월세 통계 서비스
+ * 열 단위 저장소의 세그먼트(구, 계약년월)마다 그룹별 분위수 스케치를 만들어 두고,
+ * 요청 범위의 세그먼트 스케치를 병합해 결과를 계산
+ * 세그먼트 스케치는 세그먼트가 교체/제거될 때까지 재사용되므로 같은 달을 다시 집계할 때 행을 다시 읽지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentStatisticsService {
+
+    private final ApartmentRentBulkService apartmentRentBulkService;
+    private final RentColumnLoader columnLoader;
+
+    /**
+     * 세그먼트 → (질의 → 그룹별 스케치)
+     * 세그먼트는 교체되면 더 이상 참조되지 않으므로 약한 참조로 보관
+     */
+    private final Map<RentColumnSegment, Map<Query, Map<GroupKey, GroupSketch>>> partitionCache =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 다중 구/다중 월 전월세 통계 조회
+     *
+     * @param districts 지역코드 또는 구명 목록 ("all"이면 서울 25개 구 전체)
+     * @param fromYearMonth 시작 계약년월 (6자리)
+     * @param toYearMonth 종료 계약년월 (6자리, 포함)
+     * @param groupBy 그룹 기준 목록 (district, dong, areaBand, month)
+     * @param rentType 전월세 구분 (all, jeonse, monthly)
+     * @return 그룹별 통계 Mono (조합 단위 적재 실패는 failures에 기록)
+     */
+    public Mono<RentStatisticsResult> getStatisticsReactive(List<String> districts, String fromYearMonth, String toYearMonth,
+                                                            List<String> groupBy, String rentType) {
+        return Mono.defer(() -> {
+            Query query = new Query(resolveDimensions(groupBy), RentType.fromParameter(rentType));
+            List<String> districtCodes = apartmentRentBulkService.resolveDistrictCodes(districts);
+            List<String> months = apartmentRentBulkService.resolveMonths(fromYearMonth, toYearMonth);
+
+            log.info("📊 아파트 전월세 통계 조회 - 구 {}개, 계약년월 {}~{}, 그룹: {}, 구분: {}",
+                    districtCodes.size(), fromYearMonth, toYearMonth, query.dimensions(), query.rentType());
+
+            return columnLoader.loadAll(districtCodes, months)
+                    .collectList()
+                    .map(loads -> aggregate(loads, query));
+        });
+    }
+
+    private RentStatisticsResult aggregate(List<RentColumnLoader.SegmentLoad> loads, Query query) {
+        Map<GroupKey, GroupSketch> merged = new TreeMap<>();
+        List<ApartmentRentBulkResult.Failure> failures = new ArrayList<>();
+        int segmentCount = 0;
+
+        for (RentColumnLoader.SegmentLoad load : loads) {
+            if (load.error() != null) {
+                failures.add(new ApartmentRentBulkResult.Failure(load.districtCode(), load.dealYearMonth(),
+                        load.error().getErrorCode(), load.error().getErrorMessage()));
+                continue;
+            }
+
+            segmentCount++;
+            partitionSketches(load.segment(), query).forEach((key, sketch) ->
+                    merged.computeIfAbsent(key, k -> new GroupSketch()).merge(sketch));
+        }
+
+        long rowCount = 0;
+        List<RentStatisticsResult.Group> groups = new ArrayList<>(merged.size());
+        for (Map.Entry<GroupKey, GroupSketch> entry : merged.entrySet()) {
+            GroupSketch sketch = entry.getValue();
+            rowCount += sketch.count;
+            groups.add(new RentStatisticsResult.Group(toKeyMap(query.dimensions(), entry.getKey()), sketch.count,
+                    summarize(sketch.deposit), summarize(sketch.monthlyRent)));
+        }
+
+        log.info("✅ 아파트 전월세 통계 조회 완료 - 조합 {}개, 실패 {}개, 그룹 {}개, 총 {}건",
+                segmentCount, failures.size(), groups.size(), rowCount);
+
+        return new RentStatisticsResult(groups, rowCount, segmentCount, failures);
+    }
+
+    /**
+     * 세그먼트 하나의 그룹별 스케치 (처음 요청될 때 한 번만 행을 읽음)
+     */
+    private Map<GroupKey, GroupSketch> partitionSketches(RentColumnSegment segment, Query query) {
+        Map<Query, Map<GroupKey, GroupSketch>> bySegment;
+        synchronized (partitionCache) {
+            bySegment = partitionCache.computeIfAbsent(segment, s -> new HashMap<>());
+        }
+        synchronized (bySegment) {
+            return bySegment.computeIfAbsent(query, q -> scan(segment, q));
+        }
+    }
+
+    private Map<GroupKey, GroupSketch> scan(RentColumnSegment segment, Query query) {
+        Map<GroupKey, GroupSketch> sketches = new HashMap<>();
+        List<StatisticsDimension> dimensions = query.dimensions();
+
+        for (int row = 0, size = segment.size(); row < size; row++) {
+            long monthlyRent = segment.monthlyRent(row);
+            if (!query.rentType().matches(monthlyRent)) {
+                continue;
+            }
+
+            String[] values = new String[dimensions.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = dimensionValue(dimensions.get(i), segment, row);
+            }
+
+            GroupSketch sketch = sketches.computeIfAbsent(new GroupKey(List.of(values)), k -> new GroupSketch());
+            sketch.count++;
+            if (segment.deposit(row) != ApartmentRentRecord.NO_AMOUNT) {
+                sketch.deposit.add(segment.deposit(row));
+            }
+            if (monthlyRent != ApartmentRentRecord.NO_AMOUNT) {
+                sketch.monthlyRent.add(monthlyRent);
+            }
+        }
+        return sketches;
+    }
+
+    private static String dimensionValue(StatisticsDimension dimension, RentColumnSegment segment, int row) {
+        return switch (dimension) {
+            case DISTRICT -> segment.districtCode();
+            case DONG -> {
+                String umdNm = segment.umdNm(row);
+                yield umdNm != null ? umdNm : "";
+            }
+            case AREA_BAND -> String.valueOf(AreaBand.of(segment.exclusiveArea(row)).ordinal());
+            case MONTH -> String.valueOf(segment.dealYm());
+        };
+    }
+
+    private static Map<String, String> toKeyMap(List<StatisticsDimension> dimensions, GroupKey key) {
+        Map<String, String> keyMap = new LinkedHashMap<>();
+        for (int i = 0; i < dimensions.size(); i++) {
+            StatisticsDimension dimension = dimensions.get(i);
+            String value = key.values().get(i);
+            switch (dimension) {
+                case DISTRICT -> {
+                    keyMap.put(dimension.getParameter(), value);
+                    SeoulDistrictCode.District district = SeoulDistrictCode.District.fromCode(value);
+                    if (district != null) {
+                        keyMap.put("districtName", district.getName());
+                    }
+                }
+                case AREA_BAND -> keyMap.put(dimension.getParameter(), AreaBand.values()[Integer.parseInt(value)].getLabel());
+                default -> keyMap.put(dimension.getParameter(), value);
+            }
+        }
+        return keyMap;
+    }
+
+    private static RentStatisticsResult.Summary summarize(QuantileSketch sketch) {
+        if (sketch.count() == 0) {
+            return new RentStatisticsResult.Summary(0, null, null, null, null, null, null);
+        }
+        return new RentStatisticsResult.Summary(sketch.count(), sketch.mean(), sketch.min(),
+                Math.round(sketch.quantile(0.1)), Math.round(sketch.quantile(0.5)), Math.round(sketch.quantile(0.9)),
+                sketch.max());
+    }
+
+    private static List<StatisticsDimension> resolveDimensions(List<String> groupBy) {
+        LinkedHashSet<StatisticsDimension> dimensions = new LinkedHashSet<>();
+        if (groupBy != null) {
+            for (String parameter : groupBy) {
+                if (parameter != null && !parameter.isBlank()) {
+                    dimensions.add(StatisticsDimension.fromParameter(parameter));
+                }
+            }
+        }
+        if (dimensions.isEmpty()) {
+            throw new PublicDataApiException("INVALID_GROUP_BY", "그룹 기준이 비어있습니다.");
+        }
+        return List.copyOf(dimensions);
+    }
+
+    /**
+     * 세그먼트 스케치 캐시 키 (그룹 기준 + 전월세 구분)
+     */
+    private record Query(List<StatisticsDimension> dimensions, RentType rentType) {
+    }
+
+    /**
+     * 그룹 키 (그룹 기준 순서대로의 값, 면적 구간은 구간 순서대로 정렬되도록 ordinal로 보관)
+     */
+    private record GroupKey(List<String> values) implements Comparable<GroupKey> {
+
+        @Override
+        public int compareTo(GroupKey other) {
+            for (int i = 0; i < values.size(); i++) {
+                int result = values.get(i).compareTo(other.values.get(i));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * 그룹 하나의 보증금/월세 스케치
+     */
+    private static final class GroupSketch {
+
+        private final QuantileSketch deposit = new QuantileSketch();
+        private final QuantileSketch monthlyRent = new QuantileSketch();
+        private long count;
+
+        void merge(GroupSketch other) {
+            count += other.count;
+            deposit.merge(other.deposit);
+            monthlyRent.merge(other.monthlyRent);
+        }
+    }
+}
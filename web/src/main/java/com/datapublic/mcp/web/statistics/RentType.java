@@ -0,0 +1,36 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+
+/**
+ * 전세/월세 구분 (월세 금액 0이면 전세)
+ */
+public enum RentType {
+
+    ALL,
+    JEONSE,
+    MONTHLY;
+
+    /**
+     * 월세 금액이 이 구분에 해당하는지 확인 (월세 금액을 모르면 ALL에만 포함)
+     */
+    public boolean matches(long monthlyRent) {
+        return switch (this) {
+            case ALL -> true;
+            case JEONSE -> monthlyRent == 0;
+            case MONTHLY -> monthlyRent > 0;
+        };
+    }
+
+    public static RentType fromParameter(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return ALL;
+        }
+        try {
+            return valueOf(parameter.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new PublicDataApiException("INVALID_RENT_TYPE", "지원하지 않는 전월세 구분: " + parameter
+                    + " (all, jeonse, monthly 중 선택)");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+
+/**
+ * 통계 그룹 기준
+ */
+public enum StatisticsDimension {
+
+    /**
+     * 구 (지역코드)
+     */
+    DISTRICT("district"),
+
+    /**
+     * 법정동
+     */
+    DONG("dong"),
+
+    /**
+     * 전용면적 구간
+     */
+    AREA_BAND("areaBand"),
+
+    /**
+     * 계약년월
+     */
+    MONTH("month");
+
+    private final String parameter;
+
+    StatisticsDimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /**
+     * 요청 파라미터/응답 키 이름
+     */
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static StatisticsDimension fromParameter(String parameter) {
+        String value = parameter == null ? "" : parameter.trim();
+        for (StatisticsDimension dimension : values()) {
+            if (dimension.parameter.equalsIgnoreCase(value) || dimension.name().equalsIgnoreCase(value)) {
+                return dimension;
+            }
+        }
+        throw new PublicDataApiException("INVALID_GROUP_BY", "지원하지 않는 그룹 기준: " + parameter
+                + " (district, dong, areaBand, month 중 선택)");
+    }
+}
@@ -0,0 +1,111 @@
+package com.datapublic.mcp.web.circuit;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamCircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-15T00:00:00Z"));
+    private final UpstreamCircuitBreaker breaker =
+            new UpstreamCircuitBreaker(4, 4, 50, Duration.ofSeconds(30), 2, new SimpleMeterRegistry(), clock);
+
+    @Test
+    void opensAfterTransientFailuresAndFailsFast() {
+        succeed();
+        succeed();
+        fail(new TimeoutException());
+        fail(new TimeoutException());
+
+        assertThat(breaker.currentState()).isEqualTo(CircuitState.OPEN);
+        assertThatThrownBy(this::succeed)
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("CIRCUIT_OPEN");
+        assertThat(breaker.getStatus().rejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresNonTransientErrors() {
+        for (int i = 0; i < 4; i++) {
+            fail(new PublicDataApiException("10", "INVALID REQUEST PARAMETER ERROR"));
+        }
+
+        assertThat(breaker.currentState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(breaker.getStatus().bufferedCalls()).isZero();
+    }
+
+    @Test
+    void closesAfterSuccessfulTrialCalls() {
+        for (int i = 0; i < 4; i++) {
+            fail(new TimeoutException());
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(breaker.currentState()).isEqualTo(CircuitState.HALF_OPEN);
+        succeed();
+        succeed();
+        assertThat(breaker.currentState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void reopensWhenTrialCallFails() {
+        for (int i = 0; i < 4; i++) {
+            fail(new TimeoutException());
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        fail(new TimeoutException());
+        assertThat(breaker.currentState()).isEqualTo(CircuitState.OPEN);
+    }
+
+    private void succeed() {
+        breaker.protect(Mono.just("ok"), e -> !(e instanceof PublicDataApiException)).block();
+    }
+
+    private void fail(Exception error) {
+        try {
+            breaker.protect(Mono.error(error), e -> !(e instanceof PublicDataApiException)).block();
+        } catch (RuntimeException ignored) {
+            // 결과 기록만 확인
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.datapublic.mcp.web.columnar;
+
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.service.ApartmentRentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RentColumnLoaderTest {
+
+    private final ApartmentRentService apartmentRentService = mock(ApartmentRentService.class);
+    private final DealMonthPolicy dealMonthPolicy = mock(DealMonthPolicy.class);
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, new SimpleMeterRegistry());
+    private final RentColumnLoader loader = new RentColumnLoader(apartmentRentService, store, dealMonthPolicy);
+
+    @BeforeEach
+    void setUp() {
+        when(dealMonthPolicy.cacheTtl("202405")).thenReturn(Duration.ofHours(1));
+        when(apartmentRentService.getAllApartmentRentDataReactive("11680", "202405"))
+                .thenAnswer(invocation -> Mono.just(body(rent().aptNm("래미안").build(), rent().aptNm("자이").build())));
+    }
+
+    @Test
+    void reusesOpenMonthSegmentWithinTtl() {
+        when(dealMonthPolicy.isFinalized("202405")).thenReturn(false);
+
+        RentColumnSegment first = loader.load("11680", "202405").block();
+        RentColumnSegment second = loader.load("11680", "202405").block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.finalized()).isFalse();
+        verify(apartmentRentService, times(1)).getAllApartmentRentDataReactive("11680", "202405");
+    }
+
+    @Test
+    void reloadsSegmentLoadedWhileOpenOnceMonthFinalizes() {
+        when(dealMonthPolicy.isFinalized("202405")).thenReturn(false);
+        RentColumnSegment open = loader.load("11680", "202405").block();
+
+        when(dealMonthPolicy.isFinalized("202405")).thenReturn(true);
+        RentColumnSegment finalized = loader.load("11680", "202405").block();
+        RentColumnSegment cached = loader.load("11680", "202405").block();
+
+        // 내용이 같으므로 같은 세그먼트를 확정된 내용으로 대조했다고 기록하고, 이후로는 다시 받지 않음
+        assertThat(finalized).isSameAs(open);
+        assertThat(finalized.finalized()).isTrue();
+        assertThat(cached).isSameAs(finalized);
+        verify(apartmentRentService, times(2)).getAllApartmentRentDataReactive("11680", "202405");
+    }
+
+    private static PublicDataApiResponse.Body<ApartmentRentRecord> body(ApartmentRentRecord... records) {
+        return new PublicDataApiResponse.Body<>(new PublicDataApiResponse.Items<>(List.of(records)),
+                records.length, 1, records.length);
+    }
+}
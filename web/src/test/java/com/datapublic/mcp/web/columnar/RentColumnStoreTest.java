@@ -0,0 +1,114 @@
+package com.datapublic.mcp.web.columnar;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RentColumnStoreTest {
+
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, new SimpleMeterRegistry());
+
+    @Test
+    void restoresRecordsFromColumns() {
+        ApartmentRentRecord first = rent().aptNm("래미안").amount(12_000, 0).area(84.97).floor(5).build();
+        ApartmentRentRecord second = rent().aptNm("자이").amount(3_000, 0)
+                .area(Double.NaN).floor(ApartmentRentRecord.NO_VALUE).build();
+
+        RentColumnSegment segment = store.put("11680", 202401, List.of(first, second));
+
+        assertThat(segment.size()).isEqualTo(2);
+        assertThat(segment.deposit(0)).isEqualTo(12000L);
+        assertThat(segment.exclusiveArea(0)).isEqualTo(84.97);
+        assertThat(segment.record(0)).isEqualTo(first);
+        assertThat(segment.record(1)).isEqualTo(second);
+        assertThat(segment.floor(1)).isEqualTo(ApartmentRentRecord.NO_VALUE);
+    }
+
+    @Test
+    void sharesDictionaryAcrossSegments() {
+        RentColumnSegment january = store.put("11680", 202401, List.of(rent().aptNm("래미안").amount(1, 0).build()));
+        RentColumnSegment february = store.put("11680", 202402, List.of(rent().aptNm("래미안").amount(2, 0).build()));
+
+        assertThat(january.aptNmId(0)).isEqualTo(february.aptNmId(0));
+        assertThat(store.dictionaries().aptNm().size()).isEqualTo(1);
+        assertThat(store.dictionaries().aptNm().find("래미안")).isEqualTo(january.aptNmId(0));
+        assertThat(store.segments()).extracting(RentColumnSegment::dealYm).containsExactly(202401, 202402);
+    }
+
+    @Test
+    void replacesSegmentAndEvictsOldestBeyondMaxRows() {
+        RentColumnStore store = new RentColumnStore(2, 1_000_000, new SimpleMeterRegistry());
+
+        store.put("11680", 202401, List.of(rent().aptNm("래미안").amount(1, 0).build()));
+        store.put("11680", 202401, List.of(rent().aptNm("자이").amount(1, 0).build()));
+        store.put("11650", 202401, List.of(
+                rent().aptNm("자이").amount(1, 0).build(),
+                rent().aptNm("자이").amount(2, 0).build()));
+
+        assertThat(store.get("11680", 202401)).isEmpty();
+        assertThat(store.get("11650", 202401)).isPresent();
+        assertThat(store.rowCount()).isEqualTo(2);
+        // 사전 압축 기준 전까지는 제거된 세그먼트의 아파트명도 사전에 남음
+        assertThat(store.dictionaries().aptNm().find("래미안")).isNotEqualTo(StringDictionary.NULL_ID);
+    }
+
+    @Test
+    void compactsDictionariesOnceEvictedValuesPileUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RentColumnStore store = new RentColumnStore(1, 4, meterRegistry);
+        RentColumnStore.Dictionaries initial = store.dictionaries();
+
+        store.put("11680", 202401, List.of(rent().aptNm("래미안").amount(1, 0).build()));
+        ApartmentRentRecord remaining = rent().aptNm("자이").amount(2, 0).build();
+        RentColumnSegment merged = store.merge("11650", 202401, List.of(remaining), true).segment();
+
+        RentColumnSegment compacted = store.get("11650", 202401).orElseThrow();
+        assertThat(store.dictionaries()).isNotSameAs(initial);
+        assertThat(store.dictionaries().size()).isEqualTo(4);
+        assertThat(store.dictionaries().aptNm().find("래미안")).isEqualTo(StringDictionary.NULL_ID);
+        assertThat(compacted.dictionaries()).isSameAs(store.dictionaries());
+        assertThat(compacted.record(0)).isEqualTo(remaining);
+        assertThat(compacted.version()).isEqualTo(merged.version());
+        assertThat(compacted.finalized()).isTrue();
+        assertThat(meterRegistry.get("public.data.columnar.dictionary.compactions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void mergeKeepsSegmentVersionWhenNothingChangedAndRecordsFinalization() {
+        RentColumnSegment loaded = store.merge("11680", 202401, List.of(
+                rent().aptNm("래미안").amount(1_000, 0).build(),
+                rent().aptNm("자이").amount(2_000, 0).build()), false).segment();
+
+        RentColumnStore.SegmentChange unchanged = store.merge("11680", 202401, List.of(
+                rent().aptNm("자이").amount(2_000, 0).build(),
+                rent().aptNm("래미안").amount(1_000, 0).build()), true);
+
+        assertThat(loaded.finalized()).isTrue();
+        assertThat(unchanged.changed()).isFalse();
+        assertThat(unchanged.unchanged()).isEqualTo(2);
+        assertThat(unchanged.segment()).isSameAs(loaded);
+    }
+
+    @Test
+    void mergeReplacesSegmentWithDiffCounts() {
+        RentColumnSegment loaded = store.merge("11680", 202401, List.of(
+                rent().aptNm("래미안").amount(1_000, 0).build(),
+                rent().aptNm("자이").amount(2_000, 0).build()), false).segment();
+
+        RentColumnStore.SegmentChange change = store.merge("11680", 202401, List.of(
+                rent().aptNm("래미안").amount(1_500, 0).build(),
+                rent().aptNm("힐스테이트").amount(3_000, 0).build()), false);
+
+        assertThat(change.changed()).isTrue();
+        assertThat(change.segment().version()).isGreaterThan(loaded.version());
+        assertThat(change).extracting(RentColumnStore.SegmentChange::inserted, RentColumnStore.SegmentChange::updated,
+                RentColumnStore.SegmentChange::deleted, RentColumnStore.SegmentChange::unchanged)
+                .containsExactly(1, 1, 1, 0);
+        assertThat(store.get("11680", 202401)).containsSame(change.segment());
+    }
+}
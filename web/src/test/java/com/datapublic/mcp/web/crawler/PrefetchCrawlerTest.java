@@ -0,0 +1,173 @@
+package com.datapublic.mcp.web.crawler;
+
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.storage.entity.PrefetchCheckpoint;
+import com.datapublic.mcp.storage.entity.RentMonthKey;
+import com.datapublic.mcp.storage.service.PrefetchCheckpointStore;
+import com.datapublic.mcp.storage.service.RentMonthChange;
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.dto.SeoulDistrictCode;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.quota.QuotaGovernor;
+import com.datapublic.mcp.web.quota.QuotaStatus;
+import com.datapublic.mcp.web.service.ApartmentRentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchCrawlerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-14T18:00:00Z"), ZONE);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final RentColumnLoader columnLoader = mock(RentColumnLoader.class);
+    private final PrefetchCheckpointStore checkpointStore = mock(PrefetchCheckpointStore.class);
+    private final QuotaGovernor quotaGovernor = mock(QuotaGovernor.class);
+    private final DealMonthPolicy dealMonthPolicy =
+            new DealMonthPolicy(2, Duration.ofDays(30), Duration.ofMinutes(10), CLOCK);
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, new SimpleMeterRegistry());
+
+    private final PrefetchCrawler crawler = new PrefetchCrawler(columnLoader, checkpointStore, quotaGovernor,
+            dealMonthPolicy, new SimpleMeterRegistry(), 3, List.of(), 0.3, Duration.ofHours(6),
+            Duration.ofMinutes(45), Duration.ofSeconds(5), CLOCK);
+
+    @Test
+    void crawlsNeverCrawledTargetsFirstAndSkipsFinalizedOnes() {
+        List<PrefetchCheckpoint> checkpoints = new ArrayList<>();
+        for (String districtCode : SeoulDistrictCode.getAllCodes()) {
+            checkpoints.add(checkpoint(districtCode, 202404, NOW.minusDays(3), true));
+            checkpoints.add(checkpoint(districtCode, 202405, NOW.minusHours(1), false));
+            checkpoints.add(checkpoint(districtCode, 202406, NOW.minusHours(1), false));
+        }
+        checkpoints.removeIf(checkpoint -> checkpoint.getId().equals(new RentMonthKey("11680", 202406)));
+        checkpoints.stream()
+                .filter(checkpoint -> checkpoint.getId().equals(new RentMonthKey("11650", 202405)))
+                .forEach(checkpoint -> checkpoint.setLastSuccessAt(NOW.minusHours(7)));
+        when(checkpointStore.findAll(anyCollection())).thenReturn(checkpoints);
+        when(quotaGovernor.getStatus()).thenReturn(quota(10_000, 0));
+        when(columnLoader.reload(anyString(), anyString()))
+                .thenReturn(Mono.fromSupplier(() -> store.put("11680", 202406, List.of())));
+
+        crawler.run();
+
+        InOrder order = inOrder(columnLoader);
+        order.verify(columnLoader).reload("11680", "202406");
+        order.verify(columnLoader).reload("11650", "202405");
+        verify(columnLoader, times(2)).reload(anyString(), anyString());
+        verify(checkpointStore).recordSuccess(new RentMonthKey("11680", 202406), 0, false, NOW);
+        assertThat(crawler.getStatus().lastStopReason()).isEqualTo("completed");
+        assertThat(crawler.getStatus().lastRunCrawled()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsWhenBackgroundShareOfDailyQuotaIsUsed() {
+        when(checkpointStore.findAll(anyCollection())).thenReturn(List.of());
+        when(quotaGovernor.getStatus()).thenReturn(quota(100, 0), quota(100, 10), quota(100, 30));
+        when(columnLoader.reload(anyString(), anyString()))
+                .thenReturn(Mono.fromSupplier(() -> store.put("11680", 202406, List.of())));
+
+        crawler.run();
+
+        verify(columnLoader, times(2)).reload(anyString(), anyString());
+        CrawlerStatus status = crawler.getStatus();
+        assertThat(status.lastStopReason()).isEqualTo("quota-share");
+        assertThat(status.backgroundBudget()).isEqualTo(30);
+        assertThat(status.targets()).isEqualTo(75);
+        assertThat(status.neverCrawled()).isEqualTo(75);
+    }
+
+    @Test
+    void recordsFailureAndStopsOnQuotaError() {
+        when(checkpointStore.findAll(anyCollection())).thenReturn(List.of());
+        when(quotaGovernor.getStatus()).thenReturn(quota(10_000, 0));
+        when(columnLoader.reload(anyString(), anyString()))
+                .thenReturn(Mono.error(new PublicDataApiException("QUOTA_EXCEEDED", "한도 초과")));
+
+        crawler.run();
+
+        verify(checkpointStore).recordFailure(any(RentMonthKey.class), eq("QUOTA_EXCEEDED"), eq(NOW));
+        verify(checkpointStore, never()).recordSuccess(any(), anyInt(), anyBoolean(), any());
+        assertThat(crawler.getStatus().lastStopReason()).isEqualTo("quota");
+        assertThat(crawler.getStatus().lastRunFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void recrawlsMonthFinalizedSinceLastCrawlIntoStoreBypassingCachedSegment() {
+        ApartmentRentService apartmentRentService = mock(ApartmentRentService.class);
+        PrefetchCrawler crawler = new PrefetchCrawler(new RentColumnLoader(apartmentRentService, store, dealMonthPolicy),
+                checkpointStore, quotaGovernor, dealMonthPolicy, new SimpleMeterRegistry(), 3, List.of(), 0.3,
+                Duration.ofHours(6), Duration.ofMinutes(45), Duration.ofSeconds(5), CLOCK);
+
+        // 202404는 열린 달일 때 수집했고 그 뒤 확정됨, 나머지는 수집할 필요 없음
+        List<PrefetchCheckpoint> checkpoints = new ArrayList<>();
+        for (String districtCode : SeoulDistrictCode.getAllCodes()) {
+            checkpoints.add(checkpoint(districtCode, 202404, NOW.minusHours(1), !districtCode.equals("11680")));
+            checkpoints.add(checkpoint(districtCode, 202405, NOW.minusHours(1), false));
+            checkpoints.add(checkpoint(districtCode, 202406, NOW.minusHours(1), false));
+        }
+        RentColumnSegment open = store.merge("11680", 202404, List.of(rent().aptNm("래미안").amount(1_000, 0).build()), false).segment();
+        when(checkpointStore.findAll(anyCollection())).thenReturn(checkpoints);
+        when(quotaGovernor.getStatus()).thenReturn(quota(10_000, 0));
+        when(apartmentRentService.refreshMonthReactive("11680", "202404")).thenReturn(Mono.just(
+                new ApartmentRentService.MonthRefresh(body(rent().aptNm("래미안").amount(1_000, 0).build(), rent().aptNm("자이").amount(2_000, 0).build()),
+                        new RentMonthChange(1, 0, 0, 1))));
+
+        crawler.run();
+
+        RentColumnSegment finalized = store.get("11680", 202404).orElseThrow();
+        assertThat(finalized.version()).isGreaterThan(open.version());
+        assertThat(finalized.size()).isEqualTo(2);
+        assertThat(finalized.finalized()).isTrue();
+        verify(apartmentRentService).refreshMonthReactive("11680", "202404");
+        verify(apartmentRentService, never()).getAllApartmentRentDataReactive(anyString(), anyString());
+        verify(checkpointStore).recordSuccess(new RentMonthKey("11680", 202404), 2, true, NOW);
+    }
+
+    private static PublicDataApiResponse.Body<ApartmentRentRecord> body(ApartmentRentRecord... records) {
+        return new PublicDataApiResponse.Body<>(new PublicDataApiResponse.Items<>(List.of(records)),
+                records.length, 1, records.length);
+    }
+
+    private static PrefetchCheckpoint checkpoint(String districtCode, int dealYm, LocalDateTime successAt,
+                                                 boolean finalized) {
+        PrefetchCheckpoint checkpoint = new PrefetchCheckpoint(new RentMonthKey(districtCode, dealYm));
+        checkpoint.setLastAttemptAt(successAt);
+        checkpoint.setLastSuccessAt(successAt);
+        checkpoint.setFinalized(finalized);
+        return checkpoint;
+    }
+
+    private static QuotaStatus quota(long dailyLimit, long backgroundUsed) {
+        return new QuotaStatus(dailyLimit, backgroundUsed, backgroundUsed, dailyLimit - backgroundUsed, 0,
+                false, 10, 10, 0, 0, null);
+    }
+}
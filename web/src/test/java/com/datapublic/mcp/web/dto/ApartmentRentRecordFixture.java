@@ -0,0 +1,83 @@
+package com.datapublic.mcp.web.dto;
+
+/**
+ * 테스트용 실거래 레코드 (강남구 11680, 2024-01-15 계약, 보증금 1억 전세, 84.9㎡ 5층, 2010년 건축 기본값)
+ * 테스트에서 의미 있는 필드만 바꿔 build()로 생성
+ */
+public final class ApartmentRentRecordFixture {
+
+    private String aptNm = "래미안";
+    private String umdNm = "대치동";
+    private String jibun = "1";
+    private String sggCd = "11680";
+    private int dealDate = 20240115;
+    private long deposit = 10_000;
+    private long monthlyRent = 0;
+    private double exclusiveArea = 84.9;
+    private int floor = 5;
+    private int buildYear = 2010;
+    private String contractType;
+
+    private ApartmentRentRecordFixture() {
+    }
+
+    public static ApartmentRentRecordFixture rent() {
+        return new ApartmentRentRecordFixture();
+    }
+
+    public ApartmentRentRecordFixture aptNm(String aptNm) {
+        this.aptNm = aptNm;
+        return this;
+    }
+
+    public ApartmentRentRecordFixture umdNm(String umdNm) {
+        this.umdNm = umdNm;
+        return this;
+    }
+
+    public ApartmentRentRecordFixture jibun(String jibun) {
+        this.jibun = jibun;
+        return this;
+    }
+
+    /**
+     * 계약일 (yyyyMMdd, 일자가 없으면 yyyyMM00)
+     */
+    public ApartmentRentRecordFixture dealDate(int dealDate) {
+        this.dealDate = dealDate;
+        return this;
+    }
+
+    /**
+     * 보증금/월세 (만원)
+     */
+    public ApartmentRentRecordFixture amount(long deposit, long monthlyRent) {
+        this.deposit = deposit;
+        this.monthlyRent = monthlyRent;
+        return this;
+    }
+
+    public ApartmentRentRecordFixture area(double exclusiveArea) {
+        this.exclusiveArea = exclusiveArea;
+        return this;
+    }
+
+    public ApartmentRentRecordFixture floor(int floor) {
+        this.floor = floor;
+        return this;
+    }
+
+    public ApartmentRentRecordFixture contractType(String contractType) {
+        this.contractType = contractType;
+        return this;
+    }
+
+    /**
+     * 종전 금액, 계약기간, 갱신요구권 사용 여부는 값 없음
+     */
+    public ApartmentRentRecord build() {
+        return new ApartmentRentRecord(aptNm, umdNm, jibun, sggCd, dealDate, deposit, monthlyRent,
+                ApartmentRentRecord.NO_AMOUNT, ApartmentRentRecord.NO_AMOUNT, exclusiveArea, floor, buildYear,
+                contractType, null, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.datapublic.mcp.web.export;
+
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import com.datapublic.mcp.web.service.ApartmentRentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RentCsvExporterTest {
+
+    private static final String HEADER = "districtCode,dealYearMonth,dealDate,sggCd,umdNm,jibun,aptNm,exclusiveArea,floor,"
+            + "buildYear,deposit,monthlyRent,preDeposit,preMonthlyRent,contractType,contractTerm,useRRRight";
+
+    private final ApartmentRentBulkService bulkService = mock(ApartmentRentBulkService.class);
+    private final ApartmentRentService apartmentRentService = mock(ApartmentRentService.class);
+    private final RentCsvExporter exporter = new RentCsvExporter(bulkService, apartmentRentService);
+
+    @BeforeEach
+    void setUp() {
+        when(bulkService.resolveDistrictCodes(anyList())).thenReturn(List.of("11680"));
+        when(bulkService.resolveMonths("202401", "202403", 0)).thenReturn(List.of("202401", "202402", "202403"));
+        when(bulkService.resolveMonths("202401", "202402", 0)).thenReturn(List.of("202401", "202402"));
+        when(apartmentRentService.streamAllApartmentRentDataReactive("11680", "202401", 0)).thenAnswer(invocation -> Flux.just(
+                rent().aptNm("래미안대치팰리스").dealDate(20240105).amount(120_000, 0)
+                        .area(84.97).floor(12).contractType("신규").build(),
+                rent().aptNm("힐스테이트, \"1단지\"").dealDate(20240100).amount(50_000, 150)
+                        .area(59.9).floor(ApartmentRentRecord.NO_VALUE).build()));
+        when(apartmentRentService.streamAllApartmentRentDataReactive("11680", "202402", 0)).thenAnswer(invocation -> Flux.just(
+                rent().aptNm("도곡렉슬").dealDate(20240203).amount(110_000, 0)
+                        .area(114.5).floor(20).contractType("갱신").build(),
+                rent().aptNm("타워팰리스").dealDate(20240215).amount(30_000, 200)
+                        .area(59.9).floor(7).contractType("신규").build()));
+    }
+
+    @Test
+    void writesTypedRowsInStableColumnOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rowCount = exporter.write(exporter.prepare(List.of("강남구"), "202401", "202402", null), out);
+
+        assertThat(rowCount).isEqualTo(4);
+        // 달마다 한 번씩 스트리밍 조회만 하고 전체 조회(열 단위 저장소 적재 경로)는 쓰지 않음
+        verify(apartmentRentService).streamAllApartmentRentDataReactive("11680", "202401", 0);
+        verify(apartmentRentService, never()).getAllApartmentRentDataReactive(anyString(), anyString());
+        assertThat(gunzip(out.toByteArray()).split("\n")).containsExactly(
+                HEADER,
+                "11680,202401,2024-01-05,11680,대치동,1,래미안대치팰리스,84.97,12,2010,120000,0,,,신규,,",
+                "11680,202401,,11680,대치동,1,\"힐스테이트, \"\"1단지\"\"\",59.9,,2010,50000,150,,,,,",
+                "11680,202402,2024-02-03,11680,대치동,1,도곡렉슬,114.5,20,2010,110000,0,,,갱신,,",
+                "11680,202402,2024-02-15,11680,대치동,1,타워팰리스,59.9,7,2010,30000,200,,,신규,,");
+    }
+
+    @Test
+    void resumesFromCursorWithoutHeaderOrEarlierMonths() throws IOException {
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        exporter.write(exporter.prepare(List.of("강남구"), "202401", "202402", null), full);
+        String[] lines = gunzip(full.toByteArray()).split("\n");
+
+        // 둘째 달의 두 번째 행부터: 첫 달은 조회하지 않고 둘째 달은 건너뛸 행 수를 넘겨 조회
+        when(apartmentRentService.streamAllApartmentRentDataReactive("11680", "202402", 1))
+                .thenReturn(Flux.just(rent().aptNm("타워팰리스").dealDate(20240215).amount(30_000, 200)
+                        .area(59.9).floor(7).contractType("신규").build()));
+        ByteArrayOutputStream resumed = new ByteArrayOutputStream();
+        long rowCount = exporter.write(exporter.prepare(List.of("강남구"), "202401", "202402", "11680:202402:1"), resumed);
+
+        assertThat(rowCount).isEqualTo(1);
+        assertThat(gunzip(resumed.toByteArray())).isEqualTo(lines[4] + "\n");
+        // 첫 달은 처음 내보내기에서 한 번만 조회
+        verify(apartmentRentService).streamAllApartmentRentDataReactive("11680", "202401", 0);
+    }
+
+    @Test
+    void abortsWithTruncatedGzipWhenMonthFails() {
+        when(apartmentRentService.streamAllApartmentRentDataReactive("11680", "202403", 0))
+                .thenReturn(Flux.error(new PublicDataApiException("HTTP_ERROR", "upstream down")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> exporter.write(exporter.prepare(List.of("강남구"), "202401", "202403", null), out))
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("HTTP_ERROR");
+        // gzip 끝부분(trailer)을 쓰지 않았으므로 정상 종료된 파일로 읽히지 않음
+        assertThatThrownBy(() -> gunzip(out.toByteArray())).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void rejectsMalformedOrOutOfRangeCursor() {
+        for (String cursor : List.of("11680:202402", "11680:202402:-1", "11680:202402:x", "11650:202402:0", "11680:202312:0")) {
+            assertThatThrownBy(() -> exporter.prepare(List.of("강남구"), "202401", "202402", cursor))
+                    .isInstanceOf(PublicDataApiException.class)
+                    .extracting("errorCode").isEqualTo("INVALID_CURSOR");
+        }
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
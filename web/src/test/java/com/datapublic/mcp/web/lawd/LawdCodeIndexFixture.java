@@ -0,0 +1,25 @@
+package com.datapublic.mcp.web.lawd;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 테스트용 전국 법정동코드 색인 (빌드 시 classpath에 복사된 파일을 한 번만 읽음)
+ */
+public final class LawdCodeIndexFixture {
+
+    public static final LawdCodeIndex INDEX = load();
+
+    private LawdCodeIndexFixture() {
+    }
+
+    private static LawdCodeIndex load() {
+        try (InputStream inputStream = LawdCodeIndexFixture.class
+                .getResourceAsStream("/lawd/legal-administrative-district-code.txt")) {
+            return LawdCodeIndex.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
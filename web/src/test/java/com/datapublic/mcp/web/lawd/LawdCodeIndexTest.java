@@ -0,0 +1,99 @@
+package com.datapublic.mcp.web.lawd;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LawdCodeIndexTest {
+
+    private static final String FILE = String.join("\n",
+            "법정동코드\t법정동명\t폐지여부",
+            "1100000000\t서울특별시\t존재",
+            "1168000000\t서울특별시 강남구\t존재",
+            "1168010100\t서울특별시 강남구 역삼동\t존재",
+            "1168010200\t서울특별시 강남구 개포동\t존재",
+            "1168010300\t서울특별시 강남구 옛동\t폐지",
+            "1114000000\t서울특별시 중구\t존재",
+            "2600000000\t부산광역시\t존재",
+            "2611000000\t부산광역시 중구\t존재",
+            "2100000000\t부산직할시\t폐지",
+            "3611000000\t세종특별자치시\t존재",
+            "3611010100\t세종특별자치시 반곡동\t존재",
+            "4100000000\t경기도\t존재",
+            "4182000000\t경기도 가평군\t존재",
+            "4182025000\t경기도 가평군 가평읍\t존재",
+            "4182025021\t경기도 가평군 가평읍 읍내리\t존재");
+
+    private final LawdCodeIndex index = load(FILE);
+
+    @Test
+    void looksUpCodesAndRestoresFullNames() {
+        assertThat(index.size()).isEqualTo(15);
+        assertThat(index.activeSize()).isEqualTo(13);
+        assertThat(index.find("11680")).hasValueSatisfying(region -> {
+            assertThat(region.name()).isEqualTo("서울특별시 강남구");
+            assertThat(region.level()).isEqualTo(LawdLevel.SIGUNGU);
+        });
+        assertThat(index.find("4182025021")).hasValueSatisfying(region -> {
+            assertThat(region.name()).isEqualTo("경기도 가평군 가평읍 읍내리");
+            assertThat(region.lawdCd()).isEqualTo("41820");
+            assertThat(region.level()).isEqualTo(LawdLevel.RI);
+        });
+        assertThat(index.find("1168010300")).hasValueSatisfying(region -> assertThat(region.abolished()).isTrue());
+        assertThat(index.find("1168a")).isEmpty();
+    }
+
+    @Test
+    void validatesOnlyActiveSigunguCodes() {
+        assertThat(index.isActiveLawdCd("11680")).isTrue();
+        assertThat(index.isActiveLawdCd("36110")).isTrue();
+        assertThat(index.isActiveLawdCd("11000")).isFalse();
+        assertThat(index.isActiveLawdCd("21000")).isFalse();
+        assertThat(index.isActiveLawdCd("99999")).isFalse();
+        assertThat(index.isActiveLawdCd("1168010100")).isFalse();
+    }
+
+    @Test
+    void findsRegionsByFullOrUnambiguousShortName() {
+        assertThat(index.findRegionByName("서울특별시 강남구")).map(LawdRegion::lawdCd).hasValue("11680");
+        assertThat(index.findRegionByName("가평군")).map(LawdRegion::lawdCd).hasValue("41820");
+        assertThat(index.findRegionByName("중구")).isEmpty();
+        assertThat(index.findRegionByName("부산직할시")).isEmpty();
+        assertThat(index.findInSigungu("11680", "역삼동")).map(LawdRegion::code).hasValue("1168010100");
+        assertThat(index.findInSigungu("11680", "옛동")).isEmpty();
+    }
+
+    @Test
+    void traversesHierarchyWithoutAbolishedEntries() {
+        assertThat(index.sidos()).extracting(LawdRegion::name)
+                .containsExactly("서울특별시", "부산광역시", "세종특별자치시", "경기도");
+        assertThat(index.children("1100000000")).extracting(LawdRegion::name)
+                .containsExactly("서울특별시 중구", "서울특별시 강남구");
+        assertThat(index.children("11680")).extracting(LawdRegion::name)
+                .containsExactly("서울특별시 강남구 역삼동", "서울특별시 강남구 개포동");
+        assertThat(index.children("4182025000")).extracting(LawdRegion::code).containsExactly("4182025021");
+    }
+
+    @Test
+    void loadsBundledNationwideFile() {
+        LawdCodeIndex nationwide = LawdCodeIndexFixture.INDEX;
+
+        assertThat(nationwide.size()).isEqualTo(49_861);
+        assertThat(nationwide.activeSize()).isEqualTo(20_555);
+        assertThat(nationwide.isActiveLawdCd("41135")).isTrue();
+        assertThat(nationwide.children("1100000000")).hasSize(25);
+        assertThat(nationwide.findRegionByName("경기도 성남시 분당구")).map(LawdRegion::lawdCd).hasValue("41135");
+    }
+
+    private static LawdCodeIndex load(String content) {
+        try {
+            return LawdCodeIndex.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.datapublic.mcp.web.lawd;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionAutocompleteTest {
+
+    private final RegionAutocomplete autocomplete = new RegionAutocomplete(LawdCodeIndexFixture.INDEX);
+
+    @Test
+    void ranksSigunguBeforeDongsForSyllablePrefix() {
+        assertThat(autocomplete.suggest("강남", null, 3))
+                .first()
+                .satisfies(region -> assertThat(region.name()).isEqualTo("서울특별시 강남구"));
+    }
+
+    @Test
+    void matchesSyllableBeingTyped() {
+        assertThat(autocomplete.suggest("역ㅅ", LawdLevel.EUPMYEONDONG, 50))
+                .extracting(LawdRegion::name)
+                .contains("서울특별시 강남구 역삼동");
+        assertThat(autocomplete.suggest("역삼", LawdLevel.EUPMYEONDONG, 50))
+                .extracting(LawdRegion::name)
+                .contains("서울특별시 강남구 역삼동");
+    }
+
+    @Test
+    void searchesInitialConsonants() {
+        assertThat(autocomplete.suggest("ㄱㄴㄱ", LawdLevel.SIGUNGU, 10))
+                .extracting(LawdRegion::name)
+                .contains("서울특별시 강남구");
+    }
+
+    @Test
+    void narrowsWithAdditionalWords() {
+        assertThat(autocomplete.suggest("역삼 강남", null, 10))
+                .extracting(LawdRegion::name)
+                .containsExactly("서울특별시 강남구 역삼동");
+        assertThat(autocomplete.suggest("중구 서울", LawdLevel.SIGUNGU, 10))
+                .extracting(LawdRegion::lawdCd)
+                .containsExactly("11140");
+    }
+
+    @Test
+    void returnsDistinctRegionsUpToLimit() {
+        assertThat(autocomplete.suggest("ㅅ", null, 50)).hasSize(50).doesNotHaveDuplicates();
+        assertThat(autocomplete.suggest("  ", null, 10)).isEmpty();
+        assertThat(autocomplete.suggest("없는이름", null, 10)).isEmpty();
+    }
+
+    @Test
+    void decomposesCompoundVowelsAndFinals() {
+        assertThat(HangulJamo.decompose("광닭")).isEqualTo("ㄱㅗㅏㅇㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과ㄺ")).isEqualTo("ㄱㅗㅏㄹㄱ");
+        assertThat(HangulJamo.choseong("역삼동")).isEqualTo("ㅇㅅㄷ");
+        assertThat(HangulJamo.isChoseongOnly("ㄱㄴ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("ㄱㅏ")).isFalse();
+    }
+}
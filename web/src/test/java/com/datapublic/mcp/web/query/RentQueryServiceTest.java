@@ -0,0 +1,113 @@
+package com.datapublic.mcp.web.query;
+
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.search.RentSearchIndex;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import com.datapublic.mcp.web.statistics.RentType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RentQueryServiceTest {
+
+    private final ApartmentRentBulkService bulkService = mock(ApartmentRentBulkService.class);
+    private final RentColumnLoader columnLoader = mock(RentColumnLoader.class);
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, new SimpleMeterRegistry());
+    private final RentSearchIndex searchIndex = new RentSearchIndex(store, new SimpleMeterRegistry());
+    private final RentQueryService queryService = new RentQueryService(bulkService, columnLoader, store, searchIndex);
+
+    @BeforeEach
+    void setUp() {
+        RentColumnSegment january = store.put("11680", 202401, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").dealDate(20240105).amount(120_000, 0)
+                        .area(84.9).floor(12).contractType("신규").build(),
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").dealDate(20240112).amount(50_000, 150)
+                        .area(59.9).floor(3).contractType("갱신").build(),
+                rent().aptNm("도곡렉슬").umdNm("도곡동").dealDate(20240120).amount(90_000, 0)
+                        .area(84.9).floor(ApartmentRentRecord.NO_VALUE).contractType("신규").build()));
+        RentColumnSegment february = store.put("11680", 202402, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").dealDate(20240203).amount(110_000, 0)
+                        .area(114.5).floor(20).contractType("갱신").build(),
+                rent().aptNm("도곡렉슬").umdNm("도곡동").dealDate(20240215).amount(30_000, 200)
+                        .area(59.9).floor(7).contractType("신규").build()));
+
+        when(bulkService.resolveDistrictCodes(anyList())).thenReturn(List.of("11680"));
+        when(bulkService.resolveMonths("202401", "202403")).thenReturn(List.of("202401", "202402", "202403"));
+        when(columnLoader.loadAll(List.of("11680"), List.of("202401", "202402", "202403"))).thenReturn(Flux.just(
+                new RentColumnLoader.SegmentLoad("11680", "202401", january, null),
+                new RentColumnLoader.SegmentLoad("11680", "202402", february, null),
+                new RentColumnLoader.SegmentLoad("11680", "202403", null,
+                        new PublicDataApiException("HTTP_ERROR", "upstream down"))));
+    }
+
+    @Test
+    void filtersAndSortsAcrossSegments() {
+        RentQueryService.Result result = query(RentFilter.builder()
+                .rentType(RentType.JEONSE).minArea(80.0).build(), "-deposit", 10);
+
+        assertThat(result.records()).extracting(ApartmentRentRecord::deposit).containsExactly(120_000L, 110_000L, 90_000L);
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(result.scannedRowCount()).isEqualTo(5);
+        assertThat(result.segmentCount()).isEqualTo(2);
+        assertThat(result.failures()).singleElement()
+                .satisfies(failure -> assertThat(failure.getDealYearMonth()).isEqualTo("202403"));
+    }
+
+    @Test
+    void pushesNameFilterDownToSearchIndex() {
+        RentQueryService.Result result = query(RentFilter.builder()
+                .aptNm("래미안").contractType("갱신").build(), null, 10);
+
+        assertThat(result.records()).extracting(ApartmentRentRecord::dealDate).containsExactly(20240203, 20240112);
+        // 색인으로 고른 래미안 3건만 확인
+        assertThat(result.scannedRowCount()).isEqualTo(3);
+
+        RentQueryService.Result unknown = query(RentFilter.builder().contractType("해지").build(), null, 10);
+        assertThat(unknown.totalCount()).isZero();
+        assertThat(unknown.scannedRowCount()).isZero();
+    }
+
+    @Test
+    void limitsAfterSortingAndKeepsMissingValuesLast() {
+        RentQueryService.Result result = query(RentFilter.builder().build(), "floor", 2);
+
+        assertThat(result.totalCount()).isEqualTo(5);
+        assertThat(result.records()).extracting(ApartmentRentRecord::floor).containsExactly(3, 7);
+
+        RentQueryService.Result descending = query(RentFilter.builder().build(), "-floor", 5);
+        assertThat(descending.records()).extracting(ApartmentRentRecord::floor)
+                .containsExactly(20, 12, 7, 3, ApartmentRentRecord.NO_VALUE);
+
+        RentQueryService.Result ranged = query(RentFilter.builder().maxFloor(10).build(), null, 10);
+        assertThat(ranged.records()).extracting(ApartmentRentRecord::floor).containsExactly(7, 3);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> RentFilter.builder().minDeposit(10L).maxDeposit(5L).build())
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("INVALID_FILTER");
+        assertThatThrownBy(() -> RentSort.fromParameter("-price"))
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("INVALID_SORT");
+    }
+
+    private RentQueryService.Result query(RentFilter filter, String sort, int limit) {
+        return queryService.queryReactive(List.of("강남구"), "202401", "202403", filter,
+                RentSort.fromParameters(sort == null ? null : List.of(sort)), limit).block();
+    }
+}
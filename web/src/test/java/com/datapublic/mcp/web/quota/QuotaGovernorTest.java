@@ -0,0 +1,114 @@
+package com.datapublic.mcp.web.quota;
+
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuotaGovernorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-15T03:00:00Z"));
+    private final QuotaGovernor governor =
+            new QuotaGovernor(2, 10, 3, 10, Duration.ofSeconds(5), new SimpleMeterRegistry(), clock);
+
+    @AfterEach
+    void tearDown() {
+        governor.shutdown();
+    }
+
+    @Test
+    void queuesBeyondPerSecondLimitAndServesInteractiveFirst() {
+        governor.acquire(RequestPriority.INTERACTIVE).block();
+        governor.acquire(RequestPriority.INTERACTIVE).block();
+
+        List<String> order = new ArrayList<>();
+        governor.acquire(RequestPriority.BACKGROUND).subscribe(null, null, () -> order.add("background"));
+        governor.acquire(RequestPriority.INTERACTIVE).subscribe(null, null, () -> order.add("interactive"));
+        assertThat(order).isEmpty();
+        assertThat(governor.getStatus().queuedInteractive()).isEqualTo(1);
+
+        clock.advance(Duration.ofMillis(500));
+        governor.drain();
+        assertThat(order).containsExactly("interactive");
+
+        clock.advance(Duration.ofMillis(500));
+        governor.drain();
+        assertThat(order).containsExactly("interactive", "background");
+        assertThat(governor.getStatus().dailyUsed()).isEqualTo(4);
+        assertThat(governor.getStatus().backgroundUsed()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsReserveForInteractiveAndStopsAtDailyLimit() {
+        for (int i = 0; i < 7; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            governor.acquire(RequestPriority.BACKGROUND).block();
+        }
+
+        assertThatThrownBy(() -> governor.acquire(RequestPriority.BACKGROUND).block())
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("QUOTA_THROTTLED");
+
+        for (int i = 0; i < 3; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            governor.acquire(RequestPriority.INTERACTIVE).block();
+        }
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(() -> governor.acquire(RequestPriority.INTERACTIVE).block())
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("QUOTA_EXCEEDED");
+        assertThat(governor.getStatus().dailyRemaining()).isZero();
+    }
+
+    @Test
+    void upstreamQuotaErrorBlocksUntilNextDay() {
+        governor.markExhausted();
+
+        assertThatThrownBy(() -> governor.acquire(RequestPriority.INTERACTIVE).block())
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("QUOTA_EXCEEDED");
+
+        clock.advance(Duration.ofDays(1));
+        governor.acquire(RequestPriority.INTERACTIVE).block();
+        assertThat(governor.getStatus().exhausted()).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
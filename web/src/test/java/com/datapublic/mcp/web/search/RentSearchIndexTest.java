@@ -0,0 +1,134 @@
+package com.datapublic.mcp.web.search;
+
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RentSearchIndexTest {
+
+    private final RentColumnStore store = new RentColumnStore(10, 1_000_000, new SimpleMeterRegistry());
+    private final RentSearchIndex index = new RentSearchIndex(store, new SimpleMeterRegistry());
+
+    @Test
+    void findsComplexesByNamePartAcrossDistrictsAndMonths() {
+        store.put("11680", 202401, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").jibun("316").dealDate(20240105).build(),
+                rent().aptNm("도곡렉슬").umdNm("도곡동").jibun("527").dealDate(20240110).build()));
+        store.put("11650", 202402, List.of(
+                rent().aptNm("래미안 퍼스티지").umdNm("반포동").jibun("20-43").dealDate(20240203).build(),
+                rent().aptNm("반포자이").umdNm("반포동").jibun("20-45").dealDate(20240220).build()));
+
+        RentSearchIndex.SearchResult result = index.search(query("래미안", null, null));
+
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.segmentCount()).isEqualTo(2);
+        assertThat(result.indexedSegmentCount()).isEqualTo(2);
+        assertThat(result.records()).extracting(ApartmentRentRecord::aptNm)
+                .containsExactly("래미안 퍼스티지", "래미안대치팰리스");
+
+        assertThat(index.search(query("안퍼스", null, null)).records())
+                .extracting(ApartmentRentRecord::aptNm).containsExactly("래미안 퍼스티지");
+        assertThat(index.search(query("자", null, null)).totalCount()).isEqualTo(1);
+        assertThat(index.search(query("힐스테이트", null, null)).totalCount()).isZero();
+    }
+
+    @Test
+    void combinesNameWithExactDongAndJibun() {
+        store.put("11650", 202402, List.of(
+                rent().aptNm("래미안 퍼스티지").umdNm("반포동").jibun("20-43").dealDate(20240203).build(),
+                rent().aptNm("래미안 원베일리").umdNm("반포동").jibun("1-1").dealDate(20240211).build(),
+                rent().aptNm("래미안 원베일리").umdNm("반포동").jibun("1-1").dealDate(20240225).build(),
+                rent().aptNm("래미안 리더스원").umdNm("서초동").jibun("1317").dealDate(20240212).build()));
+
+        assertThat(index.search(query("래미안", "반포동", null)).totalCount()).isEqualTo(3);
+        assertThat(index.search(query(null, "반포동", "1-1")).records())
+                .extracting(ApartmentRentRecord::dealDate).containsExactly(20240225, 20240211);
+        assertThat(index.search(query(null, null, "1317")).records())
+                .extracting(ApartmentRentRecord::aptNm).containsExactly("래미안 리더스원");
+        assertThat(index.search(query("래미안", "잠실동", null)).totalCount()).isZero();
+    }
+
+    @Test
+    void filtersByDistrictAndMonthRange() {
+        store.put("11680", 202401, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").jibun("316").dealDate(20240105).build()));
+        store.put("11680", 202403, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").jibun("316").dealDate(20240305).build()));
+        store.put("11650", 202403, List.of(
+                rent().aptNm("래미안 퍼스티지").umdNm("반포동").jibun("20-43").dealDate(20240303).build()));
+
+        RentSearchIndex.SearchResult result = index.search(
+                RentSearchQuery.of("래미안", null, null, List.of("11680"), "202402", null, 10));
+
+        assertThat(result.records()).extracting(ApartmentRentRecord::dealDate).containsExactly(20240305);
+    }
+
+    @Test
+    void followsSegmentReplacementAndEviction() {
+        store.put("11680", 202401, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").jibun("316").dealDate(20240105).build()));
+        store.put("11680", 202401, List.of(
+                rent().aptNm("도곡렉슬").umdNm("도곡동").jibun("527").dealDate(20240110).build()));
+
+        assertThat(index.search(query("래미안", null, null)).totalCount()).isZero();
+        assertThat(index.search(query("렉슬", null, null)).totalCount()).isEqualTo(1);
+
+        store.remove("11680", 202401);
+        assertThat(index.search(query("렉슬", null, null)).totalCount()).isZero();
+
+        // maxRows(10)를 넘기면 가장 먼저 적재한 세그먼트가 빠지고 색인에서도 빠짐
+        store.put("11680", 202402, List.of(
+                rent().aptNm("렉슬").umdNm("도곡동").jibun("527").dealDate(20240201).build()));
+        store.put("11680", 202403, IntStream.rangeClosed(1, 10)
+                .mapToObj(day -> rent().aptNm("자이").umdNm("도곡동").jibun("1").dealDate(20240300 + day).build())
+                .toList());
+
+        assertThat(index.search(query("렉슬", null, null)).totalCount()).isZero();
+        assertThat(index.search(query(null, "도곡동", null)).totalCount()).isEqualTo(10);
+    }
+
+    @Test
+    void rebuildsAfterDictionaryCompaction() {
+        RentColumnStore store = new RentColumnStore(1, 4, new SimpleMeterRegistry());
+        RentSearchIndex index = new RentSearchIndex(store, new SimpleMeterRegistry());
+        store.put("11680", 202401, List.of(
+                rent().aptNm("래미안대치팰리스").umdNm("대치동").jibun("316").dealDate(20240105).build()));
+        RentColumnStore.Dictionaries evicted = store.dictionaries();
+
+        store.put("11650", 202402, List.of(
+                rent().aptNm("반포자이").umdNm("반포동").jibun("20-45").dealDate(20240220).build()));
+        assertThat(store.dictionaries()).isNotSameAs(evicted);
+        assertThat(index.search(query("래미안", null, null)).totalCount()).isZero();
+        assertThat(index.search(query("자이", "반포동", "20-45")).records())
+                .extracting(ApartmentRentRecord::dealDate).containsExactly(20240220);
+        // 압축 전 사전으로 인코딩된 세그먼트는 색인 대신 그 사전을 훑어 id를 찾음
+        assertThat(index.findAptNmIds(evicted, "래미안")).containsExactly(evicted.aptNm().find("래미안대치팰리스"));
+
+        store.put("11650", 202403, List.of(
+                rent().aptNm("반포자이").umdNm("반포동").jibun("20-45").dealDate(20240310).build()));
+        assertThat(index.search(query("자이", null, null)).records())
+                .extracting(ApartmentRentRecord::dealDate).containsExactly(20240310);
+    }
+
+    @Test
+    void rejectsEmptyQuery() {
+        assertThatThrownBy(() -> index.search(query(" ", null, null)))
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("INVALID_SEARCH");
+        assertThatThrownBy(() -> index.search(query("()", null, null)))
+                .isInstanceOf(PublicDataApiException.class);
+    }
+
+    private static RentSearchQuery query(String aptNm, String umdNm, String jibun) {
+        return RentSearchQuery.of(aptNm, umdNm, jibun, List.of(), null, null, 100);
+    }
+}
@@ -0,0 +1,129 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentBulkResult;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.ApartmentRentStreamEvent;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.lawd.LawdCodeIndexFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApartmentRentBulkServiceTest {
+
+    private final ApartmentRentService apartmentRentService = mock(ApartmentRentService.class);
+    private final ApartmentRentBulkService bulkService = new ApartmentRentBulkService(apartmentRentService,
+            LawdCodeIndexFixture.INDEX);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkService, "concurrency", 4);
+        ReflectionTestUtils.setField(bulkService, "maxMonths", 12);
+
+        when(apartmentRentService.getAllApartmentRentDataReactive(anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    String districtCode = invocation.getArgument(0);
+                    String dealYearMonth = invocation.getArgument(1);
+                    if ("11650".equals(districtCode) && "202402".equals(dealYearMonth)) {
+                        return Mono.error(new PublicDataApiException("22", "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR."));
+                    }
+                    return Mono.just(body(districtCode + "-" + dealYearMonth));
+                });
+    }
+
+    @Test
+    void reportsFailedSegmentWithoutFailingWholeRequest() {
+        ApartmentRentBulkResult result = bulkService
+                .getBulkApartmentRentDataReactive(List.of("11680", "서초구"), "202401", "202402")
+                .block();
+
+        assertThat(result.getItems()).extracting(ApartmentRentRecord::aptNm)
+                .containsExactly("11680-202401", "11680-202402", "11650-202401");
+        assertThat(result.getSegments()).hasSize(4);
+        assertThat(result.getFailures()).singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.getDistrictCode()).isEqualTo("11650");
+                    assertThat(failure.getDealYearMonth()).isEqualTo("202402");
+                    assertThat(failure.getErrorCode()).isEqualTo("22");
+                });
+    }
+
+    @Test
+    void streamsItemsThenFailureThenSummary() {
+        when(apartmentRentService.streamAllApartmentRentDataReactive(anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    String districtCode = invocation.getArgument(0);
+                    String dealYearMonth = invocation.getArgument(1);
+                    if ("11650".equals(districtCode) && "202402".equals(dealYearMonth)) {
+                        return Flux.error(new PublicDataApiException("22", "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR."));
+                    }
+                    return Flux.fromIterable(body(districtCode + "-" + dealYearMonth).getItems().getItem());
+                });
+
+        List<ApartmentRentStreamEvent> events = bulkService
+                .streamBulkApartmentRentData(List.of("11680", "서초구"), "202401", "202402")
+                .collectList()
+                .block();
+
+        assertThat(events).hasSize(5);
+        assertThat(events.subList(0, 3)).extracting(event -> ((ApartmentRentStreamEvent.Item) event).record().aptNm())
+                .containsExactly("11680-202401", "11680-202402", "11650-202401");
+        assertThat(events.get(3)).isInstanceOfSatisfying(ApartmentRentStreamEvent.SegmentFailure.class,
+                failure -> assertThat(failure.failure().getErrorCode()).isEqualTo("22"));
+        assertThat(events.get(4)).isInstanceOfSatisfying(ApartmentRentStreamEvent.Summary.class, summary -> {
+            assertThat(summary.totalCount()).isEqualTo(3);
+            assertThat(summary.segments()).hasSize(4);
+            assertThat(summary.failures()).singleElement()
+                    .satisfies(failure -> assertThat(failure.getDealYearMonth()).isEqualTo("202402"));
+        });
+
+        // 잘못된 범위는 스트림을 열기 전에 거부
+        assertThatThrownBy(() -> bulkService.streamBulkApartmentRentData(List.of("11680"), "202403", "202401"))
+                .isInstanceOf(PublicDataApiException.class);
+    }
+
+    @Test
+    void expandsAllDistricts() {
+        ApartmentRentBulkResult result = bulkService
+                .getBulkApartmentRentDataReactive(List.of("all"), "202401", "202401")
+                .block();
+
+        assertThat(result.getSegments()).hasSize(25);
+        assertThat(result.getFailures()).isEmpty();
+    }
+
+    @Test
+    void resolvesDistrictsNationwide() {
+        assertThat(bulkService.resolveDistrictCodes(List.of("중구", "41135", "경기도 가평군", "11680")))
+                .containsExactly("11140", "41135", "41820", "11680");
+        assertThatThrownBy(() -> bulkService.resolveDistrictCodes(List.of("없는구")))
+                .isInstanceOf(PublicDataApiException.class);
+    }
+
+    @Test
+    void rejectsInvalidRange() {
+        assertThatThrownBy(() -> bulkService
+                .getBulkApartmentRentDataReactive(List.of("11680"), "202403", "202401").block())
+                .isInstanceOf(PublicDataApiException.class);
+        assertThatThrownBy(() -> bulkService
+                .getBulkApartmentRentDataReactive(List.of("11680"), "202301", "202401").block())
+                .isInstanceOf(PublicDataApiException.class);
+    }
+
+    private PublicDataApiResponse.Body<ApartmentRentRecord> body(String aptNm) {
+        return new PublicDataApiResponse.Body<>(
+                new PublicDataApiResponse.Items<>(List.of(rent().aptNm(aptNm).build())), 1, 1, 1);
+    }
+}
@@ -0,0 +1,300 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.storage.cache.DealMonthPolicy;
+import com.datapublic.mcp.storage.cache.RentCacheKey;
+import com.datapublic.mcp.storage.cache.TwoTierCache;
+import com.datapublic.mcp.storage.service.RentMonthChange;
+import com.datapublic.mcp.storage.service.RentMonthPage;
+import com.datapublic.mcp.storage.service.RentTransactionStore;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.lawd.LawdCodeIndexFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApartmentRentServiceTest {
+
+    private static final int TOTAL_COUNT = 7;
+    private static final int PAGE_SIZE = 2;
+
+    private final PublicDataApiClient apiClient = mock(PublicDataApiClient.class);
+    @SuppressWarnings("unchecked")
+    private final TwoTierCache<PublicDataApiResponse.Body<ApartmentRentRecord>> pageCache = mock(TwoTierCache.class);
+    private final DealMonthPolicy dealMonthPolicy = mock(DealMonthPolicy.class);
+    private final RentTransactionStore transactionStore = mock(RentTransactionStore.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger subscribed = new AtomicInteger();
+
+    /**
+     * true이면 업스트림 페이지를 release(pageNo)로 도착시킬 때까지 보류 (페이지 번호 → 도착 신호)
+     */
+    private boolean holdPages;
+    private final Map<Integer, Sinks.Empty<Void>> pendingPages = new ConcurrentHashMap<>();
+
+    private ApartmentRentService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(pageCache.getOrLoad(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(1)).get());
+        when(dealMonthPolicy.isFinalized(anyString())).thenReturn(false);
+        when(apiClient.callApiReactive(anyString(), anyMap(), eq(ApartmentRentRecord.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(1)));
+
+        service = new ApartmentRentService(apiClient, pageCache, dealMonthPolicy,
+                transactionStore, new RentTransactionMapper(), LawdCodeIndexFixture.INDEX,
+                new InFlightRequestCoalescer(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "fetchAllPageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(service, "fetchAllConcurrency", 3);
+    }
+
+    @Test
+    void fetchAllMergesConcurrentPagesInOrder() {
+        holdPages = true;
+        AtomicReference<PublicDataApiResponse.Body<ApartmentRentRecord>> result = new AtomicReference<>();
+        service.getAllApartmentRentDataReactive("11680", "202401").subscribe(result::set);
+
+        // 첫 페이지의 totalCount(7건 / 2건씩 4페이지)를 받은 뒤 나머지 3페이지를 한 번에 요청
+        assertThat(pendingPages).containsOnlyKeys(1);
+        release(1);
+        assertThat(pendingPages).containsOnlyKeys(1, 2, 3, 4);
+
+        // 뒤 페이지가 먼저 도착해도 페이지 순서대로 합침
+        release(4, 3);
+        assertThat(result.get()).isNull();
+        release(2);
+
+        PublicDataApiResponse.Body<ApartmentRentRecord> body = result.get();
+        assertThat(body.getTotalCount()).isEqualTo(TOTAL_COUNT);
+        assertThat(body.getNumOfRows()).isEqualTo(TOTAL_COUNT);
+        assertThat(body.getItems().getItem()).extracting(ApartmentRentRecord::aptNm)
+                .containsExactly("아파트0", "아파트1", "아파트2", "아파트3", "아파트4", "아파트5", "아파트6");
+        assertThat(maxInFlight.get()).isEqualTo(3);
+    }
+
+    @Test
+    void streamEmitsPagesInOrderAndFollowsDemand() {
+        ReflectionTestUtils.setField(service, "fetchAllPageSize", 1);
+        ReflectionTestUtils.setField(service, "fetchAllConcurrency", 2);
+        holdPages = true;
+
+        List<String> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        BaseSubscriber<ApartmentRentRecord> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(ApartmentRentRecord value) {
+                received.add(value.aptNm());
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.set(true);
+            }
+        };
+        service.streamAllApartmentRentDataReactive("11680", "202401").subscribe(subscriber);
+
+        assertThat(pendingPages).containsOnlyKeys(1);
+        release(1);
+        // 1건만 요청한 동안에는 동시 조회 수(2)만큼만 앞서 요청
+        assertThat(received).containsExactly("아파트0");
+        assertThat(pendingPages).containsOnlyKeys(1, 2, 3);
+
+        // 앞서 요청한 페이지가 도착해도 구독자가 요청하지 않은 거래는 내보내지 않고 다음 페이지도 요청하지 않음
+        release(2, 3);
+        assertThat(received).containsExactly("아파트0");
+        assertThat(pendingPages).containsOnlyKeys(1, 2, 3, 4);
+
+        subscriber.request(Long.MAX_VALUE);
+        for (int pageNo = 4; pageNo <= TOTAL_COUNT; pageNo++) {
+            release(pageNo);
+        }
+        assertThat(completed).isTrue();
+        assertThat(received)
+                .containsExactly("아파트0", "아파트1", "아파트2", "아파트3", "아파트4", "아파트5", "아파트6");
+        assertThat(subscribed.get()).isEqualTo(TOTAL_COUNT);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void streamFromRowSkipsEarlierPages() {
+        holdPages = true;
+        List<String> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        service.streamAllApartmentRentDataReactive("11680", "202401", 5)
+                .subscribe(record -> received.add(record.aptNm()), e -> { }, () -> completed.set(true));
+
+        // 6번째 거래(2건씩 3페이지)부터 시작하므로 1, 2페이지는 요청하지 않음
+        assertThat(pendingPages).containsOnlyKeys(3);
+        release(3);
+        assertThat(pendingPages).containsOnlyKeys(3, 4);
+        release(4);
+
+        assertThat(completed).isTrue();
+        assertThat(received).containsExactly("아파트5", "아파트6");
+        assertThat(subscribed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cachedVersionMatchesServedBodyWithoutLoading() {
+        Map<RentCacheKey, PublicDataApiResponse.Body<ApartmentRentRecord>> cached = new ConcurrentHashMap<>();
+        doAnswer(invocation -> ((Supplier<Mono<PublicDataApiResponse.Body<ApartmentRentRecord>>>) invocation.getArgument(1)).get()
+                .doOnNext(body -> cached.put(invocation.getArgument(0), body)))
+                .when(pageCache).getOrLoad(any(), any());
+        doAnswer(invocation -> Mono.justOrEmpty(cached.get(invocation.<RentCacheKey>getArgument(0))))
+                .when(pageCache).get(any());
+
+        assertThat(service.findCachedMonthVersion("11680", "202401").block()).isNull();
+        assertThat(subscribed.get()).isZero();
+
+        PublicDataApiResponse.Body<ApartmentRentRecord> all = service.getAllApartmentRentDataReactive("11680", "202401").block();
+        PublicDataApiResponse.Body<ApartmentRentRecord> page = service.getApartmentRentPageReactive("11680", "202401", 2, PAGE_SIZE).block();
+        int calls = subscribed.get();
+
+        assertThat(service.findCachedMonthVersion("11680", "202401").block())
+                .isEqualTo(ApartmentRentService.contentVersion(all));
+        assertThat(service.findCachedPageVersion("11680", "202401", 2, PAGE_SIZE).block())
+                .isEqualTo(ApartmentRentService.contentVersion(page))
+                .isNotEqualTo(ApartmentRentService.contentVersion(all));
+        assertThat(subscribed.get()).isEqualTo(calls);
+
+        // 페이지 하나라도 캐시에서 빠지면 월 버전을 알 수 없음
+        cached.remove(new RentCacheKey("11680", "202401", 3, PAGE_SIZE));
+        assertThat(service.findCachedMonthVersion("11680", "202401").block()).isNull();
+    }
+
+    @Test
+    void concurrentFirstLoadsOfStoredMonthMergeOnce() {
+        AtomicBoolean stored = new AtomicBoolean();
+        AtomicInteger merges = new AtomicInteger();
+        when(dealMonthPolicy.isFinalized("202312")).thenReturn(true);
+        when(transactionStore.findPage(eq("11680"), eq(202312), anyInt(), anyInt()))
+                .thenAnswer(invocation -> stored.get()
+                        ? Optional.of(new RentMonthPage(List.of(), TOTAL_COUNT)) : Optional.empty());
+        // 다른 인스턴스가 먼저 처음 적재해 적재 이력이 충돌한 경우
+        when(transactionStore.mergeMonth(eq("11680"), eq(202312), anyList(), eq(true))).thenAnswer(invocation -> {
+            if (merges.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("duplicate rent_month_snapshot");
+            }
+            stored.set(true);
+            return new RentMonthChange(0, 0, 0, TOTAL_COUNT);
+        });
+
+        Mono.zip(service.getApartmentRentPageReactive("11680", "202312", 1, PAGE_SIZE),
+                        service.getApartmentRentPageReactive("11680", "202312", 2, PAGE_SIZE))
+                .block(Duration.ofSeconds(5));
+
+        verify(transactionStore, times(2)).mergeMonth(eq("11680"), eq(202312), anyList(), eq(true));
+        assertThat(subscribed.get()).isEqualTo(4);
+    }
+
+    @Test
+    void refreshMergesOpenMonthAndEvictsCachedPagesOnlyWhenChanged() {
+        when(pageCache.evict(any())).thenReturn(Mono.empty());
+        when(transactionStore.mergeMonth(eq("11680"), eq(202401), anyList(), eq(false)))
+                .thenReturn(new RentMonthChange(0, 0, 0, TOTAL_COUNT), new RentMonthChange(1, 0, 0, TOTAL_COUNT - 1));
+
+        ApartmentRentService.MonthRefresh unchanged = service.refreshMonthReactive("11680", "202401").block();
+
+        assertThat(unchanged.body().getItems().getItem()).hasSize(TOTAL_COUNT);
+        assertThat(unchanged.change().changed()).isFalse();
+        verify(pageCache, never()).evict(any());
+
+        ApartmentRentService.MonthRefresh changed = service.refreshMonthReactive("11680", "202401").block();
+
+        assertThat(changed.change().inserted()).isEqualTo(1);
+        IntStream.rangeClosed(1, 4).forEach(page ->
+                verify(pageCache).evict(new RentCacheKey("11680", "202401", page, PAGE_SIZE)));
+        verify(pageCache, times(4)).evict(any());
+        // 캐시를 거치지 않고 공공데이터 포털에서 다시 받음
+        verify(pageCache, never()).getOrLoad(any(), any());
+        assertThat(subscribed.get()).isEqualTo(8);
+    }
+
+    @Test
+    void pageReportsUpstreamTotalCount() {
+        PublicDataApiResponse.Body<ApartmentRentRecord> body =
+                service.getApartmentRentPageReactive("11680", "202401", 2, PAGE_SIZE).block();
+
+        assertThat(body.getTotalCount()).isEqualTo(TOTAL_COUNT);
+        assertThat(body.getItems().getItem()).extracting(ApartmentRentRecord::aptNm)
+                .containsExactly("아파트2", "아파트3");
+    }
+
+    /**
+     * 업스트림 페이지 응답 (holdPages이면 release(pageNo)할 때 도착)
+     */
+    private Mono<PublicDataApiResponse<ApartmentRentRecord>> page(Map<String, String> params) {
+        int pageNo = Integer.parseInt(params.get("pageNo"));
+        int numOfRows = Integer.parseInt(params.get("numOfRows"));
+
+        List<ApartmentRentRecord> items = IntStream.range((pageNo - 1) * numOfRows, Math.min(pageNo * numOfRows, TOTAL_COUNT))
+                .mapToObj(i -> rent().aptNm("아파트" + i).build())
+                .toList();
+
+        PublicDataApiResponse.Body<ApartmentRentRecord> body =
+                new PublicDataApiResponse.Body<>(new PublicDataApiResponse.Items<>(items), numOfRows, pageNo, TOTAL_COUNT);
+        PublicDataApiResponse<ApartmentRentRecord> response = new PublicDataApiResponse<>(
+                new PublicDataApiResponse.Response<>(new PublicDataApiResponse.Header("00", "NORMAL SERVICE."), body));
+
+        Mono<PublicDataApiResponse<ApartmentRentRecord>> arrival = holdPages
+                ? pendingPages.computeIfAbsent(pageNo, k -> Sinks.empty()).asMono().thenReturn(response)
+                : Mono.just(response);
+        return arrival
+                .doOnSubscribe(s -> subscribed.incrementAndGet())
+                .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnNext(r -> inFlight.decrementAndGet());
+    }
+
+    /**
+     * 보류 중인 업스트림 페이지를 주어진 순서대로 도착시킴
+     */
+    private void release(int... pageNos) {
+        for (int pageNo : pageNos) {
+            assertThat(pendingPages).containsKey(pageNo);
+            assertThat(pendingPages.get(pageNo).tryEmitEmpty().isSuccess()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.quota.RequestPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightRequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer(meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneCall() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        coalescer.execute("k", () -> call(upstream)).subscribe(first::set);
+        coalescer.execute("k", () -> call(upstream)).subscribe(second::set);
+        upstream.tryEmitValue("result");
+
+        assertThat(calls).hasValue(1);
+        assertThat(first.get()).isEqualTo("result");
+        assertThat(second.get()).isEqualTo("result");
+        assertThat(meterRegistry.get("public.data.api.single-flight").tag("role", "coalesced").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("public.data.api.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void sharesErrorAndCallsAgainAfterCompletion() {
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicReference<Throwable> secondError = new AtomicReference<>();
+
+        coalescer.execute("k", () -> call(upstream)).subscribe(v -> { }, firstError::set);
+        coalescer.execute("k", () -> call(upstream)).subscribe(v -> { }, secondError::set);
+        upstream.tryEmitError(new IllegalStateException("boom"));
+
+        assertThat(firstError.get()).isSameAs(secondError.get()).hasMessage("boom");
+
+        assertThat(coalescer.execute("k", () -> Mono.fromSupplier(() -> "again-" + calls.incrementAndGet())).block())
+                .isEqualTo("again-2");
+    }
+
+    @Test
+    void callerAfterCompletionStartsNewCall() {
+        assertThat(coalescer.execute("k", () -> Mono.fromSupplier(calls::incrementAndGet)).block()).isEqualTo(1);
+        assertThat(coalescer.execute("k", () -> Mono.fromSupplier(calls::incrementAndGet)).block()).isEqualTo(2);
+    }
+
+    @Test
+    void differentPrioritiesDoNotShare() {
+        Sinks.One<String> background = Sinks.one();
+        Sinks.One<String> interactive = Sinks.one();
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        coalescer.execute("k", () -> call(background))
+                .contextWrite(RequestPriority.BACKGROUND.asContext())
+                .subscribe(first::set);
+        coalescer.execute("k", () -> call(interactive)).subscribe(second::set);
+        interactive.tryEmitValue("interactive");
+
+        assertThat(calls).hasValue(2);
+        assertThat(second.get()).isEqualTo("interactive");
+        assertThat(first.get()).isNull();
+        background.tryEmitValue("background");
+        assertThat(first.get()).isEqualTo("background");
+    }
+
+    @Test
+    void differentKeysDoNotShare() {
+        coalescer.execute("a", () -> Mono.fromSupplier(calls::incrementAndGet)).block();
+        coalescer.execute("b", () -> Mono.fromSupplier(calls::incrementAndGet)).block();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private Mono<String> call(Sinks.One<String> upstream) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.circuit.UpstreamCircuitBreaker;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.quota.QuotaGovernor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquireTimeoutException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublicDataApiClientTest {
+
+    private final QuotaGovernor quotaGovernor = mock(QuotaGovernor.class);
+    private final UpstreamCircuitBreaker circuitBreaker = mock(UpstreamCircuitBreaker.class);
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicReference<Predicate<Throwable>> isFailure = new AtomicReference<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(quotaGovernor.acquire(any())).thenReturn(Mono.empty());
+        when(circuitBreaker.protect(any(), any())).thenAnswer(invocation -> {
+            isFailure.set(invocation.getArgument(1));
+            return invocation.getArgument(0);
+        });
+    }
+
+    /**
+     * reactor-netty가 shaded 패키지로 포함한 reactor-pool 예외
+     * 클라이언트는 이 타입을 import하지 않고 단순 이름으로 판별하므로, reactor-netty를 올릴 때 이름이 그대로인지 여기서 확인
+     */
+    @Test
+    void poolExhaustionIsNotTransient() {
+        List<Throwable> exceptions = List.of(
+                new PoolAcquireTimeoutException(Duration.ofSeconds(45)),
+                new PoolAcquirePendingLimitException(500),
+                new IllegalStateException("wrapped", new PoolAcquirePendingLimitException(500)));
+
+        for (Throwable exception : exceptions) {
+            attempts.set(0);
+            PublicDataApiClient client = client(exception);
+
+            assertThatThrownBy(() -> client.callApi("/rent", new HashMap<>(), ApartmentRentRecord.class))
+                    .isInstanceOf(PublicDataApiException.class)
+                    .extracting("errorCode").isEqualTo("CONNECTION_POOL_EXHAUSTED");
+            // 재시도하지 않고 서킷 실패로도 세지 않음
+            assertThat(attempts.get()).isEqualTo(1);
+            assertThat(isFailure.get().test(exception)).isFalse();
+        }
+    }
+
+    @Test
+    void otherTimeoutsStayTransient() {
+        PublicDataApiClient client = client(new TimeoutException("read timed out"));
+
+        assertThatThrownBy(() -> client.callApi("/rent", new HashMap<>(), ApartmentRentRecord.class))
+                .isInstanceOf(PublicDataApiException.class)
+                .extracting("errorCode").isEqualTo("UNKNOWN_ERROR");
+        // 첫 시도 + 재시도 2회
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(isFailure.get().test(new TimeoutException())).isTrue();
+    }
+
+    private PublicDataApiClient client(Throwable error) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(error);
+                })
+                .build();
+        PublicDataApiClient client = new PublicDataApiClient(webClient,
+                new PublicDataResponseDecoder(new ObjectMapper(), new PublicDataXmlParser()),
+                new InFlightRequestCoalescer(new SimpleMeterRegistry()), quotaGovernor, circuitBreaker);
+        ReflectionTestUtils.setField(client, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", "http://localhost");
+        ReflectionTestUtils.setField(client, "timeout", 5);
+        ReflectionTestUtils.setField(client, "retryCount", 2);
+        ReflectionTestUtils.setField(client, "retryMinBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(client, "retryMaxBackoff", Duration.ofMillis(1));
+        return client;
+    }
+}
@@ -0,0 +1,116 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentItem;
+import com.datapublic.mcp.web.dto.ApartmentRentRecord;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicDataResponseDecoderTest {
+
+    private final PublicDataResponseDecoder decoder =
+            new PublicDataResponseDecoder(new ObjectMapper(), new PublicDataXmlParser());
+
+    @Test
+    void decodesItemArraySplitAcrossBuffers() {
+        String json = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+                 "body":{"items":{"item":[
+                   {"aptNm":"래미안","deposit":"12,000","dealYear":2024,"dealMonth":1},
+                   {"aptNm":"자이","monthlyRent":"50"}]},
+                 "numOfRows":10,"pageNo":1,"totalCount":"2"}}}
+                """;
+
+        PublicDataApiResponse<ApartmentRentItem> response = decode(json, 7);
+
+        assertThat(response.getResponse().getHeader().getResultCode()).isEqualTo("00");
+        assertThat(response.getResponse().getBody().getTotalCount()).isEqualTo(2);
+        List<ApartmentRentItem> items = response.getResponse().getBody().getItems().getItem();
+        assertThat(items).extracting(ApartmentRentItem::getAptNm).containsExactly("래미안", "자이");
+        assertThat(items.get(0).getContractYearMonth()).isEqualTo("202401");
+    }
+
+    @Test
+    void decodesRecordWithNumericFieldsParsedOnce() {
+        String json = """
+                {"response":{"header":{"resultCode":"000"},
+                 "body":{"items":{"item":[
+                   {"aptNm":"래미안","deposit":" 12,000","monthlyRent":"0","excluUseAr":"84.97",
+                    "dealYear":2024,"dealMonth":"1","dealDay":"15","floor":"-1","extra":{"nested":1}},
+                   {"aptNm":"자이"}]},
+                 "totalCount":2}}}
+                """;
+
+        List<ApartmentRentRecord> records = decoder.decode(toBuffers(json, 9), ApartmentRentRecord.class).block()
+                .getResponse().getBody().getItems().getItem();
+
+        assertThat(records).extracting(ApartmentRentRecord::aptNm).containsExactly("래미안", "자이");
+        ApartmentRentRecord first = records.get(0);
+        assertThat(first.deposit()).isEqualTo(12000L);
+        assertThat(first.monthlyRent()).isZero();
+        assertThat(first.exclusiveArea()).isEqualTo(84.97);
+        assertThat(first.dealDate()).isEqualTo(20240115);
+        assertThat(first.floor()).isEqualTo(-1);
+        assertThat(records.get(1).deposit()).isEqualTo(ApartmentRentRecord.NO_AMOUNT);
+
+        ApartmentRentItem item = ApartmentRentItem.from(first);
+        assertThat(item.getDeposit()).isEqualTo("12,000");
+        assertThat(item.getContractYearMonth()).isEqualTo("202401");
+        assertThat(item.getDealDay()).isEqualTo("15");
+        assertThat(ApartmentRentItem.from(records.get(1)).getDeposit()).isNull();
+    }
+
+    @Test
+    void decodesSingleItemObject() {
+        String json = """
+                {"response":{"header":{"resultCode":"00"},"body":{"items":{"item":{"aptNm":"자이"}},"totalCount":1}}}
+                """;
+
+        PublicDataApiResponse<ApartmentRentItem> response = decode(json, 3);
+
+        assertThat(response.getResponse().getBody().getItems().getItem())
+                .extracting(ApartmentRentItem::getAptNm).containsExactly("자이");
+    }
+
+    @Test
+    void delegatesXmlToXmlParser() {
+        String xml = "<response><body><items><item><aptNm>자이</aptNm></item></items></body></response>";
+
+        PublicDataApiResponse<ApartmentRentItem> response = decode(xml, 5);
+
+        assertThat(response.getResponse().getBody().getItems().getItem()).hasSize(1);
+    }
+
+    @Test
+    void rejectsJsonWithoutResponseNode() {
+        assertThatThrownBy(() -> decode("{\"other\":{}}", 4))
+                .isInstanceOf(PublicDataApiException.class)
+                .hasMessageContaining("INVALID_RESPONSE_FORMAT");
+    }
+
+    private PublicDataApiResponse<ApartmentRentItem> decode(String body, int chunkSize) {
+        return decoder.decode(toBuffers(body, chunkSize), ApartmentRentItem.class).block();
+    }
+
+    private Flux<DataBuffer> toBuffers(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, i, i + length)));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,84 @@
+package com.datapublic.mcp.web.service;
+
+import com.datapublic.mcp.web.dto.ApartmentRentItem;
+import com.datapublic.mcp.web.dto.PublicDataApiResponse;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicDataXmlParserTest {
+
+    private final PublicDataXmlParser parser = new PublicDataXmlParser();
+
+    @Test
+    void parsesItemsAndPageInfo() {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <response>
+                  <header><resultCode>000</resultCode><resultMsg>OK</resultMsg></header>
+                  <body>
+                    <items>
+                      <item>
+                        <aptNm> 래미안 </aptNm><buildYear>2005</buildYear><contractType>신규</contractType>
+                        <dealDay>5</dealDay><dealMonth>1</dealMonth><dealYear>2024</dealYear>
+                        <deposit>12,000</deposit><excluUseAr>84.97</excluUseAr><floor>7</floor>
+                        <jibun>123-4</jibun><monthlyRent>0</monthlyRent><preDeposit></preDeposit>
+                        <sggCd>11680</sggCd><umdNm>역삼동</umdNm>
+                      </item>
+                      <item><aptNm>자이</aptNm><monthlyRent>50</monthlyRent></item>
+                    </items>
+                    <numOfRows>10</numOfRows><pageNo>2</pageNo><totalCount>12</totalCount>
+                  </body>
+                </response>
+                """;
+
+        PublicDataApiResponse<ApartmentRentItem> response = parser.parse(xml, ApartmentRentItem.class);
+
+        assertThat(response.getResponse().getHeader().getResultCode()).isEqualTo("000");
+        assertThat(response.getResponse().getHeader().getResultMsg()).isEqualTo("OK");
+
+        PublicDataApiResponse.Body<ApartmentRentItem> body = response.getResponse().getBody();
+        assertThat(body.getTotalCount()).isEqualTo(12);
+        assertThat(body.getPageNo()).isEqualTo(2);
+        assertThat(body.getNumOfRows()).isEqualTo(10);
+
+        List<ApartmentRentItem> items = body.getItems().getItem();
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getAptNm()).isEqualTo("래미안");
+        assertThat(items.get(0).getDeposit()).isEqualTo("12,000");
+        assertThat(items.get(0).getPreDeposit()).isEmpty();
+        assertThat(items.get(0).getPreMonthlyRent()).isNull();
+        assertThat(items.get(0).getContractYearMonth()).isEqualTo("202401");
+        assertThat(items.get(1).getMonthlyRent()).isEqualTo("50");
+    }
+
+    @Test
+    void mapsServiceErrorHeader() {
+        String xml = """
+                <OpenAPI_ServiceResponse>
+                  <cmmMsgHeader>
+                    <errMsg>SERVICE ERROR</errMsg>
+                    <returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>
+                    <returnReasonCode>30</returnReasonCode>
+                  </cmmMsgHeader>
+                </OpenAPI_ServiceResponse>
+                """;
+
+        PublicDataApiResponse<ApartmentRentItem> response = parser.parse(xml, ApartmentRentItem.class);
+
+        assertThat(response.getResponse().getHeader().getResultCode()).isEqualTo("ERROR");
+        assertThat(response.getResponse().getHeader().getResultMsg()).isEqualTo("SERVICE ERROR");
+        assertThat(response.getResponse().getBody().getItems().getItem()).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedXml() {
+        assertThatThrownBy(() -> parser.parse("<response><body><items><item>", ApartmentRentItem.class))
+                .isInstanceOf(PublicDataApiException.class)
+                .hasMessageContaining("XML_PARSE_ERROR");
+    }
+}
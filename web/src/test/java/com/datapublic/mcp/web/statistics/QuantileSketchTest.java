@@ -0,0 +1,60 @@
+package com.datapublic.mcp.web.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    @Test
+    void estimatesQuantilesWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + random.nextInt(200_000);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.1, 0.5, 0.9}) {
+            long exact = values[(int) Math.floor(q * (values.length - 1))];
+            assertThat(sketch.quantile(q)).isCloseTo(exact, within(exact * 0.011));
+        }
+        assertThat(sketch.mean()).isCloseTo(Arrays.stream(values).average().orElseThrow(), within(1e-6));
+    }
+
+    @Test
+    void mergedSketchMatchesSingleSketch() {
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) {
+            // 두 파티션의 값 범위가 겹치지 않아도 병합되어야 함
+            long low = i % 7 == 0 ? 0 : i;
+            long high = 1_000_000 + i * 10L;
+            all.add(low);
+            all.add(high);
+            first.add(low);
+            second.add(high);
+        }
+
+        first.merge(second);
+
+        assertThat(first.count()).isEqualTo(all.count());
+        assertThat(first.min()).isZero();
+        assertThat(first.max()).isEqualTo(all.max());
+        for (double q : new double[]{0.05, 0.1, 0.5, 0.9, 0.99}) {
+            assertThat(first.quantile(q)).isEqualTo(all.quantile(q));
+        }
+    }
+
+    @Test
+    void emptySketchHasNoQuantile() {
+        assertThat(new QuantileSketch().quantile(0.5)).isNaN();
+    }
+}
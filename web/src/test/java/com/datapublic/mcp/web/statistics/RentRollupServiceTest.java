@@ -0,0 +1,58 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.RentRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RentRollupServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, meterRegistry);
+    private final RentRollupService rollupService = new RentRollupService(store, meterRegistry);
+
+    @Test
+    void aggregatesByContractTypeAndAreaBand() {
+        RentColumnSegment segment = store.put("11680", 202401, List.of(
+                rent().contractType("신규").area(84.9).amount(30_000, 0).build(),
+                rent().contractType("신규").area(84.9).amount(50_000, 0).build(),
+                rent().contractType("신규").area(84.9).amount(5_000, 150).build(),
+                rent().contractType("갱신").area(59.0).amount(20_000, 0).build()));
+
+        assertThat(rollupService.refresh(segment)).isTrue();
+        assertThat(rollupService.refresh(segment)).isFalse();
+
+        List<RentRollup> rollups = rollupService.getRollups("11680", 202401).orElseThrow();
+        assertThat(rollups).hasSize(2);
+
+        RentRollup newMidSize = rollups.stream()
+                .filter(rollup -> "신규".equals(rollup.getContractType()))
+                .findFirst().orElseThrow();
+        assertThat(newMidSize.getDistrictName()).isEqualTo("강남구");
+        assertThat(newMidSize.getAreaBand()).isEqualTo("60~85㎡");
+        assertThat(newMidSize.getCount()).isEqualTo(3);
+        assertThat(newMidSize.getJeonseCount()).isEqualTo(2);
+        assertThat(newMidSize.getJeonseDepositAvg()).isEqualTo(40_000.0);
+        assertThat(newMidSize.getMonthlyCount()).isEqualTo(1);
+        assertThat(newMidSize.getMonthlyRentAvg()).isEqualTo(150.0);
+    }
+
+    @Test
+    void recomputesWhenSegmentIsReplaced() {
+        rollupService.refresh(store.put("11680", 202401,
+                List.of(rent().contractType("신규").area(84.9).amount(30_000, 0).build())));
+        store.put("11680", 202401, List.of(rent().contractType("신규").area(84.9).amount(30_000, 0).build(),
+                rent().contractType("신규").area(84.9).amount(10_000, 0).build()));
+
+        assertThat(rollupService.getRollups("11680", 202401).orElseThrow())
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getJeonseDepositAvg()).isEqualTo(20_000.0));
+        assertThat(rollupService.getRollups("11650", 202401)).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.datapublic.mcp.web.statistics;
+
+import com.datapublic.mcp.web.columnar.RentColumnLoader;
+import com.datapublic.mcp.web.columnar.RentColumnSegment;
+import com.datapublic.mcp.web.columnar.RentColumnStore;
+import com.datapublic.mcp.web.dto.RentStatisticsResult;
+import com.datapublic.mcp.web.exception.PublicDataApiException;
+import com.datapublic.mcp.web.service.ApartmentRentBulkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.datapublic.mcp.web.dto.ApartmentRentRecordFixture.rent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RentStatisticsServiceTest {
+
+    private final ApartmentRentBulkService bulkService = mock(ApartmentRentBulkService.class);
+    private final RentColumnLoader columnLoader = mock(RentColumnLoader.class);
+    private final RentColumnStore store = new RentColumnStore(1_000, 1_000_000, new SimpleMeterRegistry());
+    private final RentStatisticsService statisticsService = new RentStatisticsService(bulkService, columnLoader);
+
+    @Test
+    void mergesSegmentSketchesPerGroup() {
+        RentColumnSegment january = store.put("11680", 202401, List.of(
+                rent().umdNm("역삼동").amount(10_000, 0).area(59.9).build(),
+                rent().umdNm("역삼동").amount(20_000, 0).area(84.9).build(),
+                rent().umdNm("대치동").amount(5_000, 100).area(84.9).build()));
+        RentColumnSegment february = store.put("11680", 202402, List.of(
+                rent().umdNm("역삼동").amount(30_000, 0).area(84.9).build()));
+        when(bulkService.resolveDistrictCodes(anyList())).thenReturn(List.of("11680"));
+        when(bulkService.resolveMonths("202401", "202403")).thenReturn(List.of("202401", "202402", "202403"));
+        when(columnLoader.loadAll(List.of("11680"), List.of("202401", "202402", "202403"))).thenReturn(Flux.just(
+                new RentColumnLoader.SegmentLoad("11680", "202401", january, null),
+                new RentColumnLoader.SegmentLoad("11680", "202402", february, null),
+                new RentColumnLoader.SegmentLoad("11680", "202403", null,
+                        new PublicDataApiException("HTTP_ERROR", "upstream down"))));
+
+        RentStatisticsResult result = statisticsService
+                .getStatisticsReactive(List.of("강남구"), "202401", "202403", List.of("dong", "areaBand"), "jeonse")
+                .block();
+
+        assertThat(result.getRowCount()).isEqualTo(3);
+        assertThat(result.getSegmentCount()).isEqualTo(2);
+        assertThat(result.getFailures()).singleElement()
+                .satisfies(failure -> assertThat(failure.getDealYearMonth()).isEqualTo("202403"));
+        assertThat(result.getGroups()).extracting(RentStatisticsResult.Group::getKey).containsExactly(
+                Map.of("dong", "역삼동", "areaBand", "40~60㎡"),
+                Map.of("dong", "역삼동", "areaBand", "60~85㎡"));
+
+        RentStatisticsResult.Group midSize = result.getGroups().get(1);
+        assertThat(midSize.getCount()).isEqualTo(2);
+        assertThat(midSize.getDeposit().getMean()).isEqualTo(25_000.0);
+        assertThat(midSize.getDeposit().getMin()).isEqualTo(20_000L);
+        assertThat(midSize.getDeposit().getMax()).isEqualTo(30_000L);
+        assertThat(midSize.getMonthlyRent().getP50()).isZero();
+    }
+}